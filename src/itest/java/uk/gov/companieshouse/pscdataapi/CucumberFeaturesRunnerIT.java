@@ -39,6 +39,9 @@ public class CucumberFeaturesRunnerIT {
     @DynamicPropertySource
     public static void setProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("psc.outbox.relay.enabled", () -> "false");
+        registry.add("psc.mongo.indexes.create", () -> "true");
+        registry.add("psc.mongo.indexes.fail-on-missing", () -> "true");
         mongoDBContainer.start();
     }
 
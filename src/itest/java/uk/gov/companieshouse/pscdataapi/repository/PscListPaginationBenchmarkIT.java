@@ -0,0 +1,189 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+
+/**
+ * Compares start_index paging with continuation token paging for a company with many PSCs, reporting the latency and
+ * documents examined for a page at increasing depths. The start_index query is the find equivalent of the
+ * getPscDocumentList pipeline, which MongoDB runs as a single find stage. Run with
+ * {@code mvn verify -Dbenchmarks=true -Dit.test=PscListPaginationBenchmarkIT}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class PscListPaginationBenchmarkIT {
+
+    private static final String COMPANY_NUMBER = "OE000001";
+    private static final int PSCS = 20_000;
+    private static final int ITEMS_PER_PAGE = 25;
+    private static final int[] DEPTHS = {0, 1_000, 5_000, 10_000, 15_000, PSCS - ITEMS_PER_PAGE};
+    private static final int WARMUP_RUNS = 5;
+    private static final int RUNS = 20;
+    private static final LocalDate FIRST_NOTIFIED_ON = LocalDate.of(2016, 4, 6);
+    private static final Instant FIRST_CREATED_AT = Instant.parse("2016-04-06T09:00:00Z");
+
+    private static final MongoDBContainer mongoDBContainer = new MongoDBContainer(
+            DockerImageName.parse("mongo:6.0.19"));
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static MongoCollection<Document> collection;
+    private static QueryMapper queryMapper;
+    private static MongoPersistentEntity<?> entity;
+
+    @BeforeAll
+    static void setUp() {
+        mongoDBContainer.start();
+        mongoClient = MongoClients.create(mongoDBContainer.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "company_pscs");
+        collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PscDocument.class));
+        queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(PscDocument.class);
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(PscDocument.class);
+        IndexResolver.create(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(PscDocument.class)
+                .forEach(indexOperations::createIndex);
+
+        List<Document> batch = new ArrayList<>();
+        for (int i = 0; i < PSCS; i++) {
+            batch.add(pscDocument(i));
+            if (batch.size() == 1_000) {
+                collection.insertMany(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+        mongoDBContainer.stop();
+    }
+
+    @Test
+    void continuationTokenPagesCostTheSameAtAnyDepth() {
+        List<Long> keysetDocsExamined = new ArrayList<>();
+        System.out.printf("%8s %14s %14s %16s %16s%n", "depth", "skip ms", "skip examined", "keyset ms",
+                "keyset examined");
+        for (int depth : DEPTHS) {
+            Query skipQuery = new Query(where("company_number").is(COMPANY_NUMBER))
+                    .with(CompanyPscRepositoryCustomImpl.LIST_SORT)
+                    .skip(depth)
+                    .limit(ITEMS_PER_PAGE);
+            Query keysetQuery = CompanyPscRepositoryCustomImpl.listQuery(where("company_number").is(COMPANY_NUMBER),
+                    cursorBefore(depth), ITEMS_PER_PAGE + 1);
+
+            assertThat(ids(find(keysetQuery)).subList(0, ITEMS_PER_PAGE)).isEqualTo(ids(find(skipQuery)));
+
+            double skipMillis = meanMillis(skipQuery);
+            double keysetMillis = meanMillis(keysetQuery);
+            long skipExamined = docsExamined(skipQuery);
+            long keysetExamined = docsExamined(keysetQuery);
+            keysetDocsExamined.add(keysetExamined);
+            System.out.printf("%8d %14.3f %14d %16.3f %16d%n", depth, skipMillis, skipExamined, keysetMillis,
+                    keysetExamined);
+        }
+
+        assertThat(keysetDocsExamined).allSatisfy(examined ->
+                assertThat(examined).isLessThanOrEqualTo(4L * (ITEMS_PER_PAGE + 1)));
+    }
+
+    private static Document pscDocument(int i) {
+        LocalDate notifiedOn = FIRST_NOTIFIED_ON.plusDays(i / 10);
+        Document data = new Document("notified_on", toDate(notifiedOn));
+        if (i % 3 == 0) {
+            data.append("ceased_on", toDate(notifiedOn.plusDays(100)));
+        }
+        return new Document("_id", "%08d".formatted(i))
+                .append("company_number", COMPANY_NUMBER)
+                .append("data", data)
+                .append("created", new Document("at", Date.from(FIRST_CREATED_AT.plusSeconds(i))));
+    }
+
+    /*
+    Builds the cursor a client would hold after reading the page ending just before the given depth, converting
+    stored values back the way the mapping converter does when reading a PscDocument.
+     */
+    private static PscListCursor cursorBefore(int depth) {
+        if (depth == 0) {
+            return null;
+        }
+        Query previous = new Query(where("company_number").is(COMPANY_NUMBER))
+                .with(CompanyPscRepositoryCustomImpl.LIST_SORT)
+                .skip(depth - 1L)
+                .limit(1);
+        Document last = find(previous).first();
+        Document data = last.get("data", Document.class);
+        return new PscListCursor(
+                toLocalDate(data.getDate("notified_on")),
+                toLocalDate(data.getDate("ceased_on")),
+                LocalDateTime.ofInstant(last.get("created", Document.class).getDate("at").toInstant(),
+                        ZoneId.systemDefault()),
+                last.getString("_id"));
+    }
+
+    private static FindIterable<Document> find(Query query) {
+        return collection.find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .skip((int) query.getSkip())
+                .limit(query.getLimit());
+    }
+
+    private static double meanMillis(Query query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            find(query).into(new ArrayList<>());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            find(query).into(new ArrayList<>());
+        }
+        return (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / RUNS / 1_000;
+    }
+
+    private static long docsExamined(Query query) {
+        Document explain = find(query).explain(ExplainVerbosity.EXECUTION_STATS);
+        return explain.get("executionStats", Document.class).get("totalDocsExamined", Number.class).longValue();
+    }
+
+    private static List<String> ids(FindIterable<Document> documents) {
+        return documents.map(document -> document.getString("_id")).into(new ArrayList<>());
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : LocalDate.ofInstant(date.toInstant(), ZoneOffset.UTC);
+    }
+}
@@ -33,6 +33,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -63,6 +64,8 @@ import uk.gov.companieshouse.pscdataapi.models.PscData;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
 import uk.gov.companieshouse.pscdataapi.models.PscIdentification;
 import uk.gov.companieshouse.pscdataapi.models.PscSensitiveData;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedEvent;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedRelay;
 import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
 import uk.gov.companieshouse.pscdataapi.service.CompanyMetricsApiService;
 import uk.gov.companieshouse.pscdataapi.service.CompanyPscService;
@@ -88,6 +91,8 @@ public class PscDataSteps {
     @Autowired
     private ChsKafkaApiService chsKafkaApiService;
     @Autowired
+    private ResourceChangedRelay resourceChangedRelay;
+    @Autowired
     private CompanyPscTransformer transformer;
     @Autowired
     private CompanyMetricsApiService companyMetricsApiService;
@@ -103,6 +108,7 @@ public class PscDataSteps {
             mongoDBContainer.start();
         }
         companyPscRepository.deleteAll();
+        mongoTemplate.remove(new Query(), ResourceChangedEvent.class);
         autoCloseable = MockitoAnnotations.openMocks(this);
     }
 
@@ -140,24 +146,40 @@ public class PscDataSteps {
 
     @Then("the CHS Kafka API is not invoked")
     public void chs_kafka_api_not_invoked() {
+        relayNothingPending();
         verify(chsKafkaApiService, times(0)).invokeChsKafkaApi(any(), any(), any());
     }
 
     @Then("the CHS Kafka API is not invoked with a DELETE event")
     public void chs_kafka_api_not_invoked_for_delete() {
+        relayNothingPending();
         verify(chsKafkaApiService, times(0)).invokeChsKafkaApiWithDeleteEvent(any(), any());
     }
 
     @Then("the CHS Kafka API is invoked with a DELETE event")
     public void chs_kafka_api_is_invoked_for_delete() {
+        resourceChangedRelay.relayPendingEvents();
         verify(chsKafkaApiService, times(1)).invokeChsKafkaApiWithDeleteEvent(any(), any());
     }
 
     @And("the CHS Kafka API service is not invoked")
     public void verifyChsKafkaApiNotInvoked() {
+        relayNothingPending();
         verifyNoInteractions(chsKafkaApiService);
     }
 
+    /*
+    The relay is disabled in these tests, so the CHS Kafka API is only ever invoked when events are relayed
+    explicitly. Check that no event was written to the outbox and relay anyway, so the verification that follows
+    cannot pass just because nothing was relayed. With the database down nothing can have been written.
+     */
+    private void relayNothingPending() {
+        if (mongoDBContainer.isRunning()) {
+            assertThat(mongoTemplate.count(new Query(), ResourceChangedEvent.class)).isZero();
+            assertThat(resourceChangedRelay.relayPendingEvents()).isZero();
+        }
+    }
+
     @When("I send a PUT request with payload {string} file for company number {string} with notification id  {string}")
     public void i_send_psc_record_put_request_with_payload(String dataFile, String companyNumber, String notificationId) {
         String data = FileReaderUtil.readFile("src/itest/resources/json/input/" + dataFile + ".json");
@@ -308,6 +330,14 @@ public class PscDataSteps {
         doThrow(ServiceUnavailableException.class).when(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(any(), any());
     }
 
+    @And("the resource changed event is kept for retry")
+    public void theResourceChangedEventIsKeptForRetry() {
+        assertThat(resourceChangedRelay.relayPendingEvents()).isZero();
+        List<ResourceChangedEvent> pending = mongoTemplate.findAll(ResourceChangedEvent.class);
+        assertThat(pending).hasSize(1);
+        assertThat(pending.getFirst().getAttempts()).isEqualTo(1);
+    }
+
     @And("a PSC {string} exists for {string} for Super Secure")
     public void aPSCExistsForForSuperSecure(String dataFile, String companyNumber) throws JsonProcessingException {
         String pscDataFile = FileReaderUtil.readFile("src/itest/resources/json/input/" + dataFile + ".json");
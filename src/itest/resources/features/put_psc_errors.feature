@@ -21,11 +21,12 @@ Feature: Error and Retry Psc Data Requests
       | data                 | companyNumber | notificationId              |
       | put_psc_invalid_data | 34777772      | ZfTs9WeeqpXTqf6dc6FZ4C0H0ZZ |
 
-  Scenario Outline: Put psc statement when stubbed chs kafka api will return 503
+  Scenario Outline: Put psc statement is accepted and its event kept for retry when chs kafka api returns 503
     Given Psc data api service is running
     And the chs kafka api is not available
     When I send a PUT request with payload "<data>" file for company number "<companyNumber>" with notification id  "<notificationId>"
-    Then I should receive 503 status code
+    Then I should receive 200 status code
+    And the resource changed event is kept for retry
 
     Examples:
       | data         | companyNumber | notificationId              |
@@ -0,0 +1,31 @@
+package uk.gov.companieshouse.pscdataapi.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.companieshouse.api.chskafka.ChangedResource;
+import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
+import uk.gov.companieshouse.pscdataapi.util.PscFixtures;
+
+/**
+ * Measures building the resource-changed payload for a deleted PSC, which transforms the document to its API model
+ * and converts that to the generic deleted_data object, without calling the CHS Kafka API.
+ */
+@State(Scope.Benchmark)
+public class ChsKafkaApiServiceBenchmark {
+
+    private ChsKafkaApiService chsKafkaApiService;
+
+    @Setup
+    public void setUp() {
+        chsKafkaApiService = new ChsKafkaApiService(new CompanyPscTransformer(), null, PscFixtures.objectMapper(),
+                null);
+    }
+
+    @Benchmark
+    public ChangedResource deleteEventPayload(PscFixtures fixtures) {
+        return chsKafkaApiService.mapChangedResource(PscFixtures.COMPANY_NUMBER, PscFixtures.NOTIFICATION_ID,
+                fixtures.kind, true, fixtures.document);
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.companieshouse.pscdataapi.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.BasicDBObject;
+import java.io.IOException;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscSensitiveData;
+import uk.gov.companieshouse.pscdataapi.util.PscFixtures;
+
+/**
+ * Compares the Mongo converters with the JSON string round trip they replaced, which wrote the model out with
+ * writeValueAsString and parsed it with BasicDBObject.parse, and read documents back through toJson and readValue.
+ */
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = ApplicationConfig.mongoDbObjectMapper();
+
+    private final CompanyPscWriteConverter writeConverter = new CompanyPscWriteConverter(OBJECT_MAPPER);
+    private final CompanyPscReadConverter readConverter = new CompanyPscReadConverter(OBJECT_MAPPER, PscData.class);
+    private final CompanyPscSensitiveWriteConverter sensitiveWriteConverter =
+            new CompanyPscSensitiveWriteConverter(OBJECT_MAPPER);
+    private final CompanyPscSensitiveReadConverter sensitiveReadConverter =
+            new CompanyPscSensitiveReadConverter(OBJECT_MAPPER, PscSensitiveData.class);
+
+    @Benchmark
+    public BasicDBObject writeData(StoredData state) {
+        return writeConverter.convert(state.data);
+    }
+
+    @Benchmark
+    public BasicDBObject writeDataJsonRoundTrip(StoredData state) throws IOException {
+        return BasicDBObject.parse(OBJECT_MAPPER.writeValueAsString(state.data));
+    }
+
+    @Benchmark
+    public PscData readData(StoredData state) {
+        return readConverter.convert(state.document);
+    }
+
+    @Benchmark
+    public PscData readDataJsonRoundTrip(StoredData state) throws IOException {
+        return OBJECT_MAPPER.readValue(state.document.toJson(), PscData.class);
+    }
+
+    @Benchmark
+    public BasicDBObject writeSensitiveData(StoredSensitiveData state) {
+        return sensitiveWriteConverter.convert(state.sensitiveData);
+    }
+
+    @Benchmark
+    public BasicDBObject writeSensitiveDataJsonRoundTrip(StoredSensitiveData state) throws IOException {
+        return BasicDBObject.parse(OBJECT_MAPPER.writeValueAsString(state.sensitiveData));
+    }
+
+    @Benchmark
+    public PscSensitiveData readSensitiveData(StoredSensitiveData state) {
+        return sensitiveReadConverter.convert(state.document);
+    }
+
+    @Benchmark
+    public PscSensitiveData readSensitiveDataJsonRoundTrip(StoredSensitiveData state) throws IOException {
+        return OBJECT_MAPPER.readValue(state.document.toJson(), PscSensitiveData.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class StoredData {
+
+        PscData data;
+        Document document;
+
+        @Setup
+        public void setUp(PscFixtures fixtures) {
+            data = fixtures.document.getData();
+            document = new Document(new CompanyPscWriteConverter(OBJECT_MAPPER).convert(data));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StoredSensitiveData {
+
+        PscSensitiveData sensitiveData;
+        Document document;
+
+        @Setup
+        public void setUp() throws IOException {
+            sensitiveData = PscFixtures.document("individual-person-with-significant-control").getSensitiveData();
+            document = new Document(new CompanyPscSensitiveWriteConverter(OBJECT_MAPPER).convert(sensitiveData));
+        }
+    }
+}
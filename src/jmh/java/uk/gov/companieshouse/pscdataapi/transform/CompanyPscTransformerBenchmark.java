@@ -0,0 +1,32 @@
+package uk.gov.companieshouse.pscdataapi.transform;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.companieshouse.api.psc.ListSummary;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.util.PscFixtures;
+
+@State(Scope.Benchmark)
+public class CompanyPscTransformerBenchmark {
+
+    private CompanyPscTransformer transformer;
+
+    @Setup
+    public void setUp() {
+        transformer = new CompanyPscTransformer();
+        ReflectionTestUtils.setField(transformer, "isPscLinksEnabled", true);
+    }
+
+    @Benchmark
+    public ListSummary transformPscDocToListSummary(PscFixtures fixtures) {
+        return transformer.transformPscDocToListSummary(fixtures.document);
+    }
+
+    @Benchmark
+    public PscDocument transformPscOnInsert(PscFixtures fixtures) {
+        return transformer.transformPscOnInsert(PscFixtures.NOTIFICATION_ID, fixtures.request);
+    }
+}
@@ -0,0 +1,145 @@
+package uk.gov.companieshouse.pscdataapi.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.companieshouse.api.psc.Data;
+import uk.gov.companieshouse.api.psc.ExternalData;
+import uk.gov.companieshouse.api.psc.FullRecordCompanyPSCApi;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
+import uk.gov.companieshouse.pscdataapi.data.IndividualPscRoles;
+import uk.gov.companieshouse.pscdataapi.data.SecurePscRoles;
+import uk.gov.companieshouse.pscdataapi.models.Created;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscIdentification;
+import uk.gov.companieshouse.pscdataapi.models.PscSensitiveData;
+
+/**
+ * Benchmark fixtures for each PSC kind. The request is the full record payload from psc_payload.json and the
+ * document is the PSC as stored, built from data.json and, for individuals, sensitive_data.json. Fields that the
+ * kind does not carry are removed and those it does are filled in, so each kind is the shape the service sees.
+ */
+@State(Scope.Benchmark)
+public class PscFixtures {
+
+    public static final String COMPANY_NUMBER = "34777770";
+    public static final String NOTIFICATION_ID = "ZfTs9WeeqpXTqf6dc6FZ4C0H0RQ";
+    public static final String PSC_ID = "YfTs9WeeqpXTqf6dc6FZ4C0H0RQ";
+
+    @Param({"individual-person-with-significant-control",
+            "individual-beneficial-owner",
+            "corporate-entity-person-with-significant-control",
+            "corporate-entity-beneficial-owner",
+            "legal-person-person-with-significant-control",
+            "legal-person-beneficial-owner",
+            "super-secure-person-with-significant-control",
+            "super-secure-beneficial-owner"})
+    public String kind;
+
+    public FullRecordCompanyPSCApi request;
+    public PscDocument document;
+
+    @Setup
+    public void setUp() throws IOException {
+        request = request(kind);
+        document = document(kind);
+    }
+
+    public static ObjectMapper objectMapper() {
+        return new ApplicationConfig(null, null, null, null, null, null).objectMapper();
+    }
+
+    public static FullRecordCompanyPSCApi request(String kind) throws IOException {
+        FullRecordCompanyPSCApi request = objectMapper().readValue(resource("/psc_payload.json"),
+                FullRecordCompanyPSCApi.class);
+        ExternalData externalData = request.getExternalData();
+        Data data = externalData.getData();
+        data.setKind(kind);
+        if (!IndividualPscRoles.includes(kind)) {
+            externalData.setSensitiveData(null);
+            data.setNameElements(null);
+            data.setNationality(null);
+            data.setCountryOfResidence(null);
+            data.setIdentityVerificationDetails(null);
+            data.setName("PSC HOLDINGS LIMITED");
+        }
+        if (SecurePscRoles.includes(kind)) {
+            data.setServiceAddress(null);
+            data.setIdentification(null);
+            data.setName(null);
+            data.setDescription("super-secure-persons-with-significant-control");
+        } else if (isBeneficialOwner(kind)) {
+            data.setIsSanctioned(true);
+            data.setPrincipalOfficeAddress(IndividualPscRoles.includes(kind) ? null : data.getServiceAddress());
+        }
+        return request;
+    }
+
+    public static PscDocument document(String kind) throws IOException {
+        ObjectMapper objectMapper = ApplicationConfig.mongoDbObjectMapper();
+        PscData data = objectMapper.readValue(resource("/data.json"), PscData.class);
+        data.setKind(kind);
+        data.setEtag("f2c7ee3fdc1e1d1eb0ab4e1d0c3b7b8c0a7e5d3e");
+        data.setNotifiedOn(LocalDate.of(2016, 4, 6));
+
+        PscDocument document = new PscDocument();
+        if (IndividualPscRoles.includes(kind)) {
+            document.setSensitiveData(objectMapper.readValue(resource("/sensitive_data.json"),
+                    PscSensitiveData.class));
+        } else {
+            data.setNameElements(null);
+            data.setNationality(null);
+            data.setCountryOfResidence(null);
+            data.setName("PSC HOLDINGS LIMITED");
+        }
+        if (SecurePscRoles.includes(kind)) {
+            data.setAddress(null);
+            data.setName(null);
+            data.setDescription("super-secure-persons-with-significant-control");
+            data.setCeased(false);
+        } else if (!IndividualPscRoles.includes(kind)) {
+            data.setIdentification(identification());
+            if (isBeneficialOwner(kind)) {
+                data.setPrincipalOfficeAddress(data.getAddress());
+            }
+        }
+        if (isBeneficialOwner(kind)) {
+            data.setSanctioned(true);
+        }
+
+        document.setId(NOTIFICATION_ID);
+        document.setNotificationId(NOTIFICATION_ID);
+        document.setPscId(PSC_ID);
+        document.setCompanyNumber(COMPANY_NUMBER);
+        document.setDeltaAt("20231102084745378000");
+        document.setCreated(new Created().setAt(LocalDateTime.of(2021, 11, 2, 8, 47, 45)));
+        document.setData(data);
+        return document;
+    }
+
+    public static String resource(String name) throws IOException {
+        return IOUtils.resourceToString(name, StandardCharsets.UTF_8);
+    }
+
+    private static PscIdentification identification() {
+        PscIdentification identification = new PscIdentification();
+        identification.setLegalForm("Form");
+        identification.setLegalAuthority("Authority");
+        identification.setCountryRegistered("Wales");
+        identification.setPlaceRegistered("Cardiff");
+        identification.setRegistrationNumber("16102009");
+        return identification;
+    }
+
+    private static boolean isBeneficialOwner(String kind) {
+        return kind.endsWith("beneficial-owner");
+    }
+}
@@ -1,15 +1,43 @@
 package uk.gov.companieshouse.pscdataapi;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.convert.DurationStyle;
 
-@SpringBootApplication
+// Redis is only connected to for the shared response cache, see SharedPscResponseCacheConfig
+@SpringBootApplication(exclude = {RedisAutoConfiguration.class, RedisReactiveAutoConfiguration.class,
+        RedisRepositoriesAutoConfiguration.class})
 public class PscDataApiApplication {
 
     public static final String APPLICATION_NAME_SPACE = "psc-data-api";
 
     public static void main(String[] args) {
+        configureHttpKeepAlive(System.getenv());
         SpringApplication.run(PscDataApiApplication.class, args);
     }
 
-}
\ No newline at end of file
+    /*
+    The API SDK clients send requests through HttpURLConnection, which keeps idle connections in a JVM-wide keep-alive
+    pool per host. The JDK default of five idle connections per host with a five-second idle timeout is too small for
+    our concurrency, so calls open fresh TCP/TLS connections under load. These settings size the pool and its idle
+    eviction, alike for every host, as the SDK gives no way to configure a pool per downstream or to report how many
+    of its connections are in use. They are read when HttpURLConnection is first used, so they are set before the
+    application starts; any already given as -D options are left as they are.
+     */
+    static void configureHttpKeepAlive(Map<String, String> env) {
+        setIfAbsent("http.keepAlive", "true");
+        setIfAbsent("http.maxConnections", env.getOrDefault("HTTP_CLIENT_MAX_IDLE_CONNECTIONS_PER_HOST", "50"));
+        setIfAbsent("http.keepAlive.time.server", String.valueOf(DurationStyle.detectAndParse(
+                env.getOrDefault("HTTP_CLIENT_IDLE_TIMEOUT", "30s")).toSeconds()));
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -2,16 +2,23 @@ package uk.gov.companieshouse.pscdataapi.api;
 
 import java.time.Instant;
 import static java.time.ZoneOffset.UTC;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.COMPANY_NUMBER;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.KIND;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.NOTIFICATION_ID;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.chskafka.ChangedResource;
 import uk.gov.companieshouse.api.chskafka.ChangedResourceEvent;
@@ -24,8 +31,10 @@ import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION
 import uk.gov.companieshouse.pscdataapi.exceptions.SerDesException;
 import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
 import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
 import uk.gov.companieshouse.pscdataapi.util.PscTransformationHelper;
 
@@ -44,20 +53,27 @@ public class ChsKafkaApiService {
     public static final String CORPORATE_ENTITY_BENEFICIAL_OWNER = "corporate-entity-beneficial-owner";
     public static final String LEGAL_PERSON_BENEFICIAL_OWNER = "legal-person-beneficial-owner";
     public static final String SUPER_SECURE_BENEFICIAL_OWNER = "super-secure-beneficial-owner";
+    private static final TypeReference<Map<String, Object>> DELETED_DATA = new TypeReference<>() {
+    };
 
     private final CompanyPscTransformer companyPscTransformer;
     private final Supplier<InternalApiClient> kafkaApiClientSupplier;
     private final ObjectMapper objectMapper;
+    private final DownstreamCallMetrics downstreamCallMetrics;
 
     public ChsKafkaApiService(CompanyPscTransformer companyPscTransformer,
-            @Qualifier("kafkaApiClientSupplier") Supplier<InternalApiClient> kafkaApiClientSupplier, ObjectMapper objectMapper) {
+            @Qualifier("kafkaApiClientSupplier") Supplier<InternalApiClient> kafkaApiClientSupplier, ObjectMapper objectMapper,
+            DownstreamCallMetrics downstreamCallMetrics) {
         this.companyPscTransformer = companyPscTransformer;
         this.kafkaApiClientSupplier = kafkaApiClientSupplier;
         this.objectMapper = objectMapper;
+        this.downstreamCallMetrics = downstreamCallMetrics;
     }
 
     @StreamEvents
-    public ApiResponse<Void> invokeChsKafkaApi(String companyNumber, String notificationId, String kind) {
+    @WithSpan
+    public ApiResponse<Void> invokeChsKafkaApi(@SpanAttribute(COMPANY_NUMBER) String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) String notificationId, @SpanAttribute(KIND) String kind) {
         PrivateChangedResourcePost changedResourcePost =
                 kafkaApiClientSupplier.get()
                         .privateChangedResourceHandler()
@@ -68,58 +84,33 @@ public class ChsKafkaApiService {
     }
 
     @StreamEvents
-    public ApiResponse<Void> invokeChsKafkaApiWithDeleteEvent(PscDeleteRequest deleteRequest, PscDocument pscDocument) {
-        Object changedResource = mapChangedResource(
+    @WithSpan
+    public ApiResponse<Void> invokeChsKafkaApiWithDeleteEvent(PscDeleteRequest deleteRequest,
+            Map<String, Object> deletedData) {
+        PscSpanAttributes.psc(deleteRequest.companyNumber(), deleteRequest.notificationId(), deleteRequest.kind());
+        ChangedResource changedResource = mapChangedResource(
                 deleteRequest.companyNumber(),
                 deleteRequest.notificationId(),
                 deleteRequest.kind(),
                 true,
-                pscDocument
+                deletedData
         );
         LOGGER.info("PSC delete stream payload: " + changedResource);
         PrivateChangedResourcePost changedResourcePost =
             kafkaApiClientSupplier.get()
                     .privateChangedResourceHandler()
-                    .postChangedResource(RESOURCE_CHANGED_URI,
-                            mapChangedResource(deleteRequest.companyNumber(),
-                                deleteRequest.notificationId(), deleteRequest.kind(), true, pscDocument));
+                    .postChangedResource(RESOURCE_CHANGED_URI, changedResource);
         return handleApiCall(changedResourcePost);
     }
 
-    private ChangedResource mapChangedResource(String companyNumber, String notificationId,
-            String kind, boolean isDelete, PscDocument pscDocument) {
+    ChangedResource mapChangedResource(String companyNumber, String notificationId,
+            String kind, boolean isDelete, Map<String, Object> deletedData) {
         ChangedResourceEvent event = new ChangedResourceEvent();
         ChangedResource changedResource = new ChangedResource();
         event.setPublishedAt(PUBLISHED_AT_FORMAT.format(Instant.now()));
         if (isDelete) {
             event.setType(DELETE_EVENT_TYPE);
-            if (pscDocument != null) {
-                // This write-value/read-value is necessary to remove null fields during the jackson conversion
-                try {
-                    Object pscObject = switch (pscDocument.getData().getKind()) {
-                        case "individual-person-with-significant-control" ->
-                                companyPscTransformer.transformPscDocToIndividual(pscDocument, false);
-                        case INDIVIDUAL_BENEFICIAL_OWNER ->
-                                companyPscTransformer.transformPscDocToIndividualBeneficialOwner(pscDocument, false);
-                        case "corporate-entity-person-with-significant-control" ->
-                                companyPscTransformer.transformPscDocToCorporateEntity(pscDocument);
-                        case CORPORATE_ENTITY_BENEFICIAL_OWNER ->
-                                companyPscTransformer.transformPscDocToCorporateEntityBeneficialOwner(pscDocument);
-                        case "legal-person-person-with-significant-control" ->
-                                companyPscTransformer.transformPscDocToLegalPerson(pscDocument);
-                        case LEGAL_PERSON_BENEFICIAL_OWNER ->
-                                companyPscTransformer.transformPscDocToLegalPersonBeneficialOwner(pscDocument);
-                        case "super-secure-person-with-significant-control" ->
-                                companyPscTransformer.transformPscDocToSuperSecure(pscDocument);
-                        case SUPER_SECURE_BENEFICIAL_OWNER ->
-                                companyPscTransformer.transformPscDocToSuperSecureBeneficialOwner(pscDocument);
-                        default -> null;
-                    };
-                    changedResource.setDeletedData(deserializedData(pscObject));
-                } catch (JsonProcessingException e) {
-                    throw new SerDesException("Failed to serialise/deserialise psc data", e);
-                }
-            }
+            changedResource.setDeletedData(deletedData);
         } else {
             event.setType(CHANGED_EVENT_TYPE);
         }
@@ -131,6 +122,40 @@ public class ChsKafkaApiService {
         return changedResource;
     }
 
+    /**
+     * Build the deleted_data published for a deleted PSC: the PSC as returned by the API, without its null fields.
+     * Built when the PSC is deleted, so only this payload is kept on the outbox event and not the document with its
+     * sensitive data.
+     *
+     * @param pscDocument the deleted PSC, or null if it was not found
+     * @return the deleted_data, or null if there is no PSC or its kind is not known
+     */
+    public Map<String, Object> deletedData(PscDocument pscDocument) {
+        if (pscDocument == null) {
+            return null;
+        }
+        Object pscObject = switch (pscDocument.getData().getKind()) {
+            case "individual-person-with-significant-control" ->
+                    companyPscTransformer.transformPscDocToIndividual(pscDocument, false);
+            case INDIVIDUAL_BENEFICIAL_OWNER ->
+                    companyPscTransformer.transformPscDocToIndividualBeneficialOwner(pscDocument, false);
+            case "corporate-entity-person-with-significant-control" ->
+                    companyPscTransformer.transformPscDocToCorporateEntity(pscDocument);
+            case CORPORATE_ENTITY_BENEFICIAL_OWNER ->
+                    companyPscTransformer.transformPscDocToCorporateEntityBeneficialOwner(pscDocument);
+            case "legal-person-person-with-significant-control" ->
+                    companyPscTransformer.transformPscDocToLegalPerson(pscDocument);
+            case LEGAL_PERSON_BENEFICIAL_OWNER ->
+                    companyPscTransformer.transformPscDocToLegalPersonBeneficialOwner(pscDocument);
+            case "super-secure-person-with-significant-control" ->
+                    companyPscTransformer.transformPscDocToSuperSecure(pscDocument);
+            case SUPER_SECURE_BENEFICIAL_OWNER ->
+                    companyPscTransformer.transformPscDocToSuperSecureBeneficialOwner(pscDocument);
+            default -> null;
+        };
+        return toMap(pscObject);
+    }
+
     private static String mapKind(String kind) {
         HashMap<String, String> kindMap = new HashMap<>();
         kindMap.put("individual-person-with-significant-control", "individual");
@@ -146,19 +171,36 @@ public class ChsKafkaApiService {
     }
 
     private ApiResponse<Void> handleApiCall(PrivateChangedResourcePost changedResourcePost) {
+        DownstreamCallMetrics.Call call = downstreamCallMetrics.start(DownstreamCallMetrics.CHS_KAFKA_API);
         try {
-            return changedResourcePost.execute();
+            ApiResponse<Void> response = changedResourcePost.execute();
+            if (response != null) {
+                call.status(response.getStatusCode());
+            }
+            return response;
         } catch (ApiErrorResponseException ex) {
+            call.status(ex.getStatusCode());
             final String msg = "Unsuccessful call to resource-changed endpoint";
             LOGGER.error(msg, ex);
             throw new ServiceUnavailableException(msg);
         } catch (RuntimeException ex) {
             LOGGER.error("Error occurred while calling resource-changed endpoint", ex);
             throw ex;
+        } finally {
+            call.stop();
         }
     }
 
-    private Object deserializedData(Object pscDocument) throws JsonProcessingException {
-        return objectMapper.readValue(objectMapper.writeValueAsString(pscDocument), Object.class);
+    /*
+    Converting the PSC to a generic map, rather than sending the API model, leaves its null fields out of the
+    deleted_data. convertValue does this in one pass through a token buffer instead of writing the PSC out as a string
+    and reading it back.
+     */
+    private Map<String, Object> toMap(Object psc) {
+        try {
+            return objectMapper.convertValue(psc, DELETED_DATA);
+        } catch (IllegalArgumentException ex) {
+            throw new SerDesException("Failed to serialise/deserialise psc data", ex);
+        }
     }
 }
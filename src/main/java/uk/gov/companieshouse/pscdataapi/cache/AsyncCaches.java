@@ -0,0 +1,64 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/*
+Lookups on the async caches of downstream API responses. A miss installs an incomplete future, which takes no time
+inside the cache's compute, and the caller that installed it then loads the value on its own thread, so the logging and
+trace context of the request is kept and no lock is held while the API is called. Concurrent lookups for the same key
+wait on that future rather than inside the cache, which would pin a virtual thread to its carrier. A failed load
+completes the future exceptionally, which removes it from the cache, and is rethrown to every caller waiting on it.
+Caffeine also logs a warning for every failed load; the failures are already logged where the API is called, so its
+LocalAsyncCache logger is set to ERROR in application.properties.
+ */
+public final class AsyncCaches {
+
+    private AsyncCaches() {
+    }
+
+    /**
+     * Get the value for the key, loading it on the calling thread when no other caller has it cached or loading.
+     *
+     * @param cache the cache
+     * @param key the key to look up
+     * @param loader loads the value for the key; it must not return null
+     * @return the cached or loaded value
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> value = cache.get(key, (k, executor) -> loading);
+        if (value == loading) {
+            try {
+                loading.complete(loader.apply(key));
+            } catch (RuntimeException ex) {
+                loading.completeExceptionally(ex);
+            }
+        }
+        try {
+            return value.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Get the value for the key only if it has already been loaded, without waiting for a load in progress.
+     *
+     * @param cache the cache
+     * @param key the key to look up
+     * @return the loaded value, or empty if none is cached or it is still loading
+     */
+    public static <K, V> Optional<V> getIfLoaded(AsyncCache<K, V> cache, K key) {
+        CompletableFuture<V> value = cache.getIfPresent(key);
+        return value != null && value.isDone() && !value.isCompletedExceptionally()
+                ? Optional.of(value.join())
+                : Optional.empty();
+    }
+}
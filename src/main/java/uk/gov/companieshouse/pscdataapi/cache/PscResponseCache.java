@@ -0,0 +1,173 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+/**
+ * Read-through cache of transformed PSC responses, with a bounded in-process tier and an optional tier shared between
+ * instances. Each entry records the data.etag of the document it was built from and is only served while that is
+ * still the stored etag, so an entry left behind by a write on another instance is never served. Entries are also
+ * evicted when their notification is written or deleted.
+ *
+ * <p>Lookups are counted in psc.response_cache.requests by kind and by whether they were served from the local tier,
+ * the shared tier or the database, from which the hit ratio of each kind is derived.</p>
+ */
+@Component
+public class PscResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final String REQUESTS = "psc.response_cache.requests";
+    private static final String LOCAL_HIT = "local_hit";
+    private static final String SHARED_HIT = "shared_hit";
+    private static final String MISS = "miss";
+    private static final String ETAG = "etag";
+    private static final String RESPONSE = "response";
+
+    private final Cache<PscResponseKey, Entry> localCache;
+    private final Optional<SharedPscResponseStore> sharedStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestsTags, Counter> requests = new ConcurrentHashMap<>();
+
+    public PscResponseCache(Cache<PscResponseKey, Entry> pscResponseLocalCache,
+            Optional<SharedPscResponseStore> sharedStore, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.localCache = pscResponseLocalCache;
+        this.sharedStore = sharedStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Get the response for the given key, built from the stored document when no entry has the current etag. Documents
+     * without an etag are never cached.
+     *
+     * @param key       the response to get.
+     * @param etag      the data.etag of the stored document.
+     * @param type      the response type.
+     * @param loader    reads the stored document, or returns empty if it no longer exists.
+     * @param transform builds the response from the document.
+     * @return the response, or empty if the loader found no document.
+     */
+    public <T> Optional<T> get(PscResponseKey key, String etag, Class<T> type, Supplier<Optional<PscDocument>> loader,
+            Function<PscDocument, T> transform) {
+        if (etag != null) {
+            Entry local = localCache.getIfPresent(key);
+            if (local != null && etag.equals(local.etag())) {
+                count(key, LOCAL_HIT);
+                return Optional.of(type.cast(local.response()));
+            }
+            Optional<T> shared = getShared(key, etag, type);
+            if (shared.isPresent()) {
+                localCache.put(key, new Entry(etag, shared.get()));
+                count(key, SHARED_HIT);
+                return shared;
+            }
+        }
+        count(key, MISS);
+        return loader.get().map(document -> {
+            T response = transform.apply(document);
+            final String loadedEtag = document.getData().getEtag();
+            if (loadedEtag != null) {
+                localCache.put(key, new Entry(loadedEtag, response));
+                putShared(key, loadedEtag, response);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Evict the responses for a notification, in each of the kinds it was or is stored as.
+     *
+     * @param companyNumber  the company number.
+     * @param notificationId the notification ID.
+     * @param documents      the versions of the document whose kinds are evicted; null versions are ignored.
+     */
+    public void evict(String companyNumber, String notificationId, PscDocument... documents) {
+        List<PscResponseKey> keys = new ArrayList<>();
+        for (PscDocument document : documents) {
+            if (document != null && document.getData() != null && document.getData().getKind() != null) {
+                final String kind = document.getData().getKind();
+                keys.add(new PscResponseKey(companyNumber, notificationId, kind, false));
+                keys.add(new PscResponseKey(companyNumber, notificationId, kind, true));
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        localCache.invalidateAll(keys);
+        sharedStore.ifPresent(store -> {
+            try {
+                store.evict(keys.stream().map(PscResponseKey::sharedKey).distinct().toList());
+            } catch (RuntimeException ex) {
+                LOGGER.error("Failed to evict PSC responses from the shared cache", ex, DataMapHolder.getLogMap());
+            }
+        });
+    }
+
+    /*
+    The shared tier is an optimisation, so a failure to read or write it is logged and the lookup falls back to the
+    database rather than failing the request.
+     */
+    private <T> Optional<T> getShared(PscResponseKey key, String etag, Class<T> type) {
+        if (sharedStore.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Optional<String> value = sharedStore.get().get(key.sharedKey());
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            JsonNode entry = objectMapper.readTree(value.get());
+            if (!etag.equals(entry.path(ETAG).asText(null))) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.treeToValue(entry.get(RESPONSE), type));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            LOGGER.error("Failed to read PSC response from the shared cache", ex, DataMapHolder.getLogMap());
+            return Optional.empty();
+        }
+    }
+
+    private void putShared(PscResponseKey key, String etag, Object response) {
+        sharedStore.ifPresent(store -> {
+            try {
+                store.put(key.sharedKey(), objectMapper.writeValueAsString(Map.of(ETAG, etag, RESPONSE, response)));
+            } catch (JsonProcessingException | RuntimeException ex) {
+                LOGGER.error("Failed to write PSC response to the shared cache", ex, DataMapHolder.getLogMap());
+            }
+        });
+    }
+
+    private void count(PscResponseKey key, String result) {
+        requests.computeIfAbsent(new RequestsTags(key.kind(), result), tags -> Counter.builder(REQUESTS)
+                        .description("PSC response cache lookups")
+                        .tag("kind", tags.kind())
+                        .tag("result", tags.result())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private record RequestsTags(String kind, String result) {
+    }
+
+    public record Entry(String etag, Object response) {
+    }
+}
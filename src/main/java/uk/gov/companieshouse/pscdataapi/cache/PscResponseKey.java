@@ -0,0 +1,12 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+/**
+ * Identifies a cached PSC response. The same notification can be served with and without the full date of birth, and
+ * each is cached separately.
+ */
+public record PscResponseKey(String companyNumber, String notificationId, String kind, boolean showFullDateOfBirth) {
+
+    String sharedKey() {
+        return "psc-response:%s:%s:%s:%s".formatted(companyNumber, notificationId, kind, showFullDateOfBirth);
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "psc.response-cache.shared.enabled", havingValue = "true")
+public class RedisPscResponseStore implements SharedPscResponseStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisPscResponseStore(StringRedisTemplate redisTemplate,
+            @Value("${psc.response-cache.shared.ttl}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void put(String key, String value) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        redisTemplate.delete(keys);
+    }
+}
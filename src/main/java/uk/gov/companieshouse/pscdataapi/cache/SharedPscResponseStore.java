@@ -0,0 +1,17 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * A store of serialised PSC responses shared between instances, used as the second tier of the
+ * {@link PscResponseCache}. Entries are validated by etag when read, so the store may return stale entries.
+ */
+public interface SharedPscResponseStore {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value);
+
+    void evict(Collection<String> keys);
+}
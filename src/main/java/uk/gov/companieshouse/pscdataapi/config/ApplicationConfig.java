@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Supplier;
@@ -16,14 +17,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import uk.gov.companieshouse.api.InternalApiClient;
-import uk.gov.companieshouse.api.http.ApiKeyHttpClient;
 import uk.gov.companieshouse.pscdataapi.converter.CompanyPscReadConverter;
 import uk.gov.companieshouse.pscdataapi.converter.CompanyPscSensitiveReadConverter;
 import uk.gov.companieshouse.pscdataapi.converter.CompanyPscSensitiveWriteConverter;
 import uk.gov.companieshouse.pscdataapi.converter.CompanyPscWriteConverter;
 import uk.gov.companieshouse.pscdataapi.converter.EnumWriteConverter;
-import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.converter.PscNotificationReadConverter;
 import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
 import uk.gov.companieshouse.pscdataapi.models.PscSensitiveData;
 import uk.gov.companieshouse.pscdataapi.serialization.LocalDateDeSerializer;
 import uk.gov.companieshouse.pscdataapi.serialization.LocalDateSerializer;
@@ -35,15 +36,21 @@ public class ApplicationConfig {
     private final String kafkaApiUrl;
     private final String metricsApiUrl;
     private final String exemptionsApiUrl;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
 
     public ApplicationConfig(@Value("${api.key}") String apiKey,
             @Value("${kafka.api.url}") String kafkaApiUrl,
             @Value("${metrics.api.url}") String metricsApiUrl,
-            @Value("${exemptions.api.url}") String exemptionsApiUrl) {
+            @Value("${exemptions.api.url}") String exemptionsApiUrl,
+            @Value("${api.client.connect-timeout}") Duration connectTimeout,
+            @Value("${api.client.read-timeout}") Duration readTimeout) {
         this.apiKey = apiKey;
         this.kafkaApiUrl = kafkaApiUrl;
         this.metricsApiUrl = metricsApiUrl;
         this.exemptionsApiUrl = exemptionsApiUrl;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
     }
 
     /*
@@ -58,22 +65,30 @@ public class ApplicationConfig {
                 new CompanyPscSensitiveWriteConverter(objectMapper),
                 new CompanyPscReadConverter(objectMapper, PscData.class),
                 new CompanyPscSensitiveReadConverter(objectMapper, PscSensitiveData.class),
+                new PscNotificationReadConverter(objectMapper, PscNotification.class),
                 new EnumWriteConverter()));
     }
 
+    /*
+    Each downstream has a single client, shared by every request; the request ID is added to each HTTP request as it is
+    sent rather than set on the client.
+     */
     @Bean
     public Supplier<InternalApiClient> kafkaApiClientSupplier() {
-        return () -> buildClient(kafkaApiUrl);
+        InternalApiClient client = buildClient(kafkaApiUrl);
+        return () -> client;
     }
 
     @Bean
     public Supplier<InternalApiClient> metricsApiClientSupplier() {
-        return () -> buildClient(metricsApiUrl);
+        InternalApiClient client = buildClient(metricsApiUrl);
+        return () -> client;
     }
 
     @Bean
     public Supplier<InternalApiClient> exemptionsApiClientSupplier() {
-        return () -> buildClient(exemptionsApiUrl);
+        InternalApiClient client = buildClient(exemptionsApiUrl);
+        return () -> client;
     }
 
     @Bean
@@ -87,7 +102,12 @@ public class ApplicationConfig {
                 .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
     }
 
-    private ObjectMapper mongoDbObjectMapper() {
+    /**
+     * ObjectMapper used by the Mongo converters to map PSC data to and from the stored documents.
+     *
+     * @return ObjectMapper
+     */
+    public static ObjectMapper mongoDbObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
@@ -100,10 +120,8 @@ public class ApplicationConfig {
     }
 
     private InternalApiClient buildClient(final String url) {
-        ApiKeyHttpClient apiKeyHttpClient = new ApiKeyHttpClient(apiKey);
-        apiKeyHttpClient.setRequestId(DataMapHolder.getRequestId());
-
-        InternalApiClient internalApiClient = new InternalApiClient(apiKeyHttpClient);
+        InternalApiClient internalApiClient = new InternalApiClient(
+                new RequestScopedApiKeyHttpClient(apiKey, connectTimeout, readTimeout));
         internalApiClient.setBasePath(url);
 
         return internalApiClient;
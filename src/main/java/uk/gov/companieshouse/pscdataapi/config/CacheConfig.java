@@ -0,0 +1,68 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.api.metrics.MetricsApi;
+import uk.gov.companieshouse.pscdataapi.cache.PscResponseCache;
+import uk.gov.companieshouse.pscdataapi.cache.PscResponseKey;
+
+/*
+In-process caches for downstream API lookups and PSC responses. The downstream API caches are async, see AsyncCaches.
+Each cache records hit, miss, eviction and load time statistics, which are published to the meter registry under the
+cache name.
+ */
+@Configuration
+public class CacheConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    public CacheConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public AsyncCache<String, Optional<MetricsApi>> companyMetricsCache(
+            @Value("${metrics.api.cache.ttl}") Duration ttl,
+            @Value("${metrics.api.cache.max-size}") long maxSize) {
+        return buildAsyncCache("company_metrics", ttl, maxSize);
+    }
+
+    @Bean
+    public AsyncCache<String, Boolean> companyExemptionsCache(
+            @Value("${exemptions.api.cache.ttl}") Duration ttl,
+            @Value("${exemptions.api.cache.max-size}") long maxSize) {
+        return buildAsyncCache("company_exemptions", ttl, maxSize);
+    }
+
+    @Bean
+    public Cache<PscResponseKey, PscResponseCache.Entry> pscResponseLocalCache(
+            @Value("${psc.response-cache.local.ttl}") Duration ttl,
+            @Value("${psc.response-cache.local.max-size}") long maxSize) {
+        return buildCache("psc_responses", ttl, maxSize);
+    }
+
+    private <K, V> Cache<K, V> buildCache(String name, Duration ttl, long maxSize) {
+        Cache<K, V> cache = builder(ttl, maxSize).build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    private <K, V> AsyncCache<K, V> buildAsyncCache(String name, Duration ttl, long maxSize) {
+        AsyncCache<K, V> cache = builder(ttl, maxSize).buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    private static Caffeine<Object, Object> builder(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats();
+    }
+}
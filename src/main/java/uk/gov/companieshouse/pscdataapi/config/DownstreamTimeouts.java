@@ -0,0 +1,37 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+How long a request waits for each dependency when they are called concurrently. A zero or negative duration waits
+without a limit.
+ */
+@Component
+public class DownstreamTimeouts {
+
+    private final Duration metrics;
+    private final Duration exemptions;
+    private final Duration mongo;
+
+    public DownstreamTimeouts(@Value("${psc.list.timeout.metrics}") final Duration metrics,
+            @Value("${psc.list.timeout.exemptions}") final Duration exemptions,
+            @Value("${psc.list.timeout.mongo}") final Duration mongo) {
+        this.metrics = metrics;
+        this.exemptions = exemptions;
+        this.mongo = mongo;
+    }
+
+    public Duration getMetrics() {
+        return metrics;
+    }
+
+    public Duration getExemptions() {
+        return exemptions;
+    }
+
+    public Duration getMongo() {
+        return mongo;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.NoHandlerFoundException;
@@ -83,7 +84,7 @@ public class ExceptionHandlerConfig {
                 .build();
     }
 
-    @ExceptionHandler(value = {DataAccessException.class})
+    @ExceptionHandler(value = {DataAccessException.class, TransactionException.class})
     public ResponseEntity<Object> handleDataAccessException(Exception ex) {
         LOGGER.error("Non-recoverable MongoDB exception", ex, DataMapHolder.getLogMap());
         return ResponseEntity
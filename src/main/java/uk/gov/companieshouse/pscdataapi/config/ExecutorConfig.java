@@ -0,0 +1,59 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import io.opentelemetry.context.Context;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+/*
+Executor used to fan out the independent downstream calls made while serving a request. Tasks log with the request
+context of the thread that submitted them, and run in its trace context so that their spans belong to the request's
+trace.
+
+With platform threads (the default) the pool and its queue are bounded; once both are full, tasks run on the request
+thread instead, so the request degrades to sequential calls rather than failing. When spring.threads.virtual.enabled
+is set, Tomcat serves requests on virtual threads and each task here gets its own virtual thread, with a concurrency
+limit so that a burst of requests cannot open an unbounded number of downstream calls.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    private static final String THREAD_NAME_PREFIX = "psc-list-";
+
+    @Bean("pscListExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor pscListPlatformExecutor(
+            @Value("${psc.list.executor.core-size}") int coreSize,
+            @Value("${psc.list.executor.max-size}") int maxSize,
+            @Value("${psc.list.executor.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setTaskDecorator(ExecutorConfig::propagate);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean("pscListExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor pscListVirtualExecutor(
+            @Value("${psc.list.executor.virtual-concurrency-limit}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskDecorator(ExecutorConfig::propagate);
+        return executor;
+    }
+
+    private static Runnable propagate(Runnable task) {
+        return Context.current().wrap(DataMapHolder.propagate(task));
+    }
+}
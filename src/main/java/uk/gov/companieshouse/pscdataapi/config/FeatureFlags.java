@@ -7,13 +7,20 @@ import org.springframework.stereotype.Component;
 public class FeatureFlags {
 
     private final boolean streamHookDisabled;
+    private final boolean materialisedCountsEnabled;
 
-    public FeatureFlags(@Value("${feature.seeding_collection_enabled}") final boolean streamHookDisabled) {
+    public FeatureFlags(@Value("${feature.seeding_collection_enabled}") final boolean streamHookDisabled,
+            @Value("${psc.counts.materialised.enabled}") final boolean materialisedCountsEnabled) {
         this.streamHookDisabled = streamHookDisabled;
+        this.materialisedCountsEnabled = materialisedCountsEnabled;
     }
 
     public boolean isStreamHookDisabled() {
         return streamHookDisabled;
     }
 
+    public boolean isMaterialisedCountsEnabled() {
+        return materialisedCountsEnabled;
+    }
+
 }
@@ -0,0 +1,21 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.companieshouse.pscdataapi.metrics.PayloadSizeMetricsFilter;
+
+/*
+Meters are published on /prometheus alongside /healthcheck. Repository queries are timed by Spring Boot in
+spring.data.repository.invocations, by repository and method, and each Mongo command in mongodb.driver.commands.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<PayloadSizeMetricsFilter> payloadSizeMetricsFilterRegistrationBean(
+            MeterRegistry meterRegistry) {
+        return new FilterRegistrationBean<>(new PayloadSizeMetricsFilter(meterRegistry));
+    }
+}
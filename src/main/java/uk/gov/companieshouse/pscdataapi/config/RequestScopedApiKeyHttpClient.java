@@ -0,0 +1,41 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import com.google.api.client.http.HttpRequestFactory;
+import com.google.api.client.http.HttpRequestInitializer;
+import java.time.Duration;
+import uk.gov.companieshouse.api.http.ApiKeyHttpClient;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+/*
+An API key client that is shared by every request to a downstream API. The SDK client holds a single request ID set
+through setRequestId, which is why a client used to be built for each call; here the request ID is instead read from
+the calling thread's logging context as each HTTP request is built and sent as the x-request-id header. Each request
+is also given the configured connect and read timeouts in place of the transport's defaults.
+ */
+class RequestScopedApiKeyHttpClient extends ApiKeyHttpClient {
+
+    static final String REQUEST_ID_HEADER = "x-request-id";
+
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    RequestScopedApiKeyHttpClient(String apiKey, Duration connectTimeout, Duration readTimeout) {
+        super(apiKey);
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+        this.readTimeoutMillis = Math.toIntExact(readTimeout.toMillis());
+    }
+
+    @Override
+    public HttpRequestFactory getHttpRequestFactory() {
+        HttpRequestFactory requestFactory = super.getHttpRequestFactory();
+        HttpRequestInitializer apiKeyInitializer = requestFactory.getInitializer();
+        return requestFactory.getTransport().createRequestFactory(request -> {
+            if (apiKeyInitializer != null) {
+                apiKeyInitializer.initialize(request);
+            }
+            request.getHeaders().set(REQUEST_ID_HEADER, DataMapHolder.getRequestId());
+            request.setConnectTimeout(connectTimeoutMillis);
+            request.setReadTimeout(readTimeoutMillis);
+        });
+    }
+}
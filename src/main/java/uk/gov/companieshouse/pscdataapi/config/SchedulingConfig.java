@@ -0,0 +1,14 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+Runs the background outbox relay and the PSC counts reconciliation. Disabling the relay leaves resource-changed
+events in the outbox until they are relayed by another instance or by calling ResourceChangedRelay directly. The
+reconciliation only runs when a cron expression is configured for it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,40 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import io.lettuce.core.RedisURI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/*
+The Redis connection used by the shared tier of the PSC response cache. Spring Boot's Redis auto-configuration is
+excluded on the application, so nothing connects to Redis, and no Redis health indicator is registered, unless the
+shared cache is enabled. The connection is configured from psc.response-cache.shared.redis-url; a rediss:// URL
+connects over TLS.
+ */
+@Configuration
+@ConditionalOnProperty(name = "psc.response-cache.shared.enabled", havingValue = "true")
+public class SharedPscResponseCacheConfig {
+
+    @Bean
+    public LettuceConnectionFactory sharedPscResponseRedisConnectionFactory(
+            @Value("${psc.response-cache.shared.redis-url}") String redisUrl) {
+        RedisURI redisUri = RedisURI.create(redisUrl);
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfiguration =
+                LettuceClientConfiguration.builder();
+        if (redisUri.isSsl()) {
+            clientConfiguration.useSsl();
+        }
+        return new LettuceConnectionFactory(LettuceConnectionFactory.createRedisConfiguration(redisUri),
+                clientConfiguration.build());
+    }
+
+    @Bean
+    public StringRedisTemplate sharedPscResponseRedisTemplate(
+            LettuceConnectionFactory sharedPscResponseRedisConnectionFactory) {
+        return new StringRedisTemplate(sharedPscResponseRedisConnectionFactory);
+    }
+}
@@ -26,6 +26,9 @@ public class WebSecurityConfig implements WebMvcConfigurer {
 
     public static final String PATTERN_FULL_RECORD =
             "/company/{company_number}/persons-with-significant-control/individual/{notification_id}/full_record";
+    public static final String PATTERN_EXPORT = "/persons-with-significant-control/export";
+    public static final String PATTERN_COMPANY_EXPORT =
+            "/company/{company_number}/persons-with-significant-control/export";
 
     List<String> otherAllowedAuthMethods = List.of("oauth2");
 
@@ -33,7 +36,7 @@ public class WebSecurityConfig implements WebMvcConfigurer {
     public void addInterceptors(final InterceptorRegistry registry) {
         registry.addInterceptor(userAuthenticationInterceptor());
         registry.addInterceptor(fullRecordAuthenticationInterceptor())
-                .addPathPatterns(PATTERN_FULL_RECORD);
+                .addPathPatterns(PATTERN_FULL_RECORD, PATTERN_EXPORT, PATTERN_COMPANY_EXPORT);
     }
 
     @Bean
@@ -2,6 +2,12 @@ package uk.gov.companieshouse.pscdataapi.controller;
 
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,20 +30,29 @@ import uk.gov.companieshouse.api.psc.SuperSecure;
 import uk.gov.companieshouse.api.psc.SuperSecureBeneficialOwner;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.data.PscRoles;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult;
+import uk.gov.companieshouse.pscdataapi.models.PscBulkDeleteResult;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
+import uk.gov.companieshouse.pscdataapi.models.PscListPage;
 import uk.gov.companieshouse.pscdataapi.service.CompanyPscService;
+import uk.gov.companieshouse.pscdataapi.util.DateUtils;
 
 @RestController
 public class CompanyPscController {
 
+    public static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
 
     private final CompanyPscService pscService;
+    private final int maxBatchSize;
 
-    public CompanyPscController(CompanyPscService pscService) {
+    public CompanyPscController(CompanyPscService pscService,
+            @Value("${psc.batch.max-size:500}") int maxBatchSize) {
         this.pscService = pscService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PutMapping("/company/{company_number}/persons-with-significant-control/{notification_id}/full_record")
@@ -64,6 +79,24 @@ public class CompanyPscController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PutMapping("/persons-with-significant-control/full_record/batch")
+    public ResponseEntity<List<PscBatchItemResult>> submitPscDataBatch(
+            @RequestBody List<FullRecordCompanyPSCApi> requests) {
+
+        LOGGER.info("Batch PUT request received", DataMapHolder.getLogMap());
+
+        if (requests == null || requests.isEmpty() || requests.size() > maxBatchSize) {
+            final String msg = "Bad request - batch must contain between 1 and %d records".formatted(maxBatchSize);
+            LOGGER.error(msg, DataMapHolder.getLogMap());
+            throw new BadRequestException(msg);
+        }
+
+        List<PscBatchItemResult> results = pscService.insertPscRecords(requests);
+
+        LOGGER.info("Successfully processed batch PUT request", DataMapHolder.getLogMap());
+        return ResponseEntity.ok(results);
+    }
+
     @DeleteMapping(path = "/company/{company_number}/persons-with-significant-control/{notification_id}/full_record")
     public ResponseEntity<Void> deletePscData(
             @PathVariable("company_number") String companyNumber,
@@ -88,22 +121,52 @@ public class CompanyPscController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @DeleteMapping(path = "/company/{company_number}/persons-with-significant-control/full_record")
+    public ResponseEntity<PscBulkDeleteResult> deleteCompanyPscData(
+            @PathVariable("company_number") String companyNumber,
+            @RequestHeader("x-request-id") String contextId,
+            @RequestHeader("x-delta-at") String deltaAt) {
+        DataMapHolder.get()
+                .companyNumber(companyNumber);
+
+        LOGGER.info("Company DELETE request received", DataMapHolder.getLogMap());
+
+        if (!DateUtils.isValidDeltaAt(deltaAt)) {
+            final String msg = "Bad request - invalid delta_at [%s]".formatted(deltaAt);
+            LOGGER.error(msg, DataMapHolder.getLogMap());
+            throw new BadRequestException(msg);
+        }
+
+        PscBulkDeleteResult result = pscService.deleteCompanyPscs(companyNumber, contextId, deltaAt);
+
+        LOGGER.info("Successfully processed company DELETE request", DataMapHolder.getLogMap());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/company/{company_number}/persons-with-significant-control/individual/{notification_id}")
     public ResponseEntity<Individual> getIndividualPscData(
             @PathVariable("company_number") String companyNumber,
             @PathVariable("notification_id") String notificationId,
             @RequestParam(required = false, name = "register_view",
-                    defaultValue = "false") Boolean registerView) {
+                    defaultValue = "false") Boolean registerView,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Individual GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = registerView ? Optional.empty()
+                : unchangedEtag(ifNoneMatch, companyNumber, notificationId, PscRoles.INDIVIDUAL_PSC);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         Individual individual = pscService
                 .getIndividualPsc(companyNumber, notificationId, registerView);
 
         LOGGER.info("Successfully processed individual GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(individual, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(registerView ? null : individual.getEtag())
+                .body(individual);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/individual-beneficial-owner/{notification_id}")
@@ -111,114 +174,158 @@ public class CompanyPscController {
             @PathVariable("company_number") String companyNumber,
             @PathVariable("notification_id") String notificationId,
             @RequestParam(required = false, name = "register_view",
-                    defaultValue = "false") Boolean registerView) {
+                    defaultValue = "false") Boolean registerView,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Individual beneficial owner GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = registerView ? Optional.empty()
+                : unchangedEtag(ifNoneMatch, companyNumber, notificationId, PscRoles.INDIVIDUAL_BO);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         IndividualBeneficialOwner individualBeneficialOwner =
                 pscService.getIndividualBeneficialOwnerPsc(
                         companyNumber, notificationId, registerView);
 
         LOGGER.info("Successfully processed individual beneficial owner GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(individualBeneficialOwner, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(registerView ? null : individualBeneficialOwner.getEtag())
+                .body(individualBeneficialOwner);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/corporate-entity/{notification_id}")
     public ResponseEntity<CorporateEntity> getCorporateEntityPscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Corporate entity GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.CORPORATE_PSC);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         CorporateEntity corporateEntity =
                 pscService.getCorporateEntityPsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed corporate entity GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(corporateEntity, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(corporateEntity.getEtag()).body(corporateEntity);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/corporate-entity-beneficial-owner/{notification_id}")
     public ResponseEntity<CorporateEntityBeneficialOwner> getCorporateEntityBeneficialOwnerPscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Corporate entity beneficial owner GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.CORPORATE_BO);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         CorporateEntityBeneficialOwner corporateEntityBeneficialOwner =
                 pscService.getCorporateEntityBeneficialOwnerPsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed corporate entity beneficial owner GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(corporateEntityBeneficialOwner, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(corporateEntityBeneficialOwner.getEtag()).body(corporateEntityBeneficialOwner);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/legal-person/{notification_id}")
     public ResponseEntity<LegalPerson> getLegalPersonPscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Legal person GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.LEGAL_PSC);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         LegalPerson legalPerson =
                 pscService.getLegalPersonPsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed legal person GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(legalPerson, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(legalPerson.getEtag()).body(legalPerson);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/legal-person-beneficial-owner/{notification_id}")
     public ResponseEntity<LegalPersonBeneficialOwner> getLegalPersonBeneficialOwnerPscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Legal person beneficial owner GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.LEGAL_BO);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         LegalPersonBeneficialOwner legalPersonBeneficialOwner =
                 pscService.getLegalPersonBeneficialOwnerPsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed legal person beneficial owner GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(legalPersonBeneficialOwner, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(legalPersonBeneficialOwner.getEtag()).body(legalPersonBeneficialOwner);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/super-secure/{notification_id}")
     public ResponseEntity<SuperSecure> getSuperSecurePscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Super secure GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.SUPER_SECURE_PSC);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         SuperSecure superSecure =
                 pscService.getSuperSecurePsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed super secure GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(superSecure, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(superSecure.getEtag()).body(superSecure);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control/super-secure-beneficial-owner/{notification_id}")
     public ResponseEntity<SuperSecureBeneficialOwner> getSuperSecureBeneficialOwnerPscData(
             @PathVariable("company_number") String companyNumber,
-            @PathVariable("notification_id") String notificationId) {
+            @PathVariable("notification_id") String notificationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get()
                 .companyNumber(companyNumber)
                 .itemId(notificationId);
 
         LOGGER.info("Super secure beneficial owner GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = unchangedEtag(ifNoneMatch, companyNumber, notificationId,
+                PscRoles.SUPER_SECURE_BO);
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         SuperSecureBeneficialOwner superSecureBeneficialOwner =
                 pscService.getSuperSecureBeneficialOwnerPsc(companyNumber, notificationId);
 
         LOGGER.info("Successfully processed super secure beneficial owner GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(superSecureBeneficialOwner, HttpStatus.OK);
+        return ResponseEntity.ok().eTag(superSecureBeneficialOwner.getEtag()).body(superSecureBeneficialOwner);
     }
 
     @GetMapping("/company/{company_number}/persons-with-significant-control")
@@ -226,16 +333,61 @@ public class CompanyPscController {
             @PathVariable("company_number") String companyNumber,
             @RequestParam(value = "items_per_page", required = false, defaultValue = "25") Integer itemsPerPage,
             @RequestParam(value = "start_index", required = false, defaultValue = "0") final Integer startIndex,
-            @RequestParam(value = "register_view", required = false, defaultValue = "false") Boolean registerView) {
+            @RequestParam(value = "register_view", required = false, defaultValue = "false") Boolean registerView,
+            @RequestParam(value = "continuation_token", required = false) final String continuationToken,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         DataMapHolder.get().companyNumber(companyNumber);
 
         itemsPerPage = Math.min(itemsPerPage, 100);
 
         LOGGER.info("PSC list GET request received", DataMapHolder.getLogMap());
+        if (continuationToken != null) {
+            PscListPage page = pscService.retrievePscListSummaryPageFromDb(
+                    companyNumber, continuationToken, registerView, itemsPerPage);
+            HttpHeaders headers = new HttpHeaders();
+            if (page.nextContinuationToken() != null) {
+                headers.set(CONTINUATION_TOKEN_HEADER, page.nextContinuationToken());
+            }
+
+            LOGGER.info("Successfully processed PSC list GET request", DataMapHolder.getLogMap());
+            return new ResponseEntity<>(page.pscList(), headers, HttpStatus.OK);
+        }
+
+        final int pageSize = itemsPerPage;
+        Optional<String> unchangedEtag = registerView ? Optional.empty()
+                : unchangedEtag(ifNoneMatch, () -> pscService.getPscListEtag(companyNumber, startIndex, pageSize));
+        if (unchangedEtag.isPresent()) {
+            return notModified(unchangedEtag.get());
+        }
         PscList pscList = pscService.retrievePscListSummaryFromDb(
                 companyNumber, startIndex, registerView, itemsPerPage);
 
         LOGGER.info("Successfully processed PSC list GET request", DataMapHolder.getLogMap());
-        return new ResponseEntity<>(pscList, HttpStatus.OK);
+        return ResponseEntity.ok()
+                .eTag(registerView || pscList == null ? null : CompanyPscService.pscListEtag(pscList))
+                .body(pscList);
+    }
+
+    private Optional<String> unchangedEtag(String ifNoneMatch, String companyNumber, String notificationId,
+            PscRoles kind) {
+        return unchangedEtag(ifNoneMatch, () -> pscService.getPscEtag(companyNumber, notificationId, kind));
+    }
+
+    /*
+    A conditional GET is answered from the current etag alone, which is read without building the response, so the PSC
+    is not read in full or transformed and the company metrics and exemptions APIs are not called. The register view
+    is not conditional as it shows dates of birth depending on the company's register, which the etags do not cover.
+     */
+    static Optional<String> unchangedEtag(String ifNoneMatch, Supplier<Optional<String>> currentEtag) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+        return currentEtag.get().filter(etag -> ETag.parse(ifNoneMatch).stream()
+                .anyMatch(match -> match.isWildcard() || match.compare(ETag.create(etag), false)));
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag) {
+        LOGGER.info("Resource not modified", DataMapHolder.getLogMap());
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
     }
-}
\ No newline at end of file
+}
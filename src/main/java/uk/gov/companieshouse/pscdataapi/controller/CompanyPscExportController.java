@@ -0,0 +1,114 @@
+package uk.gov.companieshouse.pscdataapi.controller;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.service.PscExportService;
+
+/*
+Exports are written straight to the servlet output stream on the request thread rather than returned as a body, so
+that records leave the service as they are read from the cursor. Once the first bytes are sent the status is
+committed, so a failure part way through truncates the response instead of producing an error status; consumers
+should treat a response without a trailing newline as incomplete.
+ */
+@RestController
+public class CompanyPscExportController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final String GZIP = "gzip";
+    private static final String ANY = "*";
+    private static final String QUALITY = "q=";
+
+    private final PscExportService exportService;
+
+    public CompanyPscExportController(PscExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/persons-with-significant-control/export")
+    public void exportAllPscs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        LOGGER.info("PSC export GET request received", DataMapHolder.getLogMap());
+        export(null, acceptEncoding, response);
+    }
+
+    @GetMapping("/company/{company_number}/persons-with-significant-control/export")
+    public void exportCompanyPscs(
+            @PathVariable("company_number") String companyNumber,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        DataMapHolder.get().companyNumber(companyNumber);
+        LOGGER.info("Company PSC export GET request received", DataMapHolder.getLogMap());
+        export(companyNumber, acceptEncoding, response);
+    }
+
+    private void export(String companyNumber, String acceptEncoding, HttpServletResponse response)
+            throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                : response.getOutputStream();
+        try (out) {
+            exportService.exportPscs(companyNumber, out);
+        }
+        LOGGER.info("Successfully processed PSC export GET request", DataMapHolder.getLogMap());
+    }
+
+    /*
+    Whether the Accept-Encoding header allows a gzip response: gzip, or failing that *, is listed with a quality above
+    zero. A coding without a q parameter has a quality of 1, and one whose quality cannot be read is not accepted.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP)) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals(ANY)) {
+                anyQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY.length()).trim());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.companieshouse.pscdataapi.controller;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.companieshouse.api.psc.PscList;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.service.CompanyPscService;
+import uk.gov.companieshouse.pscdataapi.service.PscListStreamService;
+
+/**
+ * Streams pages of a company's PSC list when psc.streaming.enabled is set. Only start_index pages outside the register
+ * view are streamed; continuation token pages and the register view are mapped to CompanyPscController as before.
+ */
+@RestController
+@ConditionalOnProperty(name = "psc.streaming.enabled", havingValue = "true")
+public class CompanyPscStreamingController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private final CompanyPscService pscService;
+    private final PscListStreamService pscListStreamService;
+
+    public CompanyPscStreamingController(CompanyPscService pscService, PscListStreamService pscListStreamService) {
+        this.pscService = pscService;
+        this.pscListStreamService = pscListStreamService;
+    }
+
+    /*
+    The envelope and its etag are worked out on the request thread, so the status and headers are known before the
+    body is written; the items are then written to the output stream as they are read. A failure while the items are
+    written cannot produce an error status; the body is left as unterminated JSON, which the client fails to parse
+    rather than reading it as a shorter page. The etag is worked out before any PSC on the page is read, so a PSC
+    written in between leaves the client with an older etag than its page, and its next conditional GET is answered
+    in full rather than with a 304.
+     */
+    @GetMapping(path = "/company/{company_number}/persons-with-significant-control",
+            params = {"!continuation_token", "register_view!=true"})
+    public ResponseEntity<StreamingResponseBody> streamPscListSummary(
+            @PathVariable("company_number") String companyNumber,
+            @RequestParam(value = "items_per_page", required = false, defaultValue = "25") Integer itemsPerPage,
+            @RequestParam(value = "start_index", required = false, defaultValue = "0") final Integer startIndex,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        DataMapHolder.get().companyNumber(companyNumber);
+
+        final int pageSize = Math.min(itemsPerPage, 100);
+
+        LOGGER.info("PSC list GET request received", DataMapHolder.getLogMap());
+        Optional<String> unchangedEtag = CompanyPscController.unchangedEtag(ifNoneMatch,
+                () -> pscService.getPscListEtag(companyNumber, startIndex, pageSize));
+        if (unchangedEtag.isPresent()) {
+            return CompanyPscController.notModified(unchangedEtag.get());
+        }
+        PscList envelope = pscService.retrievePscListSummaryEnvelope(companyNumber, startIndex, pageSize);
+
+        LOGGER.info("Streaming PSC list GET response", DataMapHolder.getLogMap());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(CompanyPscService.pscListEtag(envelope))
+                .body(out -> pscListStreamService.writePscList(companyNumber, envelope, out));
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.companieshouse.pscdataapi.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import org.bson.types.Decimal128;
+
+/**
+ * Moves values between MongoDB documents and Jackson as a stream of tokens, so that the models keep their Jackson
+ * mappings without being written out as a JSON string and parsed back. Values with no JSON equivalent, such as dates,
+ * travel as embedded objects and are left to the serialisers registered on the ObjectMapper.
+ */
+final class DocumentTokenBridge {
+
+    private DocumentTokenBridge() {
+    }
+
+    static JsonParser parser(Map<String, Object> source, ObjectMapper objectMapper) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        writeValue(source, buffer);
+        return buffer.asParser();
+    }
+
+    static BasicDBObject toDocument(Object source, ObjectMapper objectMapper) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(buffer, source);
+        try (JsonParser parser = buffer.asParserOnFirstToken()) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected %s to serialise to an object but found %s".formatted(
+                        source.getClass().getSimpleName(), parser.currentToken()));
+            }
+            return readObject(parser);
+        }
+    }
+
+    private static void writeValue(Object value, JsonGenerator generator) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeFieldName(entry.getKey().toString());
+                writeValue(entry.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof Collection<?> values) {
+            generator.writeStartArray();
+            for (Object element : values) {
+                writeValue(element, generator);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Boolean flag) {
+            generator.writeBoolean(flag);
+        } else if (value instanceof Integer number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Long number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Double number) {
+            generator.writeNumber(number);
+        } else if (value instanceof Decimal128 number) {
+            generator.writeNumber(number.bigDecimalValue());
+        } else {
+            generator.writeEmbeddedObject(value);
+        }
+    }
+
+    private static BasicDBObject readObject(JsonParser parser) throws IOException {
+        BasicDBObject object = new BasicDBObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            object.put(name, readValue(parser));
+        }
+        return object;
+    }
+
+    private static BasicDBList readArray(JsonParser parser) throws IOException {
+        BasicDBList array = new BasicDBList();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            array.add(readValue(parser));
+        }
+        return array;
+    }
+
+    /*
+    Integral numbers are narrowed to int32 when they fit, as BasicDBObject.parse did, so that documents are stored
+    with the same BSON types as before.
+     */
+    private static Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case START_OBJECT -> readObject(parser);
+            case START_ARRAY -> readArray(parser);
+            case VALUE_STRING -> parser.getText();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> switch (parser.getNumberType()) {
+                case BIG_INTEGER -> new Decimal128(new BigDecimal(parser.getBigIntegerValue()));
+                default -> {
+                    long number = parser.getLongValue();
+                    if ((int) number == number) {
+                        yield (int) number;
+                    }
+                    yield number;
+                }
+            };
+            case VALUE_NUMBER_FLOAT -> parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL
+                    ? new Decimal128(parser.getDecimalValue())
+                    : parser.getDoubleValue();
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> throw new IOException("Unexpected token %s".formatted(parser.currentToken()));
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package uk.gov.companieshouse.pscdataapi.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.convert.ReadingConverter;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+
+@ReadingConverter
+public class PscNotificationReadConverter extends ReadConverter<PscNotification> {
+
+    public PscNotificationReadConverter(ObjectMapper objectMapper, Class<PscNotification> objectClass) {
+        super(objectMapper, objectClass);
+    }
+}
@@ -2,8 +2,8 @@ package uk.gov.companieshouse.pscdataapi.converter;
 
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import org.bson.Document;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.ReadingConverter;
@@ -27,8 +27,9 @@ public class ReadConverter<T> implements Converter<Document, T> {
 
     public T convert(Document source) {
         try {
-            return this.objectMapper.readValue(source.toJson(), this.objectClass);
-        } catch (JsonProcessingException ex) {
+            return this.objectMapper.readValue(DocumentTokenBridge.parser(source, this.objectMapper),
+                    this.objectClass);
+        } catch (IOException ex) {
             final String msg = "Failed to convert MongoDB document to Java object";
             LOGGER.info(msg, DataMapHolder.getLogMap());
             throw new SerDesException(msg, ex);
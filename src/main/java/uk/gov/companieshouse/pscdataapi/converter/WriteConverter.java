@@ -2,9 +2,9 @@ package uk.gov.companieshouse.pscdataapi.converter;
 
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.BasicDBObject;
+import java.io.IOException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.WritingConverter;
 import uk.gov.companieshouse.logging.Logger;
@@ -25,8 +25,8 @@ public class WriteConverter<S> implements Converter<S, BasicDBObject> {
 
     public BasicDBObject convert(S source) {
         try {
-            return BasicDBObject.parse(this.objectMapper.writeValueAsString(source));
-        } catch (JsonProcessingException ex) {
+            return DocumentTokenBridge.toDocument(source, this.objectMapper);
+        } catch (IOException ex) {
             final String msg = "Failed to convert Java object to MongoDB document";
             LOGGER.info(msg, DataMapHolder.getLogMap());
             throw new SerDesException(msg, ex);
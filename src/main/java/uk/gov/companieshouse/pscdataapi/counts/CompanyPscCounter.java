@@ -0,0 +1,127 @@
+package uk.gov.companieshouse.pscdataapi.counts;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.ACTIVE;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.CEASED;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.KINDS;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.UPDATED_AT;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.VERSION;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+/**
+ * Keeps each company's {@link CompanyPscCounts} in step with its PSCs. Changes are recorded in the transaction that
+ * writes the PSCs, as one $inc per company, so the counts commit or roll back with the PSCs they describe. A change
+ * that leaves a PSC in the same state and kind, such as an update to its name, writes nothing.
+ *
+ * <p>Counts are only maintained while psc.counts.materialised.enabled is set. Every write to a company's PSCs updates
+ * the same counts document, so concurrent writes for a company conflict and are retried, which is only worth paying
+ * for once the counts are read. The counts are therefore missing or stale when the flag is first turned on, and
+ * {@link CompanyPscCountsReconciler} must be scheduled, with psc.counts.reconcile.cron, to run before and after it
+ * is; the run after corrects any company written between the first run and the flag taking effect.</p>
+ */
+@Component
+public class CompanyPscCounter {
+
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public CompanyPscCounter(MongoTemplate mongoTemplate,
+            @Value("${psc.counts.materialised.enabled}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    public Optional<CompanyPscCounts> find(String companyNumber) {
+        return Optional.ofNullable(mongoTemplate.findById(companyNumber, CompanyPscCounts.class));
+    }
+
+    public void record(Change change) {
+        record(List.of(change));
+    }
+
+    /**
+     * Applies the given changes to the counts, with a single upsert when they are all for one company and a single
+     * unordered bulk write otherwise. Nothing is written while the counts are not maintained.
+     *
+     * @param changes the PSCs written, each with its stored state before and after the write.
+     */
+    public void record(Collection<Change> changes) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Map<String, Integer>> increments = new LinkedHashMap<>();
+        for (Change change : changes) {
+            Map<String, Integer> companyIncrements = increments.computeIfAbsent(change.companyNumber(),
+                    companyNumber -> new HashMap<>());
+            count(change.previous(), -1, companyIncrements);
+            count(change.current(), 1, companyIncrements);
+        }
+        increments.values().forEach(companyIncrements -> companyIncrements.values().removeIf(value -> value == 0));
+        increments.values().removeIf(Map::isEmpty);
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        if (increments.size() == 1) {
+            Map.Entry<String, Map<String, Integer>> only = increments.entrySet().iterator().next();
+            mongoTemplate.upsert(query(where(ID).is(only.getKey())), toUpdate(only.getValue(), now),
+                    CompanyPscCounts.class);
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, CompanyPscCounts.class);
+        increments.forEach((companyNumber, companyIncrements) -> bulkOperations.upsert(
+                query(where(ID).is(companyNumber)), toUpdate(companyIncrements, now)));
+        bulkOperations.execute();
+    }
+
+    static String stateOf(boolean ceased) {
+        return ceased ? CEASED : ACTIVE;
+    }
+
+    private static void count(PscDocument document, int increment, Map<String, Integer> increments) {
+        if (document == null) {
+            return;
+        }
+        PscData data = document.getData();
+        increments.merge(stateOf(data != null && data.getCeasedOn() != null), increment, Integer::sum);
+        if (data != null && data.getKind() != null) {
+            increments.merge(KINDS + "." + data.getKind(), increment, Integer::sum);
+        }
+    }
+
+    private static Update toUpdate(Map<String, Integer> increments, Instant now) {
+        Update update = new Update();
+        increments.forEach(update::inc);
+        return update.inc(VERSION, 1).set(UPDATED_AT, now);
+    }
+
+    /**
+     * A PSC written for a company, as stored before and after the write. Previous is null for an insert and current
+     * is null for a delete. Only the kind and ceased_on of each are read.
+     */
+    public record Change(String companyNumber, PscDocument previous, PscDocument current) {
+
+        public static Change deleted(PscDocument document) {
+            return new Change(document.getCompanyNumber(), document, null);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.companieshouse.pscdataapi.counts;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * The number of PSCs a company has, kept up to date by {@link CompanyPscCounter} in the transaction that changes the
+ * PSCs and checked against delta_company_pscs by {@link CompanyPscCountsReconciler}. A PSC is ceased when it has a
+ * ceased_on date and active otherwise.
+ */
+@Document(collection = "delta_company_psc_counts")
+public class CompanyPscCounts {
+
+    static final String ACTIVE = "active";
+    static final String CEASED = "ceased";
+    static final String KINDS = "kinds";
+    static final String VERSION = "version";
+    static final String UPDATED_AT = "updated_at";
+
+    @Id
+    private String companyNumber;
+
+    @Field(ACTIVE)
+    private int active;
+
+    @Field(CEASED)
+    private int ceased;
+
+    @Field(KINDS)
+    private Map<String, Integer> kinds = new HashMap<>();
+
+    @Field(VERSION)
+    private long version;
+
+    @Field(UPDATED_AT)
+    private Instant updatedAt;
+
+    public int getTotal() {
+        return active + ceased;
+    }
+
+    public String getCompanyNumber() {
+        return companyNumber;
+    }
+
+    public void setCompanyNumber(String companyNumber) {
+        this.companyNumber = companyNumber;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(int active) {
+        this.active = active;
+    }
+
+    public int getCeased() {
+        return ceased;
+    }
+
+    public void setCeased(int ceased) {
+        this.ceased = ceased;
+    }
+
+    public Map<String, Integer> getKinds() {
+        return kinds;
+    }
+
+    public void setKinds(Map<String, Integer> kinds) {
+        this.kinds = kinds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
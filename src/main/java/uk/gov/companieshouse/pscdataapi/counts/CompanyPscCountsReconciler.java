@@ -0,0 +1,230 @@
+package uk.gov.companieshouse.pscdataapi.counts;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.ACTIVE;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.CEASED;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.KINDS;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.UPDATED_AT;
+import static uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts.VERSION;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+/**
+ * Recomputes the PSC counts from delta_company_pscs and corrects any that have drifted. The PSCs are streamed once in
+ * company_number order, which the list index serves, and compared with the stored counts a batch of companies at a
+ * time. A company that looks drifted is recounted on its own before it is corrected, and the correction only applies
+ * if the counts have not been written since they were read, so a PSC written while the job runs is not miscounted.
+ */
+@Component
+public class CompanyPscCountsReconciler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final String ID = "_id";
+    private static final String COMPANY_NUMBER = "company_number";
+    private static final String DATA = "data";
+    private static final String KIND = "kind";
+    private static final String CEASED_ON = "ceased_on";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public CompanyPscCountsReconciler(MongoTemplate mongoTemplate,
+            @Value("${psc.counts.reconcile.batch-size}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${psc.counts.reconcile.cron}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            LOGGER.error("Unable to reconcile PSC counts", ex, DataMapHolder.getLogMap());
+        }
+    }
+
+    /**
+     * Compares the stored counts of every company with its PSCs and corrects those that differ.
+     *
+     * @return the number of companies checked, found drifted and corrected.
+     */
+    public Report reconcile() {
+        Query pscs = new Query(where(COMPANY_NUMBER).ne(null)).with(Sort.by(COMPANY_NUMBER));
+        pscs.fields().include(COMPANY_NUMBER, DATA + "." + KIND, DATA + "." + CEASED_ON);
+        pscs.cursorBatchSize(batchSize);
+
+        Progress progress = new Progress();
+        Map<String, CompanyPscCounts> batch = new LinkedHashMap<>();
+        String previousLast = null;
+        String last = null;
+        try (Stream<Document> documents = mongoTemplate.stream(pscs, Document.class,
+                mongoTemplate.getCollectionName(PscDocument.class))) {
+            for (Document psc : (Iterable<Document>) documents::iterator) {
+                final String companyNumber = psc.getString(COMPANY_NUMBER);
+                if (!companyNumber.equals(last) && batch.size() == batchSize) {
+                    check(batch, previousLast, last, progress);
+                    batch.clear();
+                    previousLast = last;
+                }
+                tally(psc, batch.computeIfAbsent(companyNumber, CompanyPscCountsReconciler::emptyCounts));
+                last = companyNumber;
+            }
+        }
+        // The last range is open so that counts left behind for companies with no PSCs are checked too
+        check(batch, previousLast, null, progress);
+
+        Report report = new Report(progress.checked, progress.drifted, progress.corrected);
+        LOGGER.info("Reconciled PSC counts for [%d] companies; [%d] drifted, [%d] corrected".formatted(
+                report.checked(), report.drifted(), report.corrected()), DataMapHolder.getLogMap());
+        return report;
+    }
+
+    /*
+    Reads the stored counts for the companies in (after, to], which covers both the companies in the batch and any
+    stored counts for companies between them that no longer have PSCs.
+     */
+    private void check(Map<String, CompanyPscCounts> batch, String after, String to, Progress progress) {
+        Criteria range = where(ID);
+        if (after != null) {
+            range.gt(after);
+        }
+        if (to != null) {
+            range.lte(to);
+        }
+        Query storedQuery = after == null && to == null ? new Query() : query(range);
+        Map<String, CompanyPscCounts> stored = new HashMap<>();
+        mongoTemplate.find(storedQuery, CompanyPscCounts.class)
+                .forEach(counts -> stored.put(counts.getCompanyNumber(), counts));
+
+        batch.forEach((companyNumber, actual) -> {
+            progress.checked++;
+            if (!sameCounts(stored.get(companyNumber), actual)) {
+                correct(companyNumber, progress);
+            }
+        });
+        stored.forEach((companyNumber, counts) -> {
+            if (!batch.containsKey(companyNumber) && !sameCounts(counts, emptyCounts(companyNumber))) {
+                progress.checked++;
+                correct(companyNumber, progress);
+            }
+        });
+    }
+
+    private void correct(String companyNumber, Progress progress) {
+        CompanyPscCounts stored = mongoTemplate.findById(companyNumber, CompanyPscCounts.class);
+        CompanyPscCounts actual = recount(companyNumber);
+        if (sameCounts(stored, actual)) {
+            return;
+        }
+        progress.drifted++;
+
+        Map<String, Object> logMap = DataMapHolder.getLogMap();
+        logMap.put("company_number", companyNumber);
+        LOGGER.error("PSC counts drifted; stored active [%d] ceased [%d], actual active [%d] ceased [%d]".formatted(
+                stored == null ? 0 : stored.getActive(), stored == null ? 0 : stored.getCeased(),
+                actual.getActive(), actual.getCeased()), logMap);
+
+        Update update = new Update()
+                .set(ACTIVE, actual.getActive())
+                .set(CEASED, actual.getCeased())
+                .set(KINDS, actual.getKinds())
+                .inc(VERSION, 1)
+                .set(UPDATED_AT, Instant.now());
+        try {
+            boolean applied = stored == null
+                    ? mongoTemplate.upsert(query(where(ID).is(companyNumber).and(VERSION).exists(false)), update,
+                            CompanyPscCounts.class).getUpsertedId() != null
+                    : mongoTemplate.updateFirst(query(where(ID).is(companyNumber).and(VERSION).is(stored.getVersion())),
+                            update, CompanyPscCounts.class).getModifiedCount() > 0;
+            if (applied) {
+                progress.corrected++;
+            } else {
+                LOGGER.info("PSC counts changed while reconciling; left for the next run", logMap);
+            }
+        } catch (DuplicateKeyException ex) {
+            LOGGER.info("PSC counts created while reconciling; left for the next run", logMap);
+        }
+    }
+
+    private CompanyPscCounts recount(String companyNumber) {
+        Query pscs = query(where(COMPANY_NUMBER).is(companyNumber));
+        pscs.fields().include(DATA + "." + KIND, DATA + "." + CEASED_ON);
+        CompanyPscCounts counts = emptyCounts(companyNumber);
+        mongoTemplate.find(pscs, Document.class, mongoTemplate.getCollectionName(PscDocument.class))
+                .forEach(psc -> tally(psc, counts));
+        return counts;
+    }
+
+    private static void tally(Document psc, CompanyPscCounts counts) {
+        Document data = psc.get(DATA, Document.class);
+        if (data != null && data.get(CEASED_ON) != null) {
+            counts.setCeased(counts.getCeased() + 1);
+        } else {
+            counts.setActive(counts.getActive() + 1);
+        }
+        if (data != null && data.getString(KIND) != null) {
+            counts.getKinds().merge(data.getString(KIND), 1, Integer::sum);
+        }
+    }
+
+    private static CompanyPscCounts emptyCounts(String companyNumber) {
+        CompanyPscCounts counts = new CompanyPscCounts();
+        counts.setCompanyNumber(companyNumber);
+        return counts;
+    }
+
+    /*
+    Kinds counted down to zero are kept in the stored counts, so they compare equal to kinds that are absent.
+     */
+    static boolean sameCounts(CompanyPscCounts stored, CompanyPscCounts actual) {
+        if (stored == null) {
+            return actual.getTotal() == 0;
+        }
+        return stored.getActive() == actual.getActive()
+                && stored.getCeased() == actual.getCeased()
+                && Objects.equals(nonZero(stored.getKinds()), nonZero(actual.getKinds()));
+    }
+
+    private static Map<String, Integer> nonZero(Map<String, Integer> kinds) {
+        Map<String, Integer> nonZero = new HashMap<>();
+        if (kinds != null) {
+            kinds.forEach((kind, count) -> {
+                if (count != null && count != 0) {
+                    nonZero.put(kind, count);
+                }
+            });
+        }
+        return nonZero;
+    }
+
+    private static final class Progress {
+
+        private int checked;
+        private int drifted;
+        private int corrected;
+    }
+
+    public record Report(int checked, int drifted, int corrected) {
+    }
+}
@@ -4,25 +4,35 @@ import java.util.Map;
 import uk.gov.companieshouse.logging.util.DataMap;
 import uk.gov.companieshouse.logging.util.DataMap.Builder;
 
+/*
+Per-request logging context. The context is bound to the thread serving the request, which is a virtual thread when
+spring.threads.virtual.enabled is set, and is carried onto executor threads with propagate. The request ID is held
+alongside the builder so that reading it, which happens for every downstream API request sent, does not build a log
+map. Nothing is allocated for threads that never log, which matters once every request and task has its own thread.
+ */
 public class DataMapHolder {
 
     public static final String UNINITIALISED = "uninitialised";
-    private static final ThreadLocal<DataMap.Builder> DATAMAP_BUILDER
-            = ThreadLocal.withInitial(() -> new Builder().requestId(UNINITIALISED));
+    private static final ThreadLocal<Context> CONTEXT = new ThreadLocal<>();
 
     public static void initialise(String requestId) {
-        DATAMAP_BUILDER.get().requestId(requestId);
+        CONTEXT.set(new Context(requestId, get().requestId(requestId)));
     }
 
     private DataMapHolder() {
     }
 
     public static void clear() {
-        DATAMAP_BUILDER.remove();
+        CONTEXT.remove();
     }
 
     public static DataMap.Builder get() {
-        return DATAMAP_BUILDER.get();
+        Context context = CONTEXT.get();
+        if (context == null) {
+            context = new Context(UNINITIALISED, new Builder().requestId(UNINITIALISED));
+            CONTEXT.set(context);
+        }
+        return context.builder();
     }
 
     /**
@@ -31,12 +41,43 @@ public class DataMapHolder {
      * @return Map
      */
     public static Map<String, Object> getLogMap() {
-        return DATAMAP_BUILDER.get()
+        return get()
                 .build()
                 .getLogMap();
     }
 
     public static String getRequestId() {
-        return (String) getLogMap().get("request_id");
+        Context context = CONTEXT.get();
+        return context == null ? UNINITIALISED : context.requestId();
+    }
+
+    /**
+     * Wrap a task so that it logs with the calling thread's request context when run on another thread. The context is
+     * removed from the executing thread once the task completes. Tasks run on the calling thread itself, for example
+     * by a caller-runs rejection policy, are left untouched.
+     *
+     * @param task the task to wrap
+     * @return Runnable
+     */
+    public static Runnable propagate(Runnable task) {
+        final Context context = CONTEXT.get();
+        final Thread caller = Thread.currentThread();
+        return () -> {
+            if (Thread.currentThread() == caller) {
+                task.run();
+                return;
+            }
+            if (context != null) {
+                CONTEXT.set(context);
+            }
+            try {
+                task.run();
+            } finally {
+                CONTEXT.remove();
+            }
+        };
+    }
+
+    private record Context(String requestId, DataMap.Builder builder) {
     }
 }
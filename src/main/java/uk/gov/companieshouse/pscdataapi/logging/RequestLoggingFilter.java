@@ -11,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -24,7 +25,7 @@ import uk.gov.companieshouse.logging.util.RequestLogger;
 public class RequestLoggingFilter extends OncePerRequestFilter implements RequestLogger {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
-    private static final String HEALTHCHECK_PATH = "/healthcheck"; // NOSONAR
+    private static final Set<String> UNLOGGED_PATHS = Set.of("/healthcheck", "/prometheus"); // NOSONAR
 
     @Override
     protected void doFilterInternal(@Nonnull HttpServletRequest request,
@@ -47,6 +48,6 @@ public class RequestLoggingFilter extends OncePerRequestFilter implements Reques
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        return HEALTHCHECK_PATH.equals(request.getRequestURI());
+        return UNLOGGED_PATHS.contains(request.getRequestURI());
     }
 }
@@ -0,0 +1,99 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
+
+/**
+ * Times and traces calls to downstream APIs. Each call holds an HTTP connection for its duration, so the active count
+ * per downstream in psc.downstream.in_flight, compared with the HTTP_CLIENT_MAX_IDLE_CONNECTIONS_PER_HOST the
+ * keep-alive pool is sized to, shows whether calls need more connections than the pool keeps. Completed calls are
+ * recorded in psc.downstream.requests by downstream and by the HTTP status returned, or "error" when the call failed
+ * without one. Each call is also traced in a client span, named after the downstream, which is current until the call
+ * is stopped and carries the HTTP status as its result. The span is started here rather than with @WithSpan so that it
+ * wraps only the HTTP request, and is created however the method making the call is reached.
+ */
+@Component
+public class DownstreamCallMetrics {
+
+    public static final String METRICS_API = "company-metrics-api";
+    public static final String EXEMPTIONS_API = "company-exemptions-api";
+    public static final String CHS_KAFKA_API = "chs-kafka-api";
+
+    private static final String IN_FLIGHT = "psc.downstream.in_flight";
+    private static final String REQUESTS = "psc.downstream.requests";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    public DownstreamCallMetrics(MeterRegistry meterRegistry, OpenTelemetry openTelemetry) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = openTelemetry.getTracer(DownstreamCallMetrics.class.getName());
+    }
+
+    /**
+     * Start timing and tracing a call to a downstream API. The returned call must be stopped, on the same thread,
+     * when the call completes, whether or not it succeeded.
+     *
+     * @param downstream the downstream API name
+     * @return the running call
+     */
+    public Call start(String downstream) {
+        LongTaskTimer.Sample inFlight = LongTaskTimer.builder(IN_FLIGHT)
+                .description("Downstream API calls in flight")
+                .tag("downstream", downstream)
+                .register(meterRegistry)
+                .start();
+        Span span = tracer.spanBuilder(downstream)
+                .setSpanKind(SpanKind.CLIENT)
+                .startSpan();
+        return new Call(downstream, inFlight, Timer.start(meterRegistry), span, span.makeCurrent());
+    }
+
+    public final class Call {
+
+        private final String downstream;
+        private final LongTaskTimer.Sample inFlight;
+        private final Timer.Sample sample;
+        private final Span span;
+        private final Scope scope;
+        private String status = ERROR;
+
+        private Call(String downstream, LongTaskTimer.Sample inFlight, Timer.Sample sample, Span span, Scope scope) {
+            this.downstream = downstream;
+            this.inFlight = inFlight;
+            this.sample = sample;
+            this.span = span;
+            this.scope = scope;
+        }
+
+        /**
+         * Record the HTTP status the downstream API responded with, and add it to the call's span as its result.
+         *
+         * @param statusCode the status code
+         */
+        public void status(int statusCode) {
+            this.status = String.valueOf(statusCode);
+            PscSpanAttributes.result(statusCode);
+        }
+
+        public void stop() {
+            inFlight.stop();
+            sample.stop(Timer.builder(REQUESTS)
+                    .description("Downstream API calls")
+                    .tag("downstream", downstream)
+                    .tag("status", status)
+                    .register(meterRegistry));
+            scope.close();
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the size of request and response bodies in psc.http.payload.size, by direction, method and the endpoint's
+ * URI template, so the distribution of delta sizes received and of page sizes served can be followed per endpoint.
+ * Request sizes are taken from the Content-Length header and response sizes are counted as the body is written to
+ * the output stream, so streamed responses are measured without being buffered.
+ */
+public class PayloadSizeMetricsFilter extends OncePerRequestFilter {
+
+    private static final String PAYLOAD_SIZE = "psc.http.payload.size";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final Set<String> ACTUATOR_PATHS = Set.of("/healthcheck", "/prometheus"); // NOSONAR
+
+    private final MeterRegistry meterRegistry;
+
+    public PayloadSizeMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain) throws ServletException, IOException {
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            final String uri = pattern == null ? UNKNOWN : pattern.toString();
+            if (request.getContentLengthLong() >= 0) {
+                record("request", request.getMethod(), uri, request.getContentLengthLong());
+            }
+            if (countingResponse.outputStream != null) {
+                record("response", request.getMethod(), uri, countingResponse.outputStream.count);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return ACTUATOR_PATHS.contains(request.getRequestURI());
+    }
+
+    private void record(String direction, String method, String uri, long bytes) {
+        DistributionSummary.builder(PAYLOAD_SIZE)
+                .description("HTTP request and response body sizes")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(@Nonnull byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts deltas rejected because a later delta for the same PSC is already stored, in psc.stale_deltas by the write
+ * operation that received them and by PSC kind. A rising count shows deltas arriving out of order.
+ */
+@Component
+public class StaleDeltaMetrics {
+
+    public static final String UPSERT = "upsert";
+    public static final String BATCH_UPSERT = "batch_upsert";
+    public static final String DELETE = "delete";
+    public static final String COMPANY_DELETE = "company_delete";
+
+    private static final String STALE_DELTAS = "psc.stale_deltas";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public StaleDeltaMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String operation, String kind) {
+        Counter.builder(STALE_DELTAS)
+                .description("Stale deltas rejected")
+                .tag("operation", operation)
+                .tag("kind", kind == null ? UNKNOWN : kind)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+/**
+ * Times the transformation of stored PSCs into API responses in psc.transform, by transformer method and by the kind
+ * of the PSC transformed.
+ */
+@Aspect
+@Component
+public class TransformMetricsAspect {
+
+    private static final String TRANSFORM = "psc.transform";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public TransformMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer"
+            + ".transformPscDocTo*(..)) && args(pscDocument, ..)")
+    public Object timeTransform(ProceedingJoinPoint joinPoint, PscDocument pscDocument) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(Timer.builder(TRANSFORM)
+                    .description("PSC document transformations")
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("kind", kindOf(pscDocument))
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String kindOf(PscDocument pscDocument) {
+        if (pscDocument == null || pscDocument.getData() == null || pscDocument.getData().getKind() == null) {
+            return UNKNOWN;
+        }
+        return pscDocument.getData().getKind();
+    }
+}
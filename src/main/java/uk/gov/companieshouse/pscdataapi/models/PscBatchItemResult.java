@@ -0,0 +1,26 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public record PscBatchItemResult(@JsonProperty("index") int index,
+                                 @JsonProperty("notification_id") String notificationId,
+                                 @JsonProperty("status") Status status) {
+
+    public enum Status {
+        ACCEPTED("accepted"),
+        STALE("stale"),
+        INVALID("invalid");
+
+        private final String value;
+
+        Status(String value) {
+            this.value = value;
+        }
+
+        @JsonValue
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record PscBulkDeleteResult(@JsonProperty("deleted_count") int deletedCount,
+                                  @JsonProperty("stale_notification_ids") List<String> staleNotificationIds) {
+}
@@ -3,11 +3,18 @@ package uk.gov.companieshouse.pscdataapi.models;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Objects;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @Document(collection = "delta_company_pscs")
+@CompoundIndex(name = "company_number_list_order",
+        def = "{'company_number': 1, 'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1, '_id': 1}")
+@CompoundIndex(name = "company_number_ceased_on", def = "{'company_number': 1, 'data.ceased_on': -1}",
+        partialFilter = "{'data.ceased_on': {'$exists': true}}")
+@CompoundIndex(name = "psc_id_list_order",
+        def = "{'psc_id': 1, 'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1, '_id': 1}")
 public class PscDocument {
 
     @Id
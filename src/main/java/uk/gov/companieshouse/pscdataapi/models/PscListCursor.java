@@ -0,0 +1,66 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Position in the PSC list sort order (data.notified_on descending, data.ceased_on descending, created.at ascending,
+ * _id ascending) of the last PSC on a page. Encoded as an opaque, URL-safe continuation token so that clients can
+ * request the next page without the service skipping over the pages before it.
+ */
+public record PscListCursor(LocalDate notifiedOn, LocalDate ceasedOn, LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+    private static final int FIELDS = 4;
+
+    public static PscListCursor after(PscDocument document) {
+        Optional<PscData> data = Optional.ofNullable(document.getData());
+        return new PscListCursor(
+                data.map(PscData::getNotifiedOn).orElse(null),
+                data.map(PscData::getCeasedOn).orElse(null),
+                Optional.ofNullable(document.getCreated()).map(Created::getAt).orElse(null),
+                document.getId());
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode()}.
+     *
+     * @param token the continuation token
+     * @return PscListCursor
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static PscListCursor decode(String token) {
+        try {
+            String[] fields = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, FIELDS);
+            if (fields.length != FIELDS || fields[3].isEmpty()) {
+                throw new IllegalArgumentException("Malformed continuation token");
+            }
+            return new PscListCursor(
+                    parse(fields[0], LocalDate::parse),
+                    parse(fields[1], LocalDate::parse),
+                    parse(fields[2], LocalDateTime::parse),
+                    fields[3]);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Malformed continuation token", ex);
+        }
+    }
+
+    public String encode() {
+        String value = String.join(SEPARATOR, format(notifiedOn), format(ceasedOn), format(createdAt), id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String format(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value.isEmpty() ? null : parser.apply(value);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import uk.gov.companieshouse.api.psc.PscList;
+
+/**
+ * A page of the PSC list read with a continuation token, together with the token for the following page, which is
+ * null on the last page.
+ */
+public record PscListPage(PscList pscList, String nextContinuationToken) {
+}
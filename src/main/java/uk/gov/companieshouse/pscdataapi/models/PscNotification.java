@@ -0,0 +1,36 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The fields of a stored PSC that the notifications endpoint emits. Notifications are read into this rather than a
+ * {@link PscDocument}, so each one decodes only these fields and never the rest of the sensitive data, such as the
+ * usual residential address. The sensitive data is only read for the first notification, for the date of birth.
+ */
+public record PscNotification(@JsonProperty("company_number") String companyNumber,
+                              @JsonProperty("data") Data data,
+                              @JsonProperty("sensitive_data") SensitiveData sensitiveData) {
+
+    public record Data(@JsonProperty("ceased_on") LocalDate ceasedOn,
+                       @JsonProperty("etag") String etag,
+                       @JsonProperty("address") Address address,
+                       @JsonProperty("name") String name,
+                       @JsonProperty("nationality") String nationality,
+                       @JsonProperty("country_of_residence") String countryOfResidence,
+                       @JsonProperty("kind") String kind,
+                       @JsonProperty("notified_on") LocalDate notifiedOn,
+                       @JsonProperty("is_sanctioned") Boolean sanctioned,
+                       @JsonProperty("natures_of_control") List<String> naturesOfControl,
+                       @JsonProperty("name_elements") NameElements nameElements,
+                       @JsonProperty("links") Links links,
+                       @JsonProperty("principal_office_address") Address principalOfficeAddress,
+                       @JsonProperty("identification") PscIdentification identification,
+                       @JsonProperty("identity_verification_details")
+                       PscIdentityVerificationDetails identityVerificationDetails) {
+    }
+
+    public record SensitiveData(@JsonProperty("date_of_birth") DateOfBirth dateOfBirth) {
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import java.util.List;
+
+/**
+ * A page of a company's register view PSCs together with the number of active and ceased PSCs in the whole register
+ * view, not just on the page.
+ */
+public record PscRegisterViewPage(List<PscDocument> documents, int activeCount, int ceasedCount) {
+
+    public PscRegisterViewPage withDocuments(List<PscDocument> documents) {
+        return new PscRegisterViewPage(documents, activeCount, ceasedCount);
+    }
+}
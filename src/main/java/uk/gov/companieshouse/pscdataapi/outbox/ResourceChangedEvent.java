@@ -0,0 +1,209 @@
+package uk.gov.companieshouse.pscdataapi.outbox;
+
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
+
+/**
+ * A resource-changed event waiting to be published to chs-kafka-api. Events are written in the same transaction as
+ * the PSC change they describe and are removed once published. Events that could not be published within the
+ * maximum number of attempts are parked: they are kept with a parked_at time and no longer retried, and expire 30
+ * days after they were parked. A parked event holds back the later events for its notification ID until it expires
+ * or is removed or released for retry by hand. Delete events carry only the deleted_data to be published.
+ */
+@Document(collection = "delta_company_pscs_outbox")
+@CompoundIndex(name = "notification_id_created_at", def = "{'notification_id': 1, 'created_at': 1, '_id': 1}")
+@CompoundIndex(name = "next_attempt_at_created_at", def = "{'next_attempt_at': 1, 'created_at': 1, '_id': 1}")
+public class ResourceChangedEvent {
+
+    static final String CHANGED = "changed";
+    static final String DELETED = "deleted";
+
+    @Id
+    private String id;
+
+    @Field("event_type")
+    private String eventType;
+
+    @Field("company_number")
+    private String companyNumber;
+
+    @Field("notification_id")
+    private String notificationId;
+
+    @Field("kind")
+    private String kind;
+
+    @Field("delta_at")
+    private String deltaAt;
+
+    @Field("context_id")
+    private String contextId;
+
+    @Field("deleted_data")
+    private Map<String, Object> deletedData;
+
+    @Field("created_at")
+    private Instant createdAt;
+
+    @Field("attempts")
+    private int attempts;
+
+    @Field("next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Field("locked_until")
+    private Instant lockedUntil;
+
+    @Field("parked_at")
+    @Indexed(name = "parked_at_ttl", expireAfter = "30d")
+    private Instant parkedAt;
+
+    public static ResourceChangedEvent changed(String companyNumber, String notificationId, String kind) {
+        ResourceChangedEvent event = pending(CHANGED, companyNumber, notificationId, kind);
+        event.setContextId(DataMapHolder.getRequestId());
+        return event;
+    }
+
+    public static ResourceChangedEvent deleted(PscDeleteRequest deleteRequest, Map<String, Object> deletedData) {
+        ResourceChangedEvent event = pending(DELETED, deleteRequest.companyNumber(), deleteRequest.notificationId(),
+                deleteRequest.kind());
+        event.setContextId(deleteRequest.contextId());
+        event.setDeltaAt(deleteRequest.deltaAt());
+        event.setDeletedData(deletedData);
+        return event;
+    }
+
+    private static ResourceChangedEvent pending(String eventType, String companyNumber, String notificationId,
+            String kind) {
+        final Instant now = Instant.now();
+        ResourceChangedEvent event = new ResourceChangedEvent();
+        event.setEventType(eventType);
+        event.setCompanyNumber(companyNumber);
+        event.setNotificationId(notificationId);
+        event.setKind(kind);
+        event.setCreatedAt(now);
+        event.setNextAttemptAt(now);
+        return event;
+    }
+
+    PscDeleteRequest toDeleteRequest() {
+        return PscDeleteRequest.builder()
+                .companyNumber(companyNumber)
+                .notificationId(notificationId)
+                .contextId(contextId)
+                .kind(kind)
+                .deltaAt(deltaAt)
+                .build();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getCompanyNumber() {
+        return companyNumber;
+    }
+
+    public void setCompanyNumber(String companyNumber) {
+        this.companyNumber = companyNumber;
+    }
+
+    public String getNotificationId() {
+        return notificationId;
+    }
+
+    public void setNotificationId(String notificationId) {
+        this.notificationId = notificationId;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getDeltaAt() {
+        return deltaAt;
+    }
+
+    public void setDeltaAt(String deltaAt) {
+        this.deltaAt = deltaAt;
+    }
+
+    public String getContextId() {
+        return contextId;
+    }
+
+    public void setContextId(String contextId) {
+        this.contextId = contextId;
+    }
+
+    public Map<String, Object> getDeletedData() {
+        return deletedData;
+    }
+
+    public void setDeletedData(Map<String, Object> deletedData) {
+        this.deletedData = deletedData;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public Instant getParkedAt() {
+        return parkedAt;
+    }
+
+    public void setParkedAt(Instant parkedAt) {
+        this.parkedAt = parkedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package uk.gov.companieshouse.pscdataapi.outbox;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records resource-changed events for later publishing by {@link ResourceChangedRelay}. Called within the
+ * transaction that changes the PSC, so an event exists if and only if its change was committed.
+ */
+@Component
+public class ResourceChangedOutbox {
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public ResourceChangedOutbox(MongoTemplate mongoTemplate,
+            @Value("${psc.outbox.enqueue.batch-size}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void enqueue(ResourceChangedEvent event) {
+        mongoTemplate.insert(event);
+    }
+
+    /**
+     * Records the events with one insert per batch, so that the events for a large change, each of which may carry
+     * deleted_data, are not written in a single command.
+     *
+     * @param events the events to record
+     */
+    public void enqueueAll(List<ResourceChangedEvent> events) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            mongoTemplate.insert(events.subList(from, Math.min(from + batchSize, events.size())),
+                    ResourceChangedEvent.class);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package uk.gov.companieshouse.pscdataapi.outbox;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.api.ChsKafkaApiService;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+/**
+ * Publishes outbox events to chs-kafka-api in the background. Events for the same notification ID are published in
+ * the order they were written: only the oldest pending event for a notification ID is eligible, so a failing event
+ * holds back later ones until it succeeds. Failed events are retried with exponential backoff, and parked once they
+ * have failed the maximum number of attempts, which is logged and counted in psc.outbox.parked_events. A parked event
+ * goes on holding back later events for its notification ID, so they are never published out of order. Each event is claimed with a lease before publishing, so several instances can relay
+ * from the same collection.
+ *
+ * <p>Each run relays batches until one comes back short, so a backlog is drained without waiting for the next run.
+ * The events of a batch are for different notification IDs and are published concurrently on the pscListExecutor.</p>
+ */
+@Component
+public class ResourceChangedRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private static final String ID = "_id";
+    private static final String LOCKED_UNTIL = "locked_until";
+    private static final String NEXT_ATTEMPT_AT = "next_attempt_at";
+    private static final String PARKED_AT = "parked_at";
+    private static final String NOTIFICATION_ID = "notification_id";
+    private static final String OLDEST = "oldest";
+    private static final Sort DUE_FIRST = Sort.by(Sort.Direction.ASC, NEXT_ATTEMPT_AT, "created_at", ID);
+    private static final Sort OLDEST_FIRST_PER_NOTIFICATION = Sort.by(Sort.Direction.ASC, NOTIFICATION_ID,
+            "created_at", ID);
+
+    private final MongoTemplate mongoTemplate;
+    private final ChsKafkaApiService chsKafkaApiService;
+    private final Executor executor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Counter parkedEvents;
+
+    public ResourceChangedRelay(MongoTemplate mongoTemplate, ChsKafkaApiService chsKafkaApiService,
+            @Qualifier("pscListExecutor") Executor executor, MeterRegistry meterRegistry,
+            @Value("${psc.outbox.relay.enabled}") boolean enabled,
+            @Value("${psc.outbox.relay.batch-size}") int batchSize,
+            @Value("${psc.outbox.relay.lease}") Duration lease,
+            @Value("${psc.outbox.relay.initial-backoff}") Duration initialBackoff,
+            @Value("${psc.outbox.relay.max-backoff}") Duration maxBackoff,
+            @Value("${psc.outbox.relay.max-attempts}") int maxAttempts) {
+        this.mongoTemplate = mongoTemplate;
+        this.chsKafkaApiService = chsKafkaApiService;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.parkedEvents = Counter.builder("psc.outbox.parked_events")
+                .description("Resource-changed events parked after failing the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${psc.outbox.relay.interval}")
+    public void scheduledRelay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Batch batch;
+            do {
+                batch = relayBatch(Instant.now());
+            } while (batch.claimed() == batchSize);
+        } catch (RuntimeException ex) {
+            LOGGER.error("Failed to relay resource-changed events", ex, DataMapHolder.getLogMap());
+        }
+    }
+
+    /**
+     * Publish one batch of due events.
+     *
+     * @return the number of events published
+     */
+    public int relayPendingEvents() {
+        return relayBatch(Instant.now()).published();
+    }
+
+    private Batch relayBatch(Instant now) {
+        List<CompletableFuture<Outcome>> outcomes = eligibleEvents(now).stream()
+                .map(event -> CompletableFuture.supplyAsync(() -> relay(event, now), executor))
+                .toList();
+        int claimed = 0;
+        int published = 0;
+        for (CompletableFuture<Outcome> outcome : outcomes) {
+            switch (outcome.join()) {
+                case PUBLISHED -> {
+                    claimed++;
+                    published++;
+                }
+                case FAILED -> claimed++;
+                case NOT_CLAIMED -> {
+                    // Claimed by another instance since it was read.
+                }
+            }
+        }
+        return new Batch(claimed, published);
+    }
+
+    /*
+    Due events are read from the next_attempt_at index in pages of the batch size, and each page is checked against
+    the notification_id_created_at index for the events that are the oldest for their notification ID. Events held
+    back behind an older one are skipped rather than counted against the batch, and the cursor moves on until a full
+    batch is found or no due events remain, without reading the events that are not due.
+     */
+    List<ResourceChangedEvent> eligibleEvents(Instant now) {
+        List<ResourceChangedEvent> eligible = new ArrayList<>(batchSize);
+        try (Stream<ResourceChangedEvent> due = mongoTemplate.stream(dueEvents(now), ResourceChangedEvent.class)) {
+            Iterator<ResourceChangedEvent> iterator = due.iterator();
+            while (eligible.size() < batchSize && iterator.hasNext()) {
+                List<ResourceChangedEvent> page = new ArrayList<>(batchSize);
+                while (page.size() < batchSize && iterator.hasNext()) {
+                    page.add(iterator.next());
+                }
+                Set<String> oldest = oldestEventIds(page);
+                page.stream()
+                        .filter(event -> oldest.contains(event.getId()))
+                        .limit(batchSize - eligible.size())
+                        .forEach(eligible::add);
+            }
+        }
+        return eligible;
+    }
+
+    Query dueEvents(Instant now) {
+        return query(where(NEXT_ATTEMPT_AT).lte(now)
+                .orOperator(where(LOCKED_UNTIL).is(null), where(LOCKED_UNTIL).lte(now)))
+                .with(DUE_FIRST)
+                .cursorBatchSize(batchSize);
+    }
+
+    /*
+    Parked events are included, so they go on holding back later events for their notification ID.
+     */
+    Aggregation oldestEvents(Collection<String> notificationIds) {
+        return newAggregation(
+                match(where(NOTIFICATION_ID).in(notificationIds)),
+                sort(OLDEST_FIRST_PER_NOTIFICATION),
+                group(NOTIFICATION_ID).first(ID).as(OLDEST));
+    }
+
+    private Set<String> oldestEventIds(List<ResourceChangedEvent> events) {
+        Set<String> notificationIds = events.stream()
+                .map(ResourceChangedEvent::getNotificationId)
+                .collect(Collectors.toSet());
+        return mongoTemplate.aggregate(oldestEvents(notificationIds), ResourceChangedEvent.class, Document.class)
+                .getMappedResults().stream()
+                .map(oldest -> oldest.get(OLDEST).toString())
+                .collect(Collectors.toSet());
+    }
+
+    private Outcome relay(ResourceChangedEvent event, Instant now) {
+        ResourceChangedEvent claimed = claim(event, now);
+        if (claimed == null) {
+            return Outcome.NOT_CLAIMED;
+        }
+        return publish(claimed, now) ? Outcome.PUBLISHED : Outcome.FAILED;
+    }
+
+    private ResourceChangedEvent claim(ResourceChangedEvent event, Instant now) {
+        Query unclaimed = query(where(ID).is(event.getId())
+                .orOperator(where(LOCKED_UNTIL).is(null), where(LOCKED_UNTIL).lte(now)));
+        return mongoTemplate.findAndModify(unclaimed, new Update().set(LOCKED_UNTIL, now.plus(lease)),
+                options().returnNew(true), ResourceChangedEvent.class);
+    }
+
+    private boolean publish(ResourceChangedEvent event, Instant now) {
+        DataMapHolder.initialise(event.getContextId());
+        DataMapHolder.get()
+                .companyNumber(event.getCompanyNumber())
+                .itemId(event.getNotificationId());
+        try {
+            if (ResourceChangedEvent.DELETED.equals(event.getEventType())) {
+                chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(event.toDeleteRequest(), event.getDeletedData());
+            } else {
+                chsKafkaApiService.invokeChsKafkaApi(event.getCompanyNumber(), event.getNotificationId(),
+                        event.getKind());
+            }
+            mongoTemplate.remove(query(where(ID).is(event.getId())), ResourceChangedEvent.class);
+            return true;
+        } catch (RuntimeException ex) {
+            final int attempts = event.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                park(event, attempts, now, ex);
+                return false;
+            }
+            final Instant nextAttemptAt = now.plus(backoff(attempts));
+            LOGGER.error("Failed to publish %s event; attempt [%d], retrying at [%s]".formatted(
+                    event.getEventType(), attempts, nextAttemptAt), ex, DataMapHolder.getLogMap());
+            mongoTemplate.updateFirst(query(where(ID).is(event.getId())), new Update()
+                            .set("attempts", attempts)
+                            .set(NEXT_ATTEMPT_AT, nextAttemptAt)
+                            .unset(LOCKED_UNTIL),
+                    ResourceChangedEvent.class);
+            return false;
+        } finally {
+            DataMapHolder.clear();
+        }
+    }
+
+    /*
+    A parked event is no longer due and no longer holds back later events for its notification ID. It stays in the
+    outbox to be inspected and, once the cause is fixed, re-queued by unsetting parked_at and setting next_attempt_at.
+     */
+    private void park(ResourceChangedEvent event, int attempts, Instant now, RuntimeException ex) {
+        LOGGER.error("Failed to publish %s event; parking it after [%d] attempts".formatted(
+                event.getEventType(), attempts), ex, DataMapHolder.getLogMap());
+        mongoTemplate.updateFirst(query(where(ID).is(event.getId())), new Update()
+                        .set("attempts", attempts)
+                        .set(PARKED_AT, now)
+                        .unset(NEXT_ATTEMPT_AT)
+                        .unset(LOCKED_UNTIL),
+                ResourceChangedEvent.class);
+        parkedEvents.increment();
+    }
+
+    private Duration backoff(int attempts) {
+        final int doublings = Math.min(attempts - 1, 30);
+        final Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private enum Outcome {
+        PUBLISHED,
+        FAILED,
+        NOT_CLAIMED
+    }
+
+    private record Batch(int claimed, int published) {
+    }
+}
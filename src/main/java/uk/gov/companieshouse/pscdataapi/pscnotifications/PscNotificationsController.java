@@ -2,6 +2,7 @@ package uk.gov.companieshouse.pscdataapi.pscnotifications;
 
 import static uk.gov.companieshouse.pscdataapi.interceptor.AuthenticationHelperImpl.ERIC_AUTHORISED_KEY_PRIVILEGES_HEADER;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 
@@ -16,6 +17,7 @@ import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
 
 @Controller
+@ConditionalOnProperty(name = "psc.streaming.enabled", havingValue = "false", matchIfMissing = true)
 public class PscNotificationsController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PscDataApiApplication.APPLICATION_NAME_SPACE);
@@ -4,7 +4,8 @@ import static java.util.Optional.ofNullable;
 
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.psc_notifications.NotificationList;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.api.psc_notifications.PscNotificationSummary;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.DateOfBirthMapper;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.ItemsMapper;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.LinksMapper;
@@ -28,24 +29,30 @@ class PscNotificationsMapper {
     Optional<NotificationList> mapPscNotifications(MapperRequest mapperRequest) {
 
         return ofNullable(mapperRequest.firstNotification())
-                .flatMap(firstNotification -> ofNullable(firstNotification.getData())
+                .flatMap(firstNotification -> ofNullable(firstNotification.data())
                         .map(data -> new NotificationList()
                                 .activeCount(mapperRequest.activeCount())
                                 .ceasedCount(mapperRequest.ceasedCount())
-                                .dateOfBirth(dobMapper.map(firstNotification.getSensitiveData().getDateOfBirth()))
+                                .dateOfBirth(dobMapper.map(ofNullable(firstNotification.sensitiveData())
+                                        .map(PscNotification.SensitiveData::dateOfBirth)
+                                        .orElse(null)))
                                 .inactiveCount(mapperRequest.inactiveCount())
                                 .items(itemsMapper.map(mapperRequest.pscNotifications()))
                                 .itemsPerPage(mapperRequest.itemsPerPage())
                                 .kind(NotificationList.KindEnum.PERSONAL_NOTIFICATION)
-                                .links(linksMapper.map(data.getLinks()))
-                                .name(data.getName())
+                                .links(linksMapper.map(data.links()))
+                                .name(data.name())
                                 .startIndex(mapperRequest.startIndex())
                                 .totalResults(mapperRequest.totalResults())
                         ));
     }
 
-    record MapperRequest(Integer startIndex, Integer itemsPerPage, PscDocument firstNotification,
-                         List<PscDocument> pscNotifications, Integer totalResults, Integer activeCount,
+    PscNotificationSummary mapPscNotification(PscNotification notification) {
+        return itemsMapper.map(notification);
+    }
+
+    record MapperRequest(Integer startIndex, Integer itemsPerPage, PscNotification firstNotification,
+                         List<PscNotification> pscNotifications, Integer totalResults, Integer activeCount,
                          Integer inactiveCount, Integer ceasedCount) {
 
         private MapperRequest(Builder builder) {
@@ -60,8 +67,8 @@ class PscNotificationsMapper {
         static final class Builder {
             private Integer startIndex;
             private Integer itemsPerPage;
-            private PscDocument firstNotification;
-            private List<PscDocument> pscNotifications;
+            private PscNotification firstNotification;
+            private List<PscNotification> pscNotifications;
             private Integer totalResults;
             private Integer activeCount;
             private Integer inactiveCount;
@@ -79,12 +86,12 @@ class PscNotificationsMapper {
                 return this;
             }
 
-            Builder firstNotification(PscDocument firstNotification) {
+            Builder firstNotification(PscNotification firstNotification) {
                 this.firstNotification = firstNotification;
                 return this;
             }
 
-            Builder pscNotifications(List<PscDocument> pscNotifications) {
+            Builder pscNotifications(List<PscNotification> pscNotifications) {
                 this.pscNotifications = pscNotifications;
                 return this;
             }
@@ -0,0 +1,12 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import java.util.List;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+
+/**
+ * A page of a PSC's notifications together with the first notification in list order, which carries the name, links
+ * and date of birth of the PSC, and the number of active and ceased notifications the PSC has in total.
+ */
+record PscNotificationsPage(List<PscNotification> notifications, PscNotification firstNotification,
+                            int activeCount, int ceasedCount) {
+}
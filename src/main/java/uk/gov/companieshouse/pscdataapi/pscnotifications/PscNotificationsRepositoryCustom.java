@@ -0,0 +1,43 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import java.util.stream.Stream;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+
+interface PscNotificationsRepositoryCustom {
+
+    /**
+     * Reads a page of a PSC's notifications, sorted as the PSC list is, and counts all of its notifications in the
+     * same query.
+     *
+     * @param pscId        the PSC ID.
+     * @param activeOnly   whether the page only contains notifications without a ceased_on. The counts are not
+     *                     filtered.
+     * @param startIndex   the number of notifications to skip.
+     * @param itemsPerPage the maximum number of notifications on the page.
+     * @return the page, with no first notification if the PSC has no notifications.
+     */
+    PscNotificationsPage getPscNotificationsPage(String pscId, boolean activeOnly, int startIndex, int itemsPerPage);
+
+    /**
+     * Reads the first notification of a PSC in list order and counts all of its notifications, for a page whose
+     * notifications are streamed.
+     *
+     * @param pscId the PSC ID.
+     * @return the summary, with no notifications, and with no first notification if the PSC has no notifications.
+     */
+    PscNotificationsPage getPscNotificationsSummary(String pscId);
+
+    /**
+     * Streams a page of a PSC's notifications, as {@link #getPscNotificationsPage} reads it, from a server-side cursor
+     * fetching batchSize notifications per round trip. The returned stream holds the cursor open and must be closed.
+     *
+     * @param pscId        the PSC ID.
+     * @param activeOnly   whether the page only contains notifications without a ceased_on.
+     * @param startIndex   the number of notifications to skip.
+     * @param itemsPerPage the maximum number of notifications on the page.
+     * @param batchSize    the number of notifications fetched per cursor batch.
+     * @return a stream of the notifications on the page.
+     */
+    Stream<PscNotification> streamPscNotifications(String pscId, boolean activeOnly, int startIndex, int itemsPerPage,
+            int batchSize);
+}
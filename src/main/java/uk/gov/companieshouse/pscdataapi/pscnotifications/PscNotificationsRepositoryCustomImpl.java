@@ -0,0 +1,154 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.skip;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.aggregation.ConditionalOperators.ifNull;
+import static org.springframework.data.mongodb.core.aggregation.ConditionalOperators.when;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+
+class PscNotificationsRepositoryCustomImpl implements PscNotificationsRepositoryCustom {
+
+    private static final String ID = "_id";
+    private static final String PSC_ID = "psc_id";
+    private static final String NOTIFIED_ON = "data.notified_on";
+    private static final String CEASED_ON = "data.ceased_on";
+    private static final String CREATED_AT = "created.at";
+    private static final Sort NOTIFICATIONS_SORT = Sort.by(Direction.DESC, NOTIFIED_ON, CEASED_ON)
+            .and(Sort.by(Direction.ASC, CREATED_AT, ID));
+    static final String NOTIFICATION_FIELDS = """
+            {'_id': 0, 'company_number': 1, 'data.ceased_on': 1, 'data.etag': 1, 'data.address': 1, 'data.name': 1,
+             'data.nationality': 1, 'data.country_of_residence': 1, 'data.kind': 1, 'data.notified_on': 1,
+             'data.is_sanctioned': 1, 'data.natures_of_control': 1, 'data.name_elements': 1, 'data.links': 1,
+             'data.principal_office_address': 1, 'data.identification': 1, 'data.identity_verification_details': 1}
+            """;
+    static final String PSC_FIELDS = """
+            {'_id': 0, 'data.name': 1, 'data.links': 1, 'sensitive_data.date_of_birth.month': 1,
+             'sensitive_data.date_of_birth.year': 1}
+            """;
+    private static final Document NOTIFICATION_PROJECTION = Document.parse(NOTIFICATION_FIELDS);
+    private static final Document PSC_PROJECTION = Document.parse(PSC_FIELDS);
+    private static final AggregationOperation NOTIFICATION_STAGE =
+            context -> new Document("$project", NOTIFICATION_PROJECTION);
+    private static final AggregationOperation PSC_STAGE = context -> new Document("$project", PSC_PROJECTION);
+    private static final String ITEMS = "items";
+    private static final String FIRST = "first";
+    private static final String COUNTS = "counts";
+    private static final String TOTAL = "total";
+    private static final String CEASED = "ceased";
+    private static final GroupOperation COUNTS_STAGE = group()
+            .count().as(TOTAL)
+            .sum(when(ifNull(CEASED_ON).then(false)).then(1).otherwise(0)).as(CEASED);
+
+    private final MongoTemplate mongoTemplate;
+
+    PscNotificationsRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public PscNotificationsPage getPscNotificationsPage(String pscId, boolean activeOnly, int startIndex,
+            int itemsPerPage) {
+        return page(pageAggregation(pscId, activeOnly, startIndex, itemsPerPage));
+    }
+
+    @Override
+    public PscNotificationsPage getPscNotificationsSummary(String pscId) {
+        return page(summaryAggregation(pscId));
+    }
+
+    @Override
+    public Stream<PscNotification> streamPscNotifications(String pscId, boolean activeOnly, int startIndex,
+            int itemsPerPage, int batchSize) {
+        return mongoTemplate.aggregateStream(streamAggregation(pscId, activeOnly, startIndex, itemsPerPage)
+                        .withOptions(AggregationOptions.builder().cursorBatchSize(batchSize).build()),
+                mongoTemplate.getCollectionName(PscDocument.class), PscNotification.class);
+    }
+
+    private PscNotificationsPage page(Aggregation aggregation) {
+        Document result = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(PscDocument.class),
+                Document.class).getUniqueMappedResult();
+        List<PscNotification> notifications = result.getList(ITEMS, Document.class, List.of()).stream()
+                .map(this::read)
+                .toList();
+        PscNotification firstNotification = result.getList(FIRST, Document.class).stream()
+                .findFirst()
+                .map(this::read)
+                .orElse(null);
+        List<Document> counts = result.getList(COUNTS, Document.class);
+        if (counts.isEmpty()) {
+            return new PscNotificationsPage(notifications, firstNotification, 0, 0);
+        }
+        final int total = counts.getFirst().get(TOTAL, Number.class).intValue();
+        final int ceased = counts.getFirst().get(CEASED, Number.class).intValue();
+        return new PscNotificationsPage(notifications, firstNotification, total - ceased, ceased);
+    }
+
+    /*
+    The PSC's notifications are matched and sorted once, from the psc_id_list_order index, and a $facet then reads the
+    page, the first notification and the counts from them in the same round trip. Only the page is filtered, so the
+    counts always cover every notification. Notifications with a ceased_on are counted as ceased and the rest as
+    active. Each notification is projected to the fields the endpoint emits before it is decoded, and only the month
+    and year of birth are read from the sensitive data, from the first notification.
+     */
+    static Aggregation pageAggregation(String pscId, boolean activeOnly, int startIndex, int itemsPerPage) {
+        return newAggregation(
+                match(where(PSC_ID).is(pscId)),
+                sort(NOTIFICATIONS_SORT),
+                facet(pageStages(activeOnly, startIndex, itemsPerPage).toArray(AggregationOperation[]::new)).as(ITEMS)
+                        .and(limit(1), PSC_STAGE).as(FIRST)
+                        .and(COUNTS_STAGE).as(COUNTS));
+    }
+
+    /*
+    A streamed page is read with a cursor of its own, so the $facet reads only the first notification and the counts.
+     */
+    static Aggregation summaryAggregation(String pscId) {
+        return newAggregation(
+                match(where(PSC_ID).is(pscId)),
+                sort(NOTIFICATIONS_SORT),
+                facet(limit(1), PSC_STAGE).as(FIRST)
+                        .and(COUNTS_STAGE).as(COUNTS));
+    }
+
+    static Aggregation streamAggregation(String pscId, boolean activeOnly, int startIndex, int itemsPerPage) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(match(where(PSC_ID).is(pscId)));
+        stages.add(sort(NOTIFICATIONS_SORT));
+        stages.addAll(pageStages(activeOnly, startIndex, itemsPerPage));
+        return newAggregation(stages);
+    }
+
+    private static List<AggregationOperation> pageStages(boolean activeOnly, int startIndex, int itemsPerPage) {
+        List<AggregationOperation> pageStages = new ArrayList<>();
+        if (activeOnly) {
+            pageStages.add(match(where(CEASED_ON).is(null)));
+        }
+        pageStages.add(skip((long) startIndex));
+        pageStages.add(limit(itemsPerPage));
+        pageStages.add(NOTIFICATION_STAGE);
+        return pageStages;
+    }
+
+    private PscNotification read(Document document) {
+        return mongoTemplate.getConverter().read(PscNotification.class, document);
+    }
+}
@@ -1,11 +1,16 @@
 package uk.gov.companieshouse.pscdataapi.pscnotifications;
 
-import org.springframework.stereotype.Service;
-import uk.gov.companieshouse.api.psc_notifications.NotificationList;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
-
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.psc_notifications.NotificationList;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+import uk.gov.companieshouse.pscdataapi.serialization.StreamingJsonWriter;
 
 
 @Service
@@ -13,34 +18,83 @@ public class PscNotificationsService {
 
     private static final int DEFAULT_START_INDEX = 0;
     private static final int DEFAULT_ITEMS_PER_PAGE = 35;
+    private static final int MAX_ITEMS_PER_PAGE = 100;
+    private static final String ACTIVE_FILTER = "active";
 
     private final PscNotificationsRepository repository;
     private final PscNotificationsMapper mapper;
+    private final StreamingJsonWriter writer;
+    private final int batchSize;
 
     PscNotificationsService(PscNotificationsRepository repository,
-                            PscNotificationsMapper mapper) {
+                            PscNotificationsMapper mapper,
+                            StreamingJsonWriter writer,
+                            @Value("${psc.streaming.batch-size}") int batchSize) {
         this.repository = repository;
         this.mapper = mapper;
+        this.writer = writer;
+        this.batchSize = batchSize;
     }
 
     Optional<NotificationList> getPscNotifications(PscNotificationsRequest params) {
         final String pscId = params.pscId();
         final int startIndex = getStartIndex(params.startIndex());
         final int itemsPerPage = getItemsPerPage(params.itemsPerPage());
+        final boolean activeOnly = isActiveOnly(params.filter());
+
+        PscNotificationsPage page = repository.getPscNotificationsPage(pscId, activeOnly, startIndex, itemsPerPage);
+        return toNotificationList(page, page.notifications(), startIndex, itemsPerPage, activeOnly);
+    }
+
+    /**
+     * Get the page of notifications requested without its items, for a response whose items are then written by
+     * {@link #writePscNotifications}.
+     */
+    Optional<NotificationList> getPscNotificationsEnvelope(PscNotificationsRequest params) {
+        final int startIndex = getStartIndex(params.startIndex());
+        final int itemsPerPage = getItemsPerPage(params.itemsPerPage());
+        final boolean activeOnly = isActiveOnly(params.filter());
+
+        PscNotificationsPage summary = repository.getPscNotificationsSummary(params.pscId());
+        return toNotificationList(summary, List.of(), startIndex, itemsPerPage, activeOnly);
+    }
 
-        final int totalResults = repository.countByPscId(pscId);
-        List<PscDocument> documents = repository.findAllByPscId(pscId);
-        PscDocument firstNotification = documents.isEmpty() ? null : documents.getFirst();
+    /**
+     * Write the envelope with the notifications on its page, each read from the cursor and mapped as it is written.
+     */
+    void writePscNotifications(PscNotificationsRequest params, NotificationList envelope, OutputStream out)
+            throws IOException {
+        try (Stream<PscNotification> notifications = repository.streamPscNotifications(params.pscId(),
+                isActiveOnly(params.filter()), envelope.getStartIndex(), envelope.getItemsPerPage(), batchSize)) {
+            writer.write(envelope, "items", notifications.map(mapper::mapPscNotification), out);
+        }
+    }
 
+    private Optional<NotificationList> toNotificationList(PscNotificationsPage page,
+            List<PscNotification> notifications, int startIndex, int itemsPerPage, boolean activeOnly) {
+        // Company status is not held here, so no notification is counted as inactive
         return mapper.mapPscNotifications(PscNotificationsMapper.MapperRequest.builder()
                 .startIndex(startIndex)
                 .itemsPerPage(itemsPerPage)
-                .firstNotification(firstNotification)
-                .pscNotifications(documents)
-                .totalResults(totalResults)
+                .firstNotification(page.firstNotification())
+                .pscNotifications(notifications)
+                .totalResults(activeOnly ? page.activeCount() : page.activeCount() + page.ceasedCount())
+                .activeCount(page.activeCount())
+                .inactiveCount(0)
+                .ceasedCount(page.ceasedCount())
                 .build());
     }
 
+    private static boolean isActiveOnly(String filter) {
+        if (filter == null) {
+            return false;
+        }
+        if (ACTIVE_FILTER.equals(filter)) {
+            return true;
+        }
+        throw new BadRequestException(String.format("Invalid filter parameter: %s", filter));
+    }
+
     private static int getStartIndex(Integer requestStartIndex) {
         int startIndex;
         if (requestStartIndex == null) {
@@ -57,7 +111,7 @@ public class PscNotificationsService {
         if (requestItemsPerPage == null) {
             itemsPerPage = DEFAULT_ITEMS_PER_PAGE;
         } else {
-            itemsPerPage = Math.abs(requestItemsPerPage);
+            itemsPerPage = Math.min(Math.abs(requestItemsPerPage), MAX_ITEMS_PER_PAGE);
         }
         return itemsPerPage;
     }
@@ -0,0 +1,70 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import static uk.gov.companieshouse.pscdataapi.interceptor.AuthenticationHelperImpl.ERIC_AUTHORISED_KEY_PRIVILEGES_HEADER;
+
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.companieshouse.api.psc_notifications.NotificationList;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.PscDataApiApplication;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+/**
+ * Streams pages of a PSC's notifications when psc.streaming.enabled is set, in place of PscNotificationsController.
+ * The envelope is read on the request thread so that a missing PSC or a bad filter is still answered with a 404 or
+ * 400; once the body is being written a failure leaves it as unterminated JSON.
+ */
+@Controller
+@ConditionalOnProperty(name = "psc.streaming.enabled", havingValue = "true")
+public class PscNotificationsStreamingController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PscDataApiApplication.APPLICATION_NAME_SPACE);
+
+    private final PscNotificationsService service;
+
+    PscNotificationsStreamingController(PscNotificationsService service) {
+        this.service = service;
+    }
+
+    @GetMapping(path = "/persons-with-significant-control/{psc_id}/notifications")
+    public ResponseEntity<StreamingResponseBody> streamPscNotifications(
+            @PathVariable("psc_id") String pscId,
+            @RequestParam(value = "filter", required = false) String filter,
+            @RequestParam(value = "start_index", required = false) Integer startIndex,
+            @RequestParam(value = "items_per_page", required = false) Integer itemsPerPage,
+            @RequestParam(value = ERIC_AUTHORISED_KEY_PRIVILEGES_HEADER, required = false) String authPrivileges) {
+        try {
+
+            LOGGER.info("Fetching psc notifications", DataMapHolder.getLogMap());
+
+            PscNotificationsRequest request = PscNotificationsRequest.builder()
+                    .pscId(pscId)
+                    .filter(filter)
+                    .startIndex(startIndex)
+                    .itemsPerPage(itemsPerPage)
+                    .authPrivileges(authPrivileges)
+                    .build();
+            Optional<NotificationList> envelope = service.getPscNotificationsEnvelope(request);
+            if (envelope.isEmpty()) {
+                LOGGER.info(String.format("No notifications found for psc ID: %s", pscId), DataMapHolder.getLogMap());
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> service.writePscNotifications(request, envelope.get(), out));
+        } catch (BadRequestException ex) {
+            LOGGER.info(String.format("Invalid filter parameter supplied: %s, psc ID: %s", filter, pscId),
+                    DataMapHolder.getLogMap());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -5,7 +5,7 @@ import static java.util.Optional.ofNullable;
 import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.psc_notifications.NotifiedTo;
 import uk.gov.companieshouse.api.psc_notifications.PscNotificationSummary;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
 
 import java.util.List;
 
@@ -27,29 +27,33 @@ public class ItemsMapper {
         this.nameElementsMapper = nameElementsMapper;
     }
 
-    public List<PscNotificationSummary> map(List<PscDocument> notifications) {
+    public List<PscNotificationSummary> map(List<PscNotification> notifications) {
         return notifications.stream()
-                .map(notification -> ofNullable(notification.getData())
-                    .map(data -> new PscNotificationSummary()
-                        .address(addressMapper.map(data.getAddress()))
-                        .ceasedOn(data.getCeasedOn())
-                        .countryOfResidence(data.getCountryOfResidence())
-                        .etag(data.getEtag())
-                        .identification(identificationMapper.map(data.getIdentification()))
-                        .identityVerificationDetails(identityVerificationDetailsMapper.map(data.getIdentityVerificationDetails()))
-                        .isSanctioned(data.getSanctioned())
-                        .kind(PscNotificationSummary.KindEnum.fromValue(data.getKind()))
-                        .links(data.getLinks())
-                        .name(data.getName())
-                        .nameElements(nameElementsMapper.map(data.getNameElements()))
-                        .nationality(data.getNationality())
-                        .naturesOfControl(data.getNaturesOfControl())
-                        .notifiedOn(data.getNotifiedOn().toString())
-                        .notifiedTo(new NotifiedTo()
-                                .companyNumber(notification.getCompanyNumber()))
-                        .principalOfficeAddress(addressMapper.map(data.getPrincipalOfficeAddress())))
-                    .orElse(new PscNotificationSummary()))
+                .map(this::map)
                 .toList();
     }
 
+    public PscNotificationSummary map(PscNotification notification) {
+        return ofNullable(notification.data())
+                .map(data -> new PscNotificationSummary()
+                    .address(addressMapper.map(data.address()))
+                    .ceasedOn(data.ceasedOn())
+                    .countryOfResidence(data.countryOfResidence())
+                    .etag(data.etag())
+                    .identification(identificationMapper.map(data.identification()))
+                    .identityVerificationDetails(identityVerificationDetailsMapper.map(data.identityVerificationDetails()))
+                    .isSanctioned(data.sanctioned())
+                    .kind(PscNotificationSummary.KindEnum.fromValue(data.kind()))
+                    .links(data.links())
+                    .name(data.name())
+                    .nameElements(nameElementsMapper.map(data.nameElements()))
+                    .nationality(data.nationality())
+                    .naturesOfControl(data.naturesOfControl())
+                    .notifiedOn(data.notifiedOn().toString())
+                    .notifiedTo(new NotifiedTo()
+                            .companyNumber(notification.companyNumber()))
+                    .principalOfficeAddress(addressMapper.map(data.principalOfficeAddress())))
+                .orElse(new PscNotificationSummary());
+    }
+
 }
@@ -1,6 +1,6 @@
 package uk.gov.companieshouse.pscdataapi.repository;
 
-import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.Aggregation;
@@ -8,34 +8,59 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
 
-public interface CompanyPscRepository extends MongoRepository<PscDocument, String> {
+public interface CompanyPscRepository extends MongoRepository<PscDocument, String>, CompanyPscRepositoryCustom {
 
-    @Query("{'_id': ?0, 'delta_at':{$gt : '?1' }}")
-    List<PscDocument> findUpdatedPsc(String notificationId, String at);
+    /**
+     * The fields read for a page of the PSC list: those the list summary is built from and those that position a
+     * continuation token. Of the sensitive data only the month and year of birth are read.
+     */
+    String LIST_SUMMARY_FIELDS = "{'_id': 1, 'psc_id': 1, 'created.at': 1, "
+            + "'data.kind': 1, 'data.description': 1, 'data.etag': 1, 'data.name': 1, 'data.name_elements': 1, "
+            + "'data.address': 1, 'data.principal_office_address': 1, 'data.natures_of_control': 1, "
+            + "'data.links': 1, 'data.ceased_on': 1, 'data.notified_on': 1, 'data.is_sanctioned': 1, "
+            + "'data.nationality': 1, 'data.country_of_residence': 1, 'data.identification': 1, "
+            + "'data.identity_verification_details': 1, "
+            + "'sensitive_data.date_of_birth.month': 1, 'sensitive_data.date_of_birth.year': 1}";
+
+    @Query(value = "{'_id': {$in: ?0}}", fields = "{'_id': 1, 'delta_at': 1, 'data.kind': 1, 'data.ceased_on': 1}")
+    List<PscDocument> findDeltaAtByIdIn(Collection<String> notificationIds);
+
+    @Query(value = "{'company_number': ?0, 'delta_at': {$gt: ?1}}", fields = "{'_id': 1, 'data.kind': 1}")
+    List<PscDocument> findIdsByCompanyNumberAndDeltaAtAfter(String companyNumber, String deltaAt);
 
     @Query("{'_id' : ?1, 'company_number' : ?0}")
     Optional<PscDocument> getPscByCompanyNumberAndId(String companyNumber, String notificationId);
 
+    /**
+     * Reads the fields that identify the stored version of a PSC and decide how it is shown: its kind, etag and
+     * ceased status.
+     */
+    @Query(value = "{'_id' : ?1, 'company_number' : ?0}",
+            fields = "{'data.kind': 1, 'data.etag': 1, 'data.ceased': 1, 'data.ceased_on': 1}")
+    Optional<PscDocument> getPscVersionByCompanyNumberAndId(String companyNumber, String notificationId);
+
     @Query("{'company_number' : ?0}")
     Optional<PscDocument> findPscByCompanyNumber(String companyNumber);
 
     @Aggregation(pipeline = {
             "{'$match': { 'company_number': ?0} } }",
-            "{'$sort': {'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1 } }",
+            "{'$sort': {'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1, '_id': 1 } }",
             "{'$skip': ?1}",
             "{'$limit': ?2}",
+            "{'$project': " + LIST_SUMMARY_FIELDS + "}",
     })
     List<PscDocument> getPscDocumentList(String companyNumber,
             Integer startIndex, Integer itemsPerPage);
 
+    /**
+     * Reads only the etags of the PSCs on a page of the PSC list, in list order.
+     */
     @Aggregation(pipeline = {
-            "{'$match': { 'company_number' : ?0, "
-                    + "$or:[ { '" + "data.ceased_on': { $gte : { \"$date\" : \"?2\" }} },"
-                    + "{ 'data.ceased_on': {$exists: false }} ]} }",
-            "{'$sort': {'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1 } }",
+            "{'$match': { 'company_number': ?0} }",
+            "{'$sort': {'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1, '_id': 1 } }",
             "{'$skip': ?1}",
-            "{'$limit': ?3}",
+            "{'$limit': ?2}",
+            "{'$project': {'data.etag': 1}}",
     })
-    List<PscDocument> getListSummaryRegisterView(
-            String companyNumber, Integer startIndex, OffsetDateTime movedOn, Integer itemsPerPage);
+    List<PscDocument> getPscEtagList(String companyNumber, Integer startIndex, Integer itemsPerPage);
 }
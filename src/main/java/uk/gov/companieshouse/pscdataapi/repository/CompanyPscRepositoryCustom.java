@@ -0,0 +1,112 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+import uk.gov.companieshouse.pscdataapi.models.PscRegisterViewPage;
+
+public interface CompanyPscRepositoryCustom {
+
+    /**
+     * Upserts the given PSC document with a single conditional write. A stored document is only updated when it has
+     * no delta_at or a delta_at that is not after the incoming one. When no document is stored the incoming one is
+     * inserted with a created timestamp.
+     *
+     * @param document the PSC document to upsert.
+     * @return the stored document before the update, with only its kind and ceased_on read, or null when the document
+     *         was inserted.
+     * @throws org.springframework.dao.DuplicateKeyException if the stored document has a later delta_at. In a
+     *         transaction this aborts the transaction.
+     */
+    PscDocument upsertIfNotStale(PscDocument document);
+
+    /**
+     * Upserts the given PSC documents in a single unordered bulk write. Documents already stored are updated under
+     * the same delta_at guard as {@link #upsertIfNotStale(PscDocument)} and the others are inserted, so the caller
+     * must have checked staleness against the stored documents in the same transaction.
+     *
+     * @param documents   the PSC documents to upsert.
+     * @param existingIds the IDs of the documents that are already stored.
+     */
+    void bulkUpsertPscs(List<PscDocument> documents, Set<String> existingIds);
+
+    /**
+     * Deletes a company's PSC documents that have no delta_at or a delta_at that is not after the given one. The
+     * documents are read once and removed with a single deleteMany that repeats the delta_at guard.
+     *
+     * @param companyNumber the company to delete PSCs for.
+     * @param deltaAt       the delta_at of the delete.
+     * @return the documents that were deleted, as they were before deletion.
+     */
+    List<PscDocument> deleteAllIfNotStale(String companyNumber, String deltaAt);
+
+    /**
+     * Streams PSC documents from a server-side cursor, fetching batchSize documents per round trip so that only one
+     * batch is held in memory at a time. Only the {@link CompanyPscRepository#LIST_SUMMARY_FIELDS} are read, so the
+     * sensitive data other than the month and year of birth is never fetched. The returned stream holds the cursor
+     * open and must be closed.
+     *
+     * @param companyNumber the company to stream documents for, or null to stream the whole collection.
+     * @param batchSize     the number of documents fetched per cursor batch.
+     * @return a stream of PSC documents, projected to the list summary fields, in natural order.
+     */
+    Stream<PscDocument> streamPscs(String companyNumber, int batchSize);
+
+    /**
+     * Streams a page of a company's PSCs in list order from a server-side cursor, as
+     * {@link CompanyPscRepository#getPscDocumentList} reads it, fetching batchSize documents per round trip. Only the
+     * {@link CompanyPscRepository#LIST_SUMMARY_FIELDS} are read. The returned stream holds the cursor open and must
+     * be closed.
+     *
+     * @param companyNumber the company to read PSCs for.
+     * @param startIndex    the number of PSCs to skip.
+     * @param itemsPerPage  the maximum number of PSCs to return.
+     * @param batchSize     the number of documents fetched per cursor batch.
+     * @return a stream of the PSC documents on the page.
+     */
+    Stream<PscDocument> streamPscDocumentList(String companyNumber, int startIndex, int itemsPerPage, int batchSize);
+
+    /**
+     * Reads a page of a company's PSCs in list order, starting after the given position. The position is applied as
+     * a range predicate on the sort key rather than by skipping, so the cost of a page does not depend on how far
+     * into the list it is. Only the {@link CompanyPscRepository#LIST_SUMMARY_FIELDS} are read.
+     *
+     * @param companyNumber the company to read PSCs for.
+     * @param after         the position of the last PSC on the previous page, or null for the first page.
+     * @param limit         the maximum number of PSCs to return.
+     * @return the PSC documents after the given position.
+     */
+    List<PscDocument> getPscDocumentListAfter(String companyNumber, PscListCursor after, int limit);
+
+    /**
+     * Reads a page of a company's register view PSCs, those still active or ceased on or after the register moved
+     * to the public register, in list order starting at the given index, together with the number of active and
+     * ceased PSCs in the whole register view. The page and the counts are read in one aggregation. Only the
+     * {@link CompanyPscRepository#LIST_SUMMARY_FIELDS} are read.
+     *
+     * @param companyNumber the company to read PSCs for.
+     * @param startIndex    the number of PSCs before the page.
+     * @param movedOn       when the company's PSC register moved to the public register.
+     * @param itemsPerPage  the maximum number of PSCs to return.
+     * @return the page of PSC documents and the register view counts.
+     */
+    PscRegisterViewPage getListSummaryRegisterViewPage(String companyNumber, int startIndex, OffsetDateTime movedOn,
+            int itemsPerPage);
+
+    /**
+     * Reads a page of a company's register view PSCs in list order starting after the given position, together with
+     * the number of active and ceased PSCs in the whole register view, as
+     * {@link #getListSummaryRegisterViewPage(String, int, OffsetDateTime, int)} does.
+     *
+     * @param companyNumber the company to read PSCs for.
+     * @param after         the position of the last PSC on the previous page, or null for the first page.
+     * @param movedOn       when the company's PSC register moved to the public register.
+     * @param limit         the maximum number of PSCs to return.
+     * @return the page of PSC documents and the register view counts.
+     */
+    PscRegisterViewPage getListSummaryRegisterViewPageAfter(String companyNumber, PscListCursor after,
+            OffsetDateTime movedOn, int limit);
+}
@@ -0,0 +1,264 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.limit;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.skip;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.aggregation.ConditionalOperators.ifNull;
+import static org.springframework.data.mongodb.core.aggregation.ConditionalOperators.when;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscdataapi.models.Created;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+import uk.gov.companieshouse.pscdataapi.models.PscRegisterViewPage;
+
+class CompanyPscRepositoryCustomImpl implements CompanyPscRepositoryCustom {
+
+    private static final String ID = "_id";
+    private static final String DELTA_AT = "delta_at";
+    private static final String CREATED = "created";
+    private static final String COMPANY_NUMBER = "company_number";
+    private static final String NOTIFIED_ON = "data.notified_on";
+    private static final String CEASED_ON = "data.ceased_on";
+    private static final String KIND = "data.kind";
+    private static final String CREATED_AT = "created.at";
+    static final Sort LIST_SORT = Sort.by(Direction.DESC, NOTIFIED_ON, CEASED_ON)
+            .and(Sort.by(Direction.ASC, CREATED_AT, ID));
+    private static final Document LIST_SUMMARY_PROJECTION = Document.parse(CompanyPscRepository.LIST_SUMMARY_FIELDS);
+    private static final AggregationOperation LIST_SUMMARY_STAGE =
+            context -> new Document("$project", LIST_SUMMARY_PROJECTION);
+    private static final String ITEMS = "items";
+    private static final String COUNTS = "counts";
+    private static final String TOTAL = "total";
+    private static final String CEASED = "ceased";
+    private static final List<String> REPLACEABLE_FIELDS = List.of("psc_id", DELTA_AT, "notification_id",
+            COMPANY_NUMBER, "updated_by", "updated", "data", "sensitive_data");
+
+    private final MongoTemplate mongoTemplate;
+
+    CompanyPscRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /*
+    A single upsert under the delta_at guard. When the stored document has a later delta_at the guard matches nothing
+    and the upsert's insert of the same _id fails with a duplicate key, which aborts the surrounding transaction; the
+    caller reports it as stale once the transaction has ended. A write to the same PSC committed concurrently fails the
+    transaction with a write conflict instead. Otherwise the document before the write is returned, or null when it
+    was inserted.
+     */
+    @Override
+    public PscDocument upsertIfNotStale(PscDocument document) {
+        Query query = latestDeltaQuery(document);
+        query.fields().include(ID, KIND, CEASED_ON);
+        Document mapped = mapped(withCreated(document));
+        Update update = toUpdate(mapped).setOnInsert(CREATED, mapped.get(CREATED));
+        return mongoTemplate.findAndModify(query, update, options().upsert(true).returnNew(false),
+                PscDocument.class, mongoTemplate.getCollectionName(PscDocument.class));
+    }
+
+    @Override
+    public void bulkUpsertPscs(List<PscDocument> documents, Set<String> existingIds) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED,
+                mongoTemplate.getCollectionName(PscDocument.class));
+        documents.forEach(document -> {
+            if (existingIds.contains(document.getId())) {
+                bulkOperations.updateOne(latestDeltaQuery(document), toUpdate(mapped(document)));
+            } else {
+                bulkOperations.insert(withCreated(document));
+            }
+        });
+        bulkOperations.execute();
+    }
+
+    @Override
+    public List<PscDocument> deleteAllIfNotStale(String companyNumber, String deltaAt) {
+        List<PscDocument> documents = mongoTemplate.find(
+                query(notAfterDelta(where(COMPANY_NUMBER).is(companyNumber), deltaAt)), PscDocument.class);
+        if (!documents.isEmpty()) {
+            mongoTemplate.remove(query(notAfterDelta(where(ID).in(documents.stream().map(PscDocument::getId).toList())
+                    .and(COMPANY_NUMBER).is(companyNumber), deltaAt)), PscDocument.class);
+        }
+        return documents;
+    }
+
+    @Override
+    public Stream<PscDocument> streamPscs(String companyNumber, int batchSize) {
+        return mongoTemplate.stream(exportQuery(companyNumber, batchSize), PscDocument.class);
+    }
+
+    @Override
+    public Stream<PscDocument> streamPscDocumentList(String companyNumber, int startIndex, int itemsPerPage,
+            int batchSize) {
+        Query query = listQuery(where(COMPANY_NUMBER).is(companyNumber), null, itemsPerPage).skip(startIndex);
+        query.cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, PscDocument.class);
+    }
+
+    @Override
+    public List<PscDocument> getPscDocumentListAfter(String companyNumber, PscListCursor after, int limit) {
+        return mongoTemplate.find(listQuery(where(COMPANY_NUMBER).is(companyNumber), after, limit),
+                PscDocument.class);
+    }
+
+    @Override
+    public PscRegisterViewPage getListSummaryRegisterViewPage(String companyNumber, int startIndex,
+            OffsetDateTime movedOn, int itemsPerPage) {
+        return registerViewPage(companyNumber, movedOn, sort(LIST_SORT), skip((long) startIndex),
+                limit(itemsPerPage), LIST_SUMMARY_STAGE);
+    }
+
+    @Override
+    public PscRegisterViewPage getListSummaryRegisterViewPageAfter(String companyNumber, PscListCursor after,
+            OffsetDateTime movedOn, int limit) {
+        return after == null
+                ? registerViewPage(companyNumber, movedOn, sort(LIST_SORT), limit(limit), LIST_SUMMARY_STAGE)
+                : registerViewPage(companyNumber, movedOn, match(new Criteria().orOperator(after(after))),
+                        sort(LIST_SORT), limit(limit), LIST_SUMMARY_STAGE);
+    }
+
+    /*
+    The register view predicate is matched once, using the company_number_ceased_on index, and a $facet then reads
+    the page and counts the whole register view from the matched documents in the same round trip. PSCs with a
+    ceased_on are counted as ceased and the rest as active.
+     */
+    private PscRegisterViewPage registerViewPage(String companyNumber, OffsetDateTime movedOn,
+            AggregationOperation... pageStages) {
+        Criteria registerView = where(COMPANY_NUMBER).is(companyNumber)
+                .orOperator(where(CEASED_ON).gte(Date.from(movedOn.toInstant())), where(CEASED_ON).exists(false));
+        Aggregation aggregation = newAggregation(
+                match(registerView),
+                facet(pageStages).as(ITEMS)
+                        .and(group()
+                                .count().as(TOTAL)
+                                .sum(when(ifNull(CEASED_ON).then(false)).then(1).otherwise(0)).as(CEASED))
+                        .as(COUNTS));
+
+        Document result = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(PscDocument.class),
+                Document.class).getUniqueMappedResult();
+        List<PscDocument> documents = result.getList(ITEMS, Document.class).stream()
+                .map(item -> mongoTemplate.getConverter().read(PscDocument.class, item))
+                .toList();
+        List<Document> counts = result.getList(COUNTS, Document.class);
+        if (counts.isEmpty()) {
+            return new PscRegisterViewPage(documents, 0, 0);
+        }
+        final int total = counts.getFirst().get(TOTAL, Number.class).intValue();
+        final int ceased = counts.getFirst().get(CEASED, Number.class).intValue();
+        return new PscRegisterViewPage(documents, total - ceased, ceased);
+    }
+
+    static Query exportQuery(String companyNumber, int batchSize) {
+        Query query = companyNumber == null ? new Query() : query(where(COMPANY_NUMBER).is(companyNumber));
+        LIST_SUMMARY_PROJECTION.keySet().forEach(query.fields()::include);
+        return query.cursorBatchSize(batchSize);
+    }
+
+    static Query listQuery(Criteria filter, PscListCursor after, int limit) {
+        Criteria criteria = after == null ? filter : new Criteria().orOperator(after(after).stream()
+                .map(branch -> new Criteria().andOperator(filter, branch))
+                .toList());
+        Query query = query(criteria).with(LIST_SORT).limit(limit);
+        LIST_SUMMARY_PROJECTION.keySet().forEach(query.fields()::include);
+        return query;
+    }
+
+    /*
+    Branches matching the documents that sort after the cursor. Descending fields sort missing values last and
+    ascending fields sort them first, so a missing value on the cursor is followed by nothing on that field, and a
+    present value is followed by smaller values and missing ones. Each branch fixes a longer prefix of the sort key and
+    the filter is repeated in every branch, keeping the $or at the root of the query where the planner serves each
+    branch from the list index and merges them in sort order.
+     */
+    private static List<Criteria> after(PscListCursor cursor) {
+        final Date notifiedOn = toDate(cursor.notifiedOn());
+        final Date ceasedOn = toDate(cursor.ceasedOn());
+        List<Criteria> branches = new ArrayList<>();
+        if (notifiedOn != null) {
+            branches.add(where(NOTIFIED_ON).lt(notifiedOn));
+            branches.add(where(NOTIFIED_ON).is(null));
+        }
+        if (ceasedOn != null) {
+            branches.add(where(NOTIFIED_ON).is(notifiedOn).and(CEASED_ON).lt(ceasedOn));
+            branches.add(where(NOTIFIED_ON).is(notifiedOn).and(CEASED_ON).is(null));
+        }
+        if (cursor.createdAt() == null) {
+            branches.add(sameDates(notifiedOn, ceasedOn).and(CREATED_AT).ne(null));
+        } else {
+            branches.add(sameDates(notifiedOn, ceasedOn).and(CREATED_AT).gt(cursor.createdAt()));
+        }
+        branches.add(sameDates(notifiedOn, ceasedOn).and(CREATED_AT).is(cursor.createdAt()).and(ID).gt(cursor.id()));
+        return branches;
+    }
+
+    private static Criteria sameDates(Date notifiedOn, Date ceasedOn) {
+        return where(NOTIFIED_ON).is(notifiedOn).and(CEASED_ON).is(ceasedOn);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null ? null : Date.from(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private static Query latestDeltaQuery(PscDocument document) {
+        return query(notAfterDelta(where(ID).is(document.getId()), document.getDeltaAt()));
+    }
+
+    private static Criteria notAfterDelta(Criteria criteria, String deltaAt) {
+        return criteria.orOperator(where(DELTA_AT).is(null), where(DELTA_AT).lte(deltaAt));
+    }
+
+    /*
+    Mirrors a full document replace: fields present on the incoming document are set and fields absent from it are
+    removed. The stored created is kept.
+     */
+    private static Update toUpdate(Document mapped) {
+        Update update = new Update();
+        REPLACEABLE_FIELDS.forEach(field -> {
+            if (mapped.containsKey(field)) {
+                update.set(field, mapped.get(field));
+            } else {
+                update.unset(field);
+            }
+        });
+        return update;
+    }
+
+    private Document mapped(PscDocument document) {
+        Document mapped = new Document();
+        mongoTemplate.getConverter().write(document, mapped);
+        return mapped;
+    }
+
+    private static PscDocument withCreated(PscDocument document) {
+        if (document.getCreated() == null) {
+            document.setCreated(new Created().setAt(LocalDateTime.now()));
+        }
+        return document;
+    }
+}
@@ -0,0 +1,186 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedEvent;
+
+/**
+ * Reconciles the indexes declared on the Mongo documents with those that exist, so that the repository queries never
+ * fall back to collection scans. Each query shape is listed with the declared index that serves it, and the startup
+ * report logs whether that index was present, created or is missing. Queries by _id are served by the default _id
+ * index and are not listed.
+ *
+ * <p>By default reconciliation runs on a background thread so a slow or unavailable database does not hold up
+ * startup. When missing indexes are configured to fail startup it runs before the web server starts and throws if
+ * any required index is still missing afterwards.</p>
+ */
+@Component
+public class IndexReconciler implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final String NAME = "name";
+    private static final String PARTIAL_FILTER_EXPRESSION = "partialFilterExpression";
+
+    static final List<IndexRequirement> REQUIREMENTS = List.of(
+            new IndexRequirement(PscDocument.class, "company_number_list_order",
+                    "PSC list: company_number sorted by data.notified_on, data.ceased_on, created.at, _id"),
+            new IndexRequirement(PscDocument.class, "company_number_ceased_on",
+                    "PSC register view: company_number and data.ceased_on on or after the register move"),
+            new IndexRequirement(PscDocument.class, "psc_id_list_order",
+                    "PSC notifications: psc_id sorted by data.notified_on, data.ceased_on, created.at, _id"),
+            new IndexRequirement(ResourceChangedEvent.class, "next_attempt_at_created_at",
+                    "Outbox relay: due events sorted by next_attempt_at, created_at, _id"),
+            new IndexRequirement(ResourceChangedEvent.class, "notification_id_created_at",
+                    "Outbox relay: oldest event for each of a batch of notification_ids"),
+            new IndexRequirement(ResourceChangedEvent.class, "parked_at_ttl",
+                    "Outbox TTL: parked events expire 30 days after parked_at"));
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean createMissing;
+    private final boolean failOnMissing;
+
+    public IndexReconciler(MongoTemplate mongoTemplate,
+            @Value("${psc.mongo.indexes.create}") boolean createMissing,
+            @Value("${psc.mongo.indexes.fail-on-missing}") boolean failOnMissing) {
+        this.mongoTemplate = mongoTemplate;
+        this.createMissing = createMissing;
+        this.failOnMissing = failOnMissing;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (failOnMissing) {
+            enforce(reconcile());
+        } else {
+            Thread.ofVirtual().name("index-reconciler").start(() -> {
+                try {
+                    reconcile();
+                } catch (DataAccessException ex) {
+                    LOGGER.error("Unable to reconcile Mongo indexes", ex, DataMapHolder.getLogMap());
+                }
+            });
+        }
+    }
+
+    /**
+     * Check every required index, creating those that are missing when enabled, and log the outcome for each query
+     * shape.
+     *
+     * @return the outcome for each required index
+     */
+    public Map<IndexRequirement, IndexStatus> reconcile() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        Map<IndexRequirement, IndexStatus> report = new LinkedHashMap<>();
+        for (IndexRequirement requirement : REQUIREMENTS) {
+            IndexDefinition definition = declaredIndex(resolver, requirement);
+            IndexOperations indexOperations = mongoTemplate.indexOps(requirement.document());
+            IndexStatus status = indexOperations.getIndexInfo().stream().anyMatch(index -> matches(index, definition))
+                    ? IndexStatus.PRESENT
+                    : createIfEnabled(indexOperations, definition, requirement);
+            report.put(requirement, status);
+
+            Map<String, Object> logMap = DataMapHolder.getLogMap();
+            logMap.put("index", requirement.indexName());
+            logMap.put("collection", mongoTemplate.getCollectionName(requirement.document()));
+            logMap.put("index_status", status.name());
+            if (status == IndexStatus.MISSING) {
+                LOGGER.error("Index missing for query shape [%s]".formatted(requirement.queryShape()), logMap);
+            } else {
+                LOGGER.info("Index %s for query shape [%s]".formatted(status.name().toLowerCase(),
+                        requirement.queryShape()), logMap);
+            }
+        }
+        return report;
+    }
+
+    private IndexStatus createIfEnabled(IndexOperations indexOperations, IndexDefinition definition,
+            IndexRequirement requirement) {
+        if (!createMissing) {
+            return IndexStatus.MISSING;
+        }
+        try {
+            indexOperations.createIndex(definition);
+            return IndexStatus.CREATED;
+        } catch (DataAccessException ex) {
+            LOGGER.error("Failed to create index %s".formatted(requirement.indexName()), ex,
+                    DataMapHolder.getLogMap());
+            return IndexStatus.MISSING;
+        }
+    }
+
+    private void enforce(Map<IndexRequirement, IndexStatus> report) {
+        List<String> missing = new ArrayList<>();
+        report.forEach((requirement, status) -> {
+            if (status == IndexStatus.MISSING) {
+                missing.add(requirement.indexName());
+            }
+        });
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Required Mongo indexes are missing: %s".formatted(missing));
+        }
+    }
+
+    private static IndexDefinition declaredIndex(IndexResolver resolver, IndexRequirement requirement) {
+        for (IndexDefinition definition : resolver.resolveIndexFor(requirement.document())) {
+            if (requirement.indexName().equals(definition.getIndexOptions().getString(NAME))) {
+                return definition;
+            }
+        }
+        throw new IllegalStateException("No index named %s is declared on %s".formatted(requirement.indexName(),
+                requirement.document().getSimpleName()));
+    }
+
+    /*
+    Indexes are matched on their keys, in order, and partial filter rather than their name, so an equivalent index
+    created under another name by hand or by a migration is accepted instead of being duplicated.
+     */
+    static boolean matches(IndexInfo index, IndexDefinition definition) {
+        Document keys = definition.getIndexKeys();
+        List<IndexField> fields = index.getIndexFields();
+        if (fields.size() != keys.size()) {
+            return false;
+        }
+        int position = 0;
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            IndexField field = fields.get(position++);
+            Direction direction = ((Number) key.getValue()).intValue() < 0 ? Direction.DESC : Direction.ASC;
+            if (!field.getKey().equals(key.getKey()) || field.getDirection() != direction) {
+                return false;
+            }
+        }
+        Document expectedFilter = definition.getIndexOptions().get(PARTIAL_FILTER_EXPRESSION, Document.class);
+        Document actualFilter = index.getPartialFilterExpression() == null ? null
+                : Document.parse(index.getPartialFilterExpression());
+        return Objects.equals(expectedFilter, actualFilter);
+    }
+
+    public enum IndexStatus {
+        PRESENT,
+        CREATED,
+        MISSING
+    }
+
+    public record IndexRequirement(Class<?> document, String indexName, String queryShape) {
+    }
+}
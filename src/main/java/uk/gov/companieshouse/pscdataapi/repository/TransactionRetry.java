@@ -0,0 +1,79 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+/**
+ * Runs PSC writes in a Mongo transaction, retrying the whole transaction when it fails with an error labelled
+ * TransientTransactionError. While materialised counts are enabled, every write transaction increments its company's
+ * PSC counts, so concurrent writes for the same company conflict on that document and all but the first fail with a
+ * write conflict; retrying runs the losing transaction again against the committed state. Retries are counted in psc.mongo.transaction_retries, and the
+ * error is rethrown once the maximum number of attempts is reached.
+ */
+@Component
+public class TransactionRetry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+
+    private final TransactionOperations transactionOperations;
+    private final int maxAttempts;
+    private final Counter retries;
+
+    public TransactionRetry(TransactionOperations transactionOperations,
+            @Value("${psc.mongo.transaction.max-attempts}") int maxAttempts, MeterRegistry meterRegistry) {
+        this.transactionOperations = transactionOperations;
+        this.maxAttempts = maxAttempts;
+        this.retries = Counter.builder("psc.mongo.transaction_retries")
+                .description("Mongo transactions retried after a transient transaction error")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the action in a transaction, retrying it while it fails with a transient transaction error. The action is
+     * run again from the start on each attempt, so it must not depend on state left by an earlier attempt.
+     *
+     * @param action the writes to run
+     * @return the result of the action
+     */
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> action.get());
+            } catch (RuntimeException ex) {
+                if (attempt >= maxAttempts || !isTransientTransactionError(ex)) {
+                    throw ex;
+                }
+                LOGGER.info("Transient transaction error on attempt [%d]; retrying. Cause: [%s]".formatted(
+                        attempt, ex.getMessage()), DataMapHolder.getLogMap());
+                retries.increment();
+            }
+        }
+    }
+
+    public void executeWithoutResult(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static boolean isTransientTransactionError(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.pscdataapi.serialization;
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -10,6 +11,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Date;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
@@ -23,6 +25,10 @@ public class LocalDateDeSerializer extends JsonDeserializer<LocalDate> {
     public LocalDate deserialize(JsonParser jsonParser, DeserializationContext
             deserializationContext) {
         try {
+            if (jsonParser.currentToken() == JsonToken.VALUE_EMBEDDED_OBJECT
+                    && jsonParser.getEmbeddedObject() instanceof Date date) {
+                return LocalDate.ofInstant(date.toInstant(), ZoneOffset.UTC);
+            }
             LOGGER.info("Deserialising dates", DataMapHolder.getLogMap());
             DateTimeFormatter dateTimeFormatter = DateTimeFormatter
                     .ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
@@ -3,9 +3,12 @@ package uk.gov.companieshouse.pscdataapi.serialization;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Date;
 
 public class LocalDateSerializer extends JsonSerializer<LocalDate> {
 
@@ -14,6 +17,9 @@ public class LocalDateSerializer extends JsonSerializer<LocalDate> {
             SerializerProvider serializerProvider) throws IOException {
         if (localDate == null) {
             jsonGenerator.writeNull();
+        } else if (jsonGenerator instanceof TokenBuffer) {
+            // Written straight into a MongoDB document, so store the BSON date itself
+            jsonGenerator.writeEmbeddedObject(Date.from(localDate.atStartOfDay(ZoneOffset.UTC).toInstant()));
         } else {
             DateTimeFormatter dateTimeFormatter =
                     DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
@@ -0,0 +1,71 @@
+package uk.gov.companieshouse.pscdataapi.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a paged response as it is produced rather than as a built object graph. The envelope is written first and
+ * flushed, so the first bytes leave before any item is read, and the items are then serialised one at a time as the
+ * stream yields them. Only the item being written is held, however large the page. If reading or writing an item
+ * fails, the JSON is left unterminated, so the client cannot mistake a truncated page for a complete one.
+ */
+@Component
+public class StreamingJsonWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public StreamingJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Write the envelope as a JSON object with the items as an array in its items field, in place of any value the
+     * envelope holds there. The stream is flushed once the envelope is written and again at the end, but not closed.
+     * When an item fails the exception is rethrown and the array and object are not closed.
+     *
+     * @param envelope   the response without its items.
+     * @param itemsField the name of the items field.
+     * @param items      the items, read as they are written.
+     * @param out        the stream to write to.
+     * @return the number of items written.
+     * @throws IOException if writing to the stream fails.
+     */
+    public long write(Object envelope, String itemsField, Stream<?> items, OutputStream out) throws IOException {
+        ObjectNode fields = objectMapper.valueToTree(envelope);
+        fields.remove(itemsField);
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonNode> field : fields.properties()) {
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+            generator.writeArrayFieldStart(itemsField);
+            generator.flush();
+
+            Iterator<?> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                count++;
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return count;
+    }
+}
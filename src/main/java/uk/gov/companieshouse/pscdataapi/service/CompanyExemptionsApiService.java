@@ -2,6 +2,12 @@ package uk.gov.companieshouse.pscdataapi.service;
 
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.COMPANY_NUMBER;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -9,12 +15,17 @@ import org.springframework.stereotype.Component;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.exemptions.CompanyExemptions;
+import uk.gov.companieshouse.api.exemptions.ExemptionItem;
+import uk.gov.companieshouse.api.exemptions.Exemptions;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.cache.AsyncCaches;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
 
 @Component
 public class CompanyExemptionsApiService {
@@ -22,21 +33,57 @@ public class CompanyExemptionsApiService {
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
 
     private final Supplier<InternalApiClient> exemptionsApiClientSupplier;
+    private final AsyncCache<String, Boolean> companyExemptionsCache;
+    private final DownstreamCallMetrics downstreamCallMetrics;
 
     public CompanyExemptionsApiService(
-            @Qualifier("exemptionsApiClientSupplier") Supplier<InternalApiClient> exemptionsApiClientSupplier) {
+            @Qualifier("exemptionsApiClientSupplier") Supplier<InternalApiClient> exemptionsApiClientSupplier,
+            AsyncCache<String, Boolean> companyExemptionsCache, DownstreamCallMetrics downstreamCallMetrics) {
         this.exemptionsApiClientSupplier = exemptionsApiClientSupplier;
+        this.companyExemptionsCache = companyExemptionsCache;
+        this.downstreamCallMetrics = downstreamCallMetrics;
+    }
+
+    /**
+     * Whether the company holds any PSC exemption without an end date. The answer is cached per company, including a
+     * negative answer when the exemptions API returns 404. Concurrent lookups for the same company share a single
+     * call to the exemptions API; failed calls are not cached. The span records cache_hit as false only when this
+     * lookup loaded the answer.
+     *
+     * @param companyNumber the company number
+     * @return true if at least one PSC exemption is still active
+     */
+    @WithSpan
+    public boolean hasActivePscExemptions(@SpanAttribute(COMPANY_NUMBER) final String companyNumber) {
+        PscSpanAttributes.cacheHit(true);
+        return AsyncCaches.get(companyExemptionsCache, companyNumber, this::loadHasActivePscExemptions);
+    }
+
+    /**
+     * Whether the company holds any active PSC exemption, only if the answer is already cached, without waiting for a
+     * lookup in progress.
+     *
+     * @param companyNumber the company number
+     * @return the cached answer, or empty if none is cached
+     */
+    public Optional<Boolean> getCachedHasActivePscExemptions(final String companyNumber) {
+        return AsyncCaches.getIfLoaded(companyExemptionsCache, companyNumber);
     }
 
     public Optional<CompanyExemptions> getCompanyExemptions(final String companyNumber) {
         ApiResponse<CompanyExemptions> response = null;
+        DownstreamCallMetrics.Call call = downstreamCallMetrics.start(DownstreamCallMetrics.EXEMPTIONS_API);
         try {
             response = exemptionsApiClientSupplier.get()
                     .privateDeltaResourceHandler()
                     .getCompanyExemptionsResource("/company/%s/exemptions".formatted(companyNumber))
                     .execute();
+            if (response != null) {
+                call.status(response.getStatusCode());
+            }
         } catch (ApiErrorResponseException ex) {
             final int statusCode = ex.getStatusCode();
+            call.status(statusCode);
             LOGGER.info("Company Exemptions API GET failed with status code [%s]".formatted(statusCode),
                     DataMapHolder.getLogMap());
             if (statusCode != 404) {
@@ -48,9 +95,42 @@ public class CompanyExemptionsApiService {
             final String msg = "URI validation error when calling Company Exemptions API";
             LOGGER.info(msg, DataMapHolder.getLogMap());
             throw new BadGatewayException(msg, ex);
+        } finally {
+            call.stop();
         }
 
         return Optional.ofNullable(response)
                 .map(ApiResponse::getData);
     }
+
+    private boolean loadHasActivePscExemptions(final String companyNumber) {
+        PscSpanAttributes.cacheHit(false);
+        return getCompanyExemptions(companyNumber)
+                .map(CompanyExemptions::getExemptions)
+                .map(CompanyExemptionsApiService::hasActivePscExemption)
+                .orElse(false);
+    }
+
+    private static boolean hasActivePscExemption(Exemptions exemptions) {
+        return (exemptions.getPscExemptAsSharesAdmittedOnMarket() != null
+                && hasOpenExemption(exemptions.getPscExemptAsSharesAdmittedOnMarket().getItems()))
+                || (exemptions.getPscExemptAsTradingOnEuRegulatedMarket() != null
+                && hasOpenExemption(exemptions.getPscExemptAsTradingOnEuRegulatedMarket().getItems()))
+                || (exemptions.getPscExemptAsTradingOnRegulatedMarket() != null
+                && hasOpenExemption(exemptions.getPscExemptAsTradingOnRegulatedMarket().getItems()))
+                || (exemptions.getPscExemptAsTradingOnUkRegulatedMarket() != null
+                && hasOpenExemption(exemptions.getPscExemptAsTradingOnUkRegulatedMarket().getItems()));
+    }
+
+    private static boolean hasOpenExemption(List<ExemptionItem> items) {
+        if (items == null) {
+            return false;
+        }
+        for (ExemptionItem item : items) {
+            if (item.getExemptTo() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
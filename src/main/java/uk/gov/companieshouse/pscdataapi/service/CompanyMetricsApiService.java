@@ -2,6 +2,11 @@ package uk.gov.companieshouse.pscdataapi.service;
 
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.COMPANY_NUMBER;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -13,8 +18,11 @@ import uk.gov.companieshouse.api.metrics.MetricsApi;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.cache.AsyncCaches;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
 
 @Component
 public class CompanyMetricsApiService {
@@ -22,21 +30,61 @@ public class CompanyMetricsApiService {
     private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
 
     private final Supplier<InternalApiClient> metricsApiClientSupplier;
+    private final AsyncCache<String, Optional<MetricsApi>> companyMetricsCache;
+    private final DownstreamCallMetrics downstreamCallMetrics;
 
     public CompanyMetricsApiService(
-            @Qualifier("metricsApiClientSupplier") Supplier<InternalApiClient> meticsApiClientSupplier) {
+            @Qualifier("metricsApiClientSupplier") Supplier<InternalApiClient> meticsApiClientSupplier,
+            AsyncCache<String, Optional<MetricsApi>> companyMetricsCache, DownstreamCallMetrics downstreamCallMetrics) {
         this.metricsApiClientSupplier = meticsApiClientSupplier;
+        this.companyMetricsCache = companyMetricsCache;
+        this.downstreamCallMetrics = downstreamCallMetrics;
+    }
+
+    /**
+     * Get company metrics, served from the cache when present. A 404 from the Company Metrics API is cached as an
+     * empty result, errors are not cached, and concurrent misses for the same company share a single API call. The
+     * span records cache_hit as false only when this call loaded the metrics.
+     *
+     * @param companyNumber the company number.
+     * @return the company metrics, or empty if the company has none.
+     */
+    @WithSpan
+    public Optional<MetricsApi> getCompanyMetrics(@SpanAttribute(COMPANY_NUMBER) final String companyNumber) {
+        PscSpanAttributes.cacheHit(true);
+        return AsyncCaches.get(companyMetricsCache, companyNumber, this::fetchCompanyMetrics);
+    }
+
+    /**
+     * Get company metrics only if they are already cached, without calling the Company Metrics API or waiting for a
+     * call in progress.
+     *
+     * @param companyNumber the company number.
+     * @return the cached company metrics, or empty if none are cached or the company has none.
+     */
+    public Optional<MetricsApi> getCachedCompanyMetrics(final String companyNumber) {
+        return AsyncCaches.getIfLoaded(companyMetricsCache, companyNumber).flatMap(metrics -> metrics);
+    }
+
+    public void evictCompanyMetrics(final String companyNumber) {
+        companyMetricsCache.synchronous().invalidate(companyNumber);
     }
 
-    public Optional<MetricsApi> getCompanyMetrics(final String companyNumber) {
+    private Optional<MetricsApi> fetchCompanyMetrics(final String companyNumber) {
+        PscSpanAttributes.cacheHit(false);
         ApiResponse<MetricsApi> response = null;
+        DownstreamCallMetrics.Call call = downstreamCallMetrics.start(DownstreamCallMetrics.METRICS_API);
         try {
             response = metricsApiClientSupplier.get()
                     .privateCompanyMetricsResourceHandler()
                     .getCompanyMetrics(String.format("/company/%s/metrics", companyNumber))
                     .execute();
+            if (response != null) {
+                call.status(response.getStatusCode());
+            }
         } catch (ApiErrorResponseException ex) {
             final int statusCode = ex.getStatusCode();
+            call.status(statusCode);
             LOGGER.info("Company Metrics API call failed with status code [%s]".formatted(statusCode),
                     DataMapHolder.getLogMap());
             if (statusCode != 404) {
@@ -48,6 +96,8 @@ public class CompanyMetricsApiService {
             final String msg = "URI validation error when calling Company Metrics API";
             LOGGER.info(msg, DataMapHolder.getLogMap());
             throw new BadGatewayException(msg, ex);
+        } finally {
+            call.stop();
         }
 
         return Optional.ofNullable(response)
@@ -1,17 +1,34 @@
 package uk.gov.companieshouse.pscdataapi.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
 
-import uk.gov.companieshouse.api.exemptions.CompanyExemptions;
 import uk.gov.companieshouse.api.metrics.MetricsApi;
 import uk.gov.companieshouse.api.metrics.PscApi;
 import uk.gov.companieshouse.api.metrics.RegisterApi;
@@ -32,16 +49,40 @@ import uk.gov.companieshouse.logging.Logger;
 import uk.gov.companieshouse.logging.LoggerFactory;
 import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
 import uk.gov.companieshouse.pscdataapi.api.ChsKafkaApiService;
+import uk.gov.companieshouse.pscdataapi.cache.PscResponseCache;
+import uk.gov.companieshouse.pscdataapi.cache.PscResponseKey;
+import uk.gov.companieshouse.pscdataapi.config.DownstreamTimeouts;
+import uk.gov.companieshouse.pscdataapi.config.FeatureFlags;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounter;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounter.Change;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts;
+import uk.gov.companieshouse.pscdataapi.data.PscRoles;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
 import uk.gov.companieshouse.pscdataapi.exceptions.ConflictException;
 import uk.gov.companieshouse.pscdataapi.exceptions.NotFoundException;
+import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
 import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
-import uk.gov.companieshouse.pscdataapi.models.Created;
+import uk.gov.companieshouse.pscdataapi.metrics.StaleDeltaMetrics;
 import uk.gov.companieshouse.pscdataapi.models.Links;
 import uk.gov.companieshouse.pscdataapi.models.PersonsWithSignificantControl;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult.Status;
+import uk.gov.companieshouse.pscdataapi.models.PscBulkDeleteResult;
 import uk.gov.companieshouse.pscdataapi.models.PscData;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+import uk.gov.companieshouse.pscdataapi.models.PscListPage;
+import uk.gov.companieshouse.pscdataapi.models.PscRegisterViewPage;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedEvent;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedOutbox;
 import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
+import uk.gov.companieshouse.pscdataapi.repository.TransactionRetry;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.COMPANY_NUMBER;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.NOTIFICATION_ID;
+import static uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes.REGISTER_VIEW;
 import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
 import static uk.gov.companieshouse.pscdataapi.util.DateUtils.isDeltaStale;
 
@@ -63,45 +104,206 @@ public class CompanyPscService {
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS");
     private final CompanyPscTransformer transformer;
     private final CompanyPscRepository repository;
+    private final ResourceChangedOutbox resourceChangedOutbox;
     private final ChsKafkaApiService chsKafkaApiService;
+    private final CompanyPscCounter companyPscCounter;
+    private final PscResponseCache pscResponseCache;
     private final CompanyExemptionsApiService companyExemptionsApiService;
     private final CompanyMetricsApiService companyMetricsApiService;
+    private final FeatureFlags featureFlags;
+    private final Executor pscListExecutor;
+    private final DownstreamTimeouts downstreamTimeouts;
+    private final StaleDeltaMetrics staleDeltaMetrics;
+    private final TransactionRetry transactionRetry;
 
     public CompanyPscService(final CompanyPscTransformer transformer, final CompanyPscRepository repository,
-            final ChsKafkaApiService chsKafkaApiService, final CompanyExemptionsApiService companyExemptionsApiService,
-            final CompanyMetricsApiService companyMetricsApiService) {
+            final ResourceChangedOutbox resourceChangedOutbox, final ChsKafkaApiService chsKafkaApiService,
+            final CompanyPscCounter companyPscCounter, final PscResponseCache pscResponseCache,
+            final CompanyExemptionsApiService companyExemptionsApiService,
+            final CompanyMetricsApiService companyMetricsApiService, final FeatureFlags featureFlags,
+            @Qualifier("pscListExecutor") final Executor pscListExecutor, final DownstreamTimeouts downstreamTimeouts,
+            final StaleDeltaMetrics staleDeltaMetrics, final TransactionRetry transactionRetry) {
         this.transformer = transformer;
         this.repository = repository;
+        this.resourceChangedOutbox = resourceChangedOutbox;
         this.chsKafkaApiService = chsKafkaApiService;
+        this.companyPscCounter = companyPscCounter;
+        this.pscResponseCache = pscResponseCache;
         this.companyExemptionsApiService = companyExemptionsApiService;
         this.companyMetricsApiService = companyMetricsApiService;
+        this.featureFlags = featureFlags;
+        this.pscListExecutor = pscListExecutor;
+        this.downstreamTimeouts = downstreamTimeouts;
+        this.staleDeltaMetrics = staleDeltaMetrics;
+        this.transactionRetry = transactionRetry;
     }
 
+    /**
+     * Upserts a PSC full record, with its PSC counts and resource-changed event, in one transaction. A stale record
+     * fails the upsert with a duplicate key, which aborts the transaction, so it is reported as a conflict once the
+     * transaction has rolled back.
+     *
+     * @param requestBody the PSC full record.
+     */
+    @WithSpan
     public void insertPscRecord(FullRecordCompanyPSCApi requestBody) {
-        final String notificationId = requestBody.getExternalData().getNotificationId();
-        boolean isLatestRecord = isLatestRecord(notificationId, requestBody.getInternalData().getDeltaAt());
-        if (!isLatestRecord) {
+        try {
+            transactionRetry.executeWithoutResult(() -> upsertPscRecord(requestBody));
+        } catch (DuplicateKeyException ex) {
+            PscSpanAttributes.result("stale");
+            staleDeltaMetrics.record(StaleDeltaMetrics.UPSERT, requestBody.getExternalData().getData().getKind());
             final String msg = "Received stale delta";
             LOGGER.error(msg, DataMapHolder.getLogMap());
             throw new ConflictException(msg);
         }
+    }
 
-        PscDocument document = transformer.transformPscOnInsert(notificationId, requestBody);
-        save(notificationId, document);
-        chsKafkaApiService.invokeChsKafkaApi(requestBody.getExternalData().getCompanyNumber(), notificationId,
+    private void upsertPscRecord(FullRecordCompanyPSCApi requestBody) {
+        final String notificationId = requestBody.getExternalData().getNotificationId();
+        PscSpanAttributes.psc(requestBody.getExternalData().getCompanyNumber(), notificationId,
                 requestBody.getExternalData().getData().getKind());
+        PscDocument document = transformer.transformPscOnInsert(notificationId, requestBody);
+        PscDocument previous = repository.upsertIfNotStale(document);
+        PscSpanAttributes.result("applied");
+        companyPscCounter.record(new Change(document.getCompanyNumber(), previous, document));
+        pscResponseCache.evict(document.getCompanyNumber(), notificationId, previous, document);
+        companyMetricsApiService.evictCompanyMetrics(requestBody.getExternalData().getCompanyNumber());
+
+        resourceChangedOutbox.enqueue(ResourceChangedEvent.changed(requestBody.getExternalData().getCompanyNumber(),
+                notificationId, requestBody.getExternalData().getData().getKind()));
+    }
+
+    /**
+     * Upserts a batch of PSC full records. Staleness is checked for the whole batch with a single query and all
+     * non-stale records are written with a single bulk write. When the batch contains more than one delta for the same
+     * notification ID, only the latest is written and the others are reported as stale. The PSC counts and
+     * resource-changed events for the accepted records are written in the same transaction. The staleness query reads
+     * from the transaction's snapshot, so if another write to one of the PSCs commits first the transaction fails
+     * with a write conflict, no record in the batch is written, and the whole batch is retried.
+     *
+     * @param requestBodies the PSC full records.
+     * @return the status of each item, in request order.
+     */
+    @WithSpan
+    public List<PscBatchItemResult> insertPscRecords(List<FullRecordCompanyPSCApi> requestBodies) {
+        return transactionRetry.execute(() -> upsertPscRecords(requestBodies));
     }
 
+    private List<PscBatchItemResult> upsertPscRecords(List<FullRecordCompanyPSCApi> requestBodies) {
+        final Status[] statuses = new Status[requestBodies.size()];
+        final Map<String, Integer> latestIndexByNotificationId = new HashMap<>();
+
+        for (int index = 0; index < requestBodies.size(); index++) {
+            FullRecordCompanyPSCApi requestBody = requestBodies.get(index);
+            if (!isValidBatchItem(requestBody)) {
+                statuses[index] = Status.INVALID;
+                continue;
+            }
+            final String notificationId = requestBody.getExternalData().getNotificationId();
+            Integer currentIndex = latestIndexByNotificationId.get(notificationId);
+            if (currentIndex == null) {
+                latestIndexByNotificationId.put(notificationId, index);
+            } else if (requestBody.getInternalData().getDeltaAt()
+                    .isBefore(requestBodies.get(currentIndex).getInternalData().getDeltaAt())) {
+                statuses[index] = Status.STALE;
+            } else {
+                statuses[currentIndex] = Status.STALE;
+                latestIndexByNotificationId.put(notificationId, index);
+            }
+        }
+
+        final Map<String, PscDocument> existingDocuments = new HashMap<>();
+        if (!latestIndexByNotificationId.isEmpty()) {
+            repository.findDeltaAtByIdIn(latestIndexByNotificationId.keySet())
+                    .forEach(document -> existingDocuments.put(document.getId(), document));
+        }
+
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        latestIndexByNotificationId.forEach((notificationId, index) -> {
+            final String deltaAt = requestBodies.get(index).getInternalData().getDeltaAt().format(dateTimeFormatter);
+            final PscDocument existing = existingDocuments.get(notificationId);
+            final String existingDeltaAt = existing == null ? null : existing.getDeltaAt();
+            if (existingDeltaAt != null && existingDeltaAt.compareTo(deltaAt) > 0) {
+                statuses[index] = Status.STALE;
+            } else {
+                statuses[index] = Status.ACCEPTED;
+                acceptedIndexes.add(index);
+            }
+        });
+        Collections.sort(acceptedIndexes);
+
+        if (!acceptedIndexes.isEmpty()) {
+            final Map<Integer, PscDocument> documents = new HashMap<>();
+            acceptedIndexes.forEach(index -> {
+                FullRecordCompanyPSCApi requestBody = requestBodies.get(index);
+                documents.put(index, transformer.transformPscOnInsert(
+                        requestBody.getExternalData().getNotificationId(), requestBody));
+            });
+            repository.bulkUpsertPscs(acceptedIndexes.stream().map(documents::get).toList(),
+                    existingDocuments.keySet());
+            companyPscCounter.record(acceptedIndexes.stream()
+                    .map(index -> new Change(requestBodies.get(index).getExternalData().getCompanyNumber(),
+                            existingDocuments.get(requestBodies.get(index).getExternalData().getNotificationId()),
+                            documents.get(index)))
+                    .toList());
+            acceptedIndexes.forEach(index -> {
+                final String notificationId = requestBodies.get(index).getExternalData().getNotificationId();
+                pscResponseCache.evict(requestBodies.get(index).getExternalData().getCompanyNumber(), notificationId,
+                        existingDocuments.get(notificationId), documents.get(index));
+            });
+            acceptedIndexes.stream()
+                    .map(index -> requestBodies.get(index).getExternalData().getCompanyNumber())
+                    .distinct()
+                    .forEach(companyMetricsApiService::evictCompanyMetrics);
+            resourceChangedOutbox.enqueueAll(acceptedIndexes.stream()
+                    .map(requestBodies::get)
+                    .map(requestBody -> ResourceChangedEvent.changed(
+                            requestBody.getExternalData().getCompanyNumber(),
+                            requestBody.getExternalData().getNotificationId(),
+                            requestBody.getExternalData().getData().getKind()))
+                    .toList());
+        }
+
+        List<PscBatchItemResult> results = new ArrayList<>(requestBodies.size());
+        for (int index = 0; index < requestBodies.size(); index++) {
+            FullRecordCompanyPSCApi requestBody = requestBodies.get(index);
+            final String notificationId = requestBody != null && requestBody.getExternalData() != null
+                    ? requestBody.getExternalData().getNotificationId() : null;
+            if (statuses[index] == Status.STALE) {
+                staleDeltaMetrics.record(StaleDeltaMetrics.BATCH_UPSERT,
+                        requestBody.getExternalData().getData().getKind());
+            }
+            results.add(new PscBatchItemResult(index, notificationId, statuses[index]));
+        }
+
+        PscSpanAttributes.result(acceptedIndexes.size());
+        LOGGER.info("Processed PSC batch of [%d] records; [%d] accepted".formatted(
+                requestBodies.size(), acceptedIndexes.size()), DataMapHolder.getLogMap());
+        return results;
+    }
+
+    @WithSpan
     public void deletePsc(PscDeleteRequest deleteRequest) {
+        transactionRetry.executeWithoutResult(() -> deletePscInTransaction(deleteRequest));
+    }
+
+    private void deletePscInTransaction(PscDeleteRequest deleteRequest) {
+        PscSpanAttributes.psc(deleteRequest.companyNumber(), deleteRequest.notificationId(), deleteRequest.kind());
         Optional<PscDocument> pscDocument = repository.getPscByCompanyNumberAndId(deleteRequest.companyNumber(),
                 deleteRequest.notificationId());
         PscDocument document = null;
         if (pscDocument.isPresent()) {
             document = pscDocument.get();
-            deltaAtCheck(deleteRequest.deltaAt(), document);
+            deltaAtCheck(deleteRequest.deltaAt(), deleteRequest.kind(), document);
             repository.delete(document);
-            chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(deleteRequest, document);
+            companyPscCounter.record(Change.deleted(document));
+            pscResponseCache.evict(deleteRequest.companyNumber(), deleteRequest.notificationId(), document);
+            companyMetricsApiService.evictCompanyMetrics(deleteRequest.companyNumber());
+            resourceChangedOutbox.enqueue(ResourceChangedEvent.deleted(deleteRequest,
+                    chsKafkaApiService.deletedData(document)));
+            PscSpanAttributes.result("deleted");
         } else {
+            PscSpanAttributes.result("not_found");
             final String msg = "PSC document not found during delete - publishing event with links.persons_with_significant_control only";
             LOGGER.info(msg, DataMapHolder.getLogMap());
             // Construct a PscDocument with links.persons_with_significant_control object to publish
@@ -121,11 +323,64 @@ public class CompanyPscService {
             pscData.setLinks(links);
             pscDoc.setData(pscData);
      
-            chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(deleteRequest, pscDoc);
+            resourceChangedOutbox.enqueue(ResourceChangedEvent.deleted(deleteRequest,
+                    chsKafkaApiService.deletedData(pscDoc)));
+        }
+    }
+
+    /**
+     * Deletes all of a company's PSCs that are not stale for the given delta_at with a single deleteMany, and writes a
+     * deleted event for each to the outbox in the same transaction. Each event carries the deleted_data built from the
+     * deleted document, which is the same as for a single delete.
+     *
+     * @param companyNumber the company to delete PSCs for.
+     * @param contextId     the request ID recorded on the deleted events.
+     * @param deltaAt       the delta_at of the delete.
+     * @return the number of PSCs deleted and the notification IDs of those kept because they have a later delta_at.
+     */
+    @WithSpan
+    public PscBulkDeleteResult deleteCompanyPscs(@SpanAttribute(COMPANY_NUMBER) String companyNumber, String contextId,
+            String deltaAt) {
+        return transactionRetry.execute(() -> deleteCompanyPscsInTransaction(companyNumber, contextId, deltaAt));
+    }
+
+    private PscBulkDeleteResult deleteCompanyPscsInTransaction(String companyNumber, String contextId,
+            String deltaAt) {
+        List<PscDocument> deleted = repository.deleteAllIfNotStale(companyNumber, deltaAt);
+        List<PscDocument> stale = repository.findIdsByCompanyNumberAndDeltaAtAfter(companyNumber, deltaAt);
+        stale.forEach(document -> staleDeltaMetrics.record(StaleDeltaMetrics.COMPANY_DELETE,
+                document.getData() == null ? null : document.getData().getKind()));
+        List<String> staleNotificationIds = stale.stream()
+                .map(PscDocument::getId)
+                .toList();
+
+        if (!deleted.isEmpty()) {
+            companyPscCounter.record(deleted.stream().map(Change::deleted).toList());
+            deleted.forEach(document -> pscResponseCache.evict(companyNumber, document.getId(), document));
+            companyMetricsApiService.evictCompanyMetrics(companyNumber);
+            resourceChangedOutbox.enqueueAll(deleted.stream()
+                    .map(document -> ResourceChangedEvent.deleted(PscDeleteRequest.builder()
+                            .companyNumber(companyNumber)
+                            .notificationId(document.getId())
+                            .contextId(contextId)
+                            .kind(document.getData().getKind())
+                            .deltaAt(deltaAt)
+                            .build(), chsKafkaApiService.deletedData(document)))
+                    .toList());
         }
+        if (!staleNotificationIds.isEmpty()) {
+            LOGGER.info("Kept [%d] PSCs with a delta_at after [%s]".formatted(staleNotificationIds.size(), deltaAt),
+                    DataMapHolder.getLogMap());
+        }
+
+        PscSpanAttributes.result(deleted.size());
+        LOGGER.info("Deleted [%d] PSCs for company".formatted(deleted.size()), DataMapHolder.getLogMap());
+        return new PscBulkDeleteResult(deleted.size(), staleNotificationIds);
     }
 
-    public IndividualFullRecord getIndividualFullRecord(final String companyNumber, final String notificationId) {
+    @WithSpan
+    public IndividualFullRecord getIndividualFullRecord(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
         return repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
                 .filter(document -> INDIVIDUAL_PERSON_WITH_SIGNIFICANT_CONTROL.equals(document.getData().getKind()))
                 .map(transformer::transformPscDocToIndividualFullRecord)
@@ -135,113 +390,299 @@ public class CompanyPscService {
                 });
     }
 
-    public Individual getIndividualPsc(final String companyNumber, final String notificationId, final boolean registerView) {
-        return repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
-                .filter(document -> INDIVIDUAL_PERSON_WITH_SIGNIFICANT_CONTROL.equals(document.getData().getKind()))
-                .map(document -> {
-                    boolean showFullDateOfBirth = determineShowFullDob(companyNumber, registerView, document);
-                    return transformer.transformPscDocToIndividual(document, showFullDateOfBirth);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public Individual getIndividualPsc(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId,
+            @SpanAttribute(REGISTER_VIEW) final boolean registerView) {
+        return getPsc(companyNumber, notificationId, INDIVIDUAL_PERSON_WITH_SIGNIFICANT_CONTROL, registerView,
+                Individual.class, transformer::transformPscDocToIndividual);
     }
 
-    public IndividualBeneficialOwner getIndividualBeneficialOwnerPsc(final String companyNumber, final String notificationId,
-            final boolean registerView) {
-        return repository.findById(notificationId)
-                .filter(document -> INDIVIDUAL_BENEFICIAL_OWNER.equals(document.getData().getKind())
-                        && companyNumber.equals(document.getCompanyNumber()))
-                .map(document -> {
-                    boolean showFullDateOfBirth = determineShowFullDob(companyNumber, registerView, document);
-                    return transformer.transformPscDocToIndividualBeneficialOwner(document, showFullDateOfBirth);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public IndividualBeneficialOwner getIndividualBeneficialOwnerPsc(
+            @SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId,
+            @SpanAttribute(REGISTER_VIEW) final boolean registerView) {
+        return getPsc(companyNumber, notificationId, INDIVIDUAL_BENEFICIAL_OWNER, registerView,
+                IndividualBeneficialOwner.class, transformer::transformPscDocToIndividualBeneficialOwner);
     }
 
-    public CorporateEntity getCorporateEntityPsc(final String companyNumber, final String notificationId) {
-        return repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
-                .filter(document -> CORPORATE_ENTITY_PERSON_WITH_SIGNIFICANT_CONTROL.equals(document.getData().getKind())
-                        && companyNumber.equals(document.getCompanyNumber()))
-                .map(transformer::transformPscDocToCorporateEntity)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public CorporateEntity getCorporateEntityPsc(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, CORPORATE_ENTITY_PERSON_WITH_SIGNIFICANT_CONTROL, false,
+                CorporateEntity.class,
+                (document, showFullDob) -> transformer.transformPscDocToCorporateEntity(document));
     }
 
-    public CorporateEntityBeneficialOwner getCorporateEntityBeneficialOwnerPsc(final String companyNumber,
-            final String notificationId) {
-        return repository.findById(notificationId)
-                .filter(document -> CORPORATE_ENTITY_BENEFICIAL_OWNER.equals(document.getData().getKind())
-                        && companyNumber.equals(document.getCompanyNumber()))
-                .map(transformer::transformPscDocToCorporateEntityBeneficialOwner)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public CorporateEntityBeneficialOwner getCorporateEntityBeneficialOwnerPsc(
+            @SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, CORPORATE_ENTITY_BENEFICIAL_OWNER, false,
+                CorporateEntityBeneficialOwner.class,
+                (document, showFullDob) -> transformer.transformPscDocToCorporateEntityBeneficialOwner(document));
     }
 
-    public LegalPerson getLegalPersonPsc(final String companyNumber, final String notificationId) {
-        return repository.findById(notificationId)
-                .filter(document -> LEGAL_PERSON_PERSON_WITH_SIGNIFICANT_CONTROL.equals(document.getData().getKind())
-                        && companyNumber.equals(document.getCompanyNumber()))
-                .map(transformer::transformPscDocToLegalPerson)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public LegalPerson getLegalPersonPsc(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, LEGAL_PERSON_PERSON_WITH_SIGNIFICANT_CONTROL, false,
+                LegalPerson.class, (document, showFullDob) -> transformer.transformPscDocToLegalPerson(document));
     }
 
-    public LegalPersonBeneficialOwner getLegalPersonBeneficialOwnerPsc(final String companyNumber, final String notificationId) {
-        return repository.findById(notificationId)
-                .filter(document -> LEGAL_PERSON_BENEFICIAL_OWNER.equals(document.getData().getKind())
-                        && companyNumber.equals(document.getCompanyNumber()))
-                .map(transformer::transformPscDocToLegalPersonBeneficialOwner)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public LegalPersonBeneficialOwner getLegalPersonBeneficialOwnerPsc(
+            @SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, LEGAL_PERSON_BENEFICIAL_OWNER, false,
+                LegalPersonBeneficialOwner.class,
+                (document, showFullDob) -> transformer.transformPscDocToLegalPersonBeneficialOwner(document));
     }
 
-    public SuperSecure getSuperSecurePsc(final String companyNumber, final String notificationId) {
-        return repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
-                .filter(document -> SUPER_SECURE_PERSON_WITH_SIGNIFICANT_CONTROL.equals(document.getData().getKind()))
-                .map(transformer::transformPscDocToSuperSecure)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public SuperSecure getSuperSecurePsc(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, SUPER_SECURE_PERSON_WITH_SIGNIFICANT_CONTROL, false,
+                SuperSecure.class, (document, showFullDob) -> transformer.transformPscDocToSuperSecure(document));
     }
 
-    public SuperSecureBeneficialOwner getSuperSecureBeneficialOwnerPsc(final String companyNumber, final String notificationId) {
-        return repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
-                .filter(document -> SUPER_SECURE_BENEFICIAL_OWNER.equals(document.getData().getKind()))
-                .map(transformer::transformPscDocToSuperSecureBeneficialOwner)
-                .orElseThrow(() -> {
-                    LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
-                    return new NotFoundException(NOT_FOUND_MSG);
-                });
+    @WithSpan
+    public SuperSecureBeneficialOwner getSuperSecureBeneficialOwnerPsc(
+            @SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId) {
+        return getPsc(companyNumber, notificationId, SUPER_SECURE_BENEFICIAL_OWNER, false,
+                SuperSecureBeneficialOwner.class,
+                (document, showFullDob) -> transformer.transformPscDocToSuperSecureBeneficialOwner(document));
+    }
+
+    /**
+     * Get the etag of a stored PSC from the fields that identify its version, without reading the whole document.
+     *
+     * @return the etag, or empty if no PSC of the given kind is stored.
+     */
+    @WithSpan
+    public Optional<String> getPscEtag(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            @SpanAttribute(NOTIFICATION_ID) final String notificationId, final PscRoles kind) {
+        PscSpanAttributes.kind(kind.getRole());
+        return repository.getPscVersionByCompanyNumberAndId(companyNumber, notificationId)
+                .filter(document -> kind.getRole().equals(document.getData().getKind()))
+                .map(document -> document.getData().getEtag());
+    }
+
+    /*
+    Reads only the kind, etag and ceased status of the stored PSC, which decide whether it is found and whether the
+    full date of birth is shown, and serves the response from the cache when it holds one for the stored etag. The
+    full document is only read and transformed on a cache miss.
+     */
+    private <T> T getPsc(final String companyNumber, final String notificationId, final String kind,
+            final boolean registerView, final Class<T> type, final BiFunction<PscDocument, Boolean, T> transform) {
+        PscSpanAttributes.kind(kind);
+        PscDocument version = repository.getPscVersionByCompanyNumberAndId(companyNumber, notificationId)
+                .filter(document -> kind.equals(document.getData().getKind()))
+                .orElseThrow(CompanyPscService::pscNotFound);
+        final boolean showFullDateOfBirth = determineShowFullDob(companyNumber, registerView, version);
+
+        return pscResponseCache.get(new PscResponseKey(companyNumber, notificationId, kind, showFullDateOfBirth),
+                        version.getData().getEtag(), type,
+                        () -> repository.getPscByCompanyNumberAndId(companyNumber, notificationId)
+                                .filter(document -> kind.equals(document.getData().getKind())),
+                        document -> transform.apply(document, showFullDateOfBirth))
+                .orElseThrow(CompanyPscService::pscNotFound);
+    }
+
+    private static NotFoundException pscNotFound() {
+        LOGGER.error(NOT_FOUND_MSG, DataMapHolder.getLogMap());
+        return new NotFoundException(NOT_FOUND_MSG);
+    }
+
+    /**
+     * Builds a page of the PSC list. The company metrics, company exemptions and the Mongo page query are issued
+     * concurrently, except for the register view where the query needs the register move date from the metrics.
+     * When materialised counts are enabled the counts outside the register view are read from the PSC counts in
+     * place of the company metrics. Each dependency is awaited for at most its configured timeout.
+     */
+    @WithSpan
+    public PscList retrievePscListSummaryFromDb(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            final int startIndex, @SpanAttribute(REGISTER_VIEW) final boolean registerView, final int itemsPerPage) {
+        return retrievePscList(companyNumber, startIndex, registerView, itemsPerPage,
+                () -> repository.getPscDocumentList(companyNumber, startIndex, itemsPerPage),
+                movedOn -> repository.getListSummaryRegisterViewPage(companyNumber, startIndex, movedOn,
+                        itemsPerPage), transformer::transformPscDocToListSummary);
     }
 
-    public PscList retrievePscListSummaryFromDb(final String companyNumber, final int startIndex, final boolean registerView,
+    /**
+     * Builds a page of the PSC list outside the register view for its items to be streamed, with the counts and links
+     * it shows but items holding only the etags of the PSCs on the page, read with a projection. The etag of the page
+     * can then be worked out before any PSC is read in full.
+     */
+    @WithSpan
+    public PscList retrievePscListSummaryEnvelope(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            final int startIndex, final int itemsPerPage) {
+        return retrievePscList(companyNumber, startIndex, false, itemsPerPage,
+                () -> repository.getPscEtagList(companyNumber, startIndex, itemsPerPage), null,
+                CompanyPscService::etagOnly);
+    }
+
+    /**
+     * Get the etag of a page of the PSC list outside the register view without building it. The etags of the PSCs on
+     * the page are read with a projection, and the counts and exemptions link it shows are read from the PSC counts
+     * or from the company metrics and exemptions already cached, as the page itself would show them.
+     *
+     * @return the etag of the page, or empty if it cannot be worked out without calling the company metrics or
+     *         exemptions APIs.
+     */
+    @WithSpan
+    public Optional<String> getPscListEtag(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            final int startIndex, final int itemsPerPage) {
+        Optional<Boolean> hasActivePscExemptions = companyExemptionsApiService.getCachedHasActivePscExemptions(
+                companyNumber);
+        if (hasActivePscExemptions.isEmpty()) {
+            return Optional.empty();
+        }
+        PscList pscList = new PscList();
+        if (featureFlags.isMaterialisedCountsEnabled()) {
+            CompanyPscCounts pscCounts = companyPscCounter.find(companyNumber).orElseGet(CompanyPscCounts::new);
+            pscList.setActiveCount(pscCounts.getActive());
+            pscList.setCeasedCount(pscCounts.getCeased());
+            pscList.setTotalResults(pscCounts.getTotal());
+        } else {
+            Optional<PscApi> pscCounts = companyMetricsApiService.getCachedCompanyMetrics(companyNumber)
+                    .map(MetricsApi::getCounts)
+                    .map(counts -> counts.getPersonsWithSignificantControl());
+            if (pscCounts.isEmpty()) {
+                return Optional.empty();
+            }
+            pscList.setActiveCount(pscCounts.get().getActivePscsCount());
+            pscList.setCeasedCount(pscCounts.get().getCeasedPscsCount());
+            pscList.setTotalResults(pscCounts.get().getPscsCount());
+        }
+        Links links = new Links();
+        if (hasActivePscExemptions.get()) {
+            links.setExemptions(String.format("/company/%s/exemptions", companyNumber));
+        }
+        pscList.setLinks(links);
+        pscList.setStartIndex(startIndex);
+        pscList.setItemsPerPage(itemsPerPage);
+        pscList.setItems(repository.getPscEtagList(companyNumber, startIndex, itemsPerPage).stream()
+                .map(CompanyPscService::etagOnly)
+                .toList());
+        return Optional.of(pscListEtag(pscList));
+    }
+
+    private static ListSummary etagOnly(final PscDocument document) {
+        ListSummary listSummary = new ListSummary();
+        listSummary.setEtag(document.getData().getEtag());
+        return listSummary;
+    }
+
+    /**
+     * The etag of a page of the PSC list, which changes whenever a PSC on the page, the counts or the exemptions link
+     * change.
+     */
+    public static String pscListEtag(final PscList pscList) {
+        List<String> parts = new ArrayList<>();
+        parts.add(String.valueOf(pscList.getStartIndex()));
+        parts.add(String.valueOf(pscList.getItemsPerPage()));
+        parts.add(String.valueOf(pscList.getActiveCount()));
+        parts.add(String.valueOf(pscList.getCeasedCount()));
+        parts.add(String.valueOf(pscList.getTotalResults()));
+        parts.add(pscList.getLinks() instanceof Links links ? links.getExemptions() : null);
+        Optional.ofNullable(pscList.getItems()).orElse(List.of())
+                .forEach(listSummary -> parts.add(listSummary.getEtag()));
+        return DigestUtils.md5DigestAsHex(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the page of the PSC list that follows the position in a continuation token, or the first page when the
+     * token is empty. One more PSC than requested is read to find out whether a following page exists.
+     */
+    @WithSpan
+    public PscListPage retrievePscListSummaryPageFromDb(@SpanAttribute(COMPANY_NUMBER) final String companyNumber,
+            final String continuationToken, @SpanAttribute(REGISTER_VIEW) final boolean registerView,
             final int itemsPerPage) {
-        MetricsApi companyMetrics = companyMetricsApiService.getCompanyMetrics(companyNumber).orElseGet(() -> {
-            LOGGER.info("No company metrics data found", DataMapHolder.getLogMap());
-            return null;
-        });
+        if (itemsPerPage < 1) {
+            throw new BadRequestException("Items per page must be at least 1 when paging with a continuation token");
+        }
+        final PscListCursor after = decodeContinuationToken(continuationToken);
+        final int limit = itemsPerPage + 1;
+        final AtomicReference<String> nextToken = new AtomicReference<>();
+        PscList pscList = retrievePscList(companyNumber, 0, registerView, itemsPerPage,
+                () -> pageOf(repository.getPscDocumentListAfter(companyNumber, after, limit), itemsPerPage, nextToken),
+                movedOn -> {
+                    PscRegisterViewPage page = repository.getListSummaryRegisterViewPageAfter(companyNumber, after,
+                            movedOn, limit);
+                    return page.withDocuments(pageOf(page.documents(), itemsPerPage, nextToken));
+                }, transformer::transformPscDocToListSummary);
+        return new PscListPage(pscList, nextToken.get());
+    }
+
+    private PscList retrievePscList(final String companyNumber, final int startIndex, final boolean registerView,
+            final int itemsPerPage, Supplier<List<PscDocument>> documents,
+            Function<OffsetDateTime, PscRegisterViewPage> registerViewPage,
+            Function<PscDocument, ListSummary> toListSummary) {
+        final boolean materialisedCounts = !registerView && featureFlags.isMaterialisedCountsEnabled();
+        CompletableFuture<Optional<MetricsApi>> metricsFuture = materialisedCounts ? null
+                : CompletableFuture.supplyAsync(() -> companyMetricsApiService.getCompanyMetrics(companyNumber),
+                        pscListExecutor);
+        CompletableFuture<Optional<CompanyPscCounts>> countsFuture = materialisedCounts
+                ? CompletableFuture.supplyAsync(() -> companyPscCounter.find(companyNumber), pscListExecutor)
+                : null;
+        CompletableFuture<Boolean> exemptionsFuture = CompletableFuture.supplyAsync(
+                () -> companyExemptionsApiService.hasActivePscExemptions(companyNumber), pscListExecutor);
+        CompletableFuture<List<PscDocument>> documentsFuture = registerView ? null
+                : CompletableFuture.supplyAsync(documents, pscListExecutor);
+        try {
+            MetricsApi companyMetrics = metricsFuture == null ? null
+                    : awaitDownstream(metricsFuture, downstreamTimeouts.getMetrics(), "company metrics")
+                            .orElseGet(() -> {
+                                LOGGER.info("No company metrics data found", DataMapHolder.getLogMap());
+                                return null;
+                            });
 
-        if (registerView) {
-            return retrievePscDocumentListFromDbRegisterView(companyMetrics, companyNumber, startIndex, itemsPerPage);
+            if (registerView) {
+                return retrievePscDocumentListFromDbRegisterView(companyMetrics, exemptionsFuture, companyNumber,
+                        startIndex, itemsPerPage, registerViewPage, toListSummary);
+            }
+
+            List<PscDocument> pscDocuments = awaitMongo(documentsFuture);
+            CompanyPscCounts pscCounts = countsFuture == null ? null
+                    : awaitMongo(countsFuture).orElseGet(CompanyPscCounts::new);
+
+            return createPscDocumentList(pscDocuments, toListSummary, startIndex, itemsPerPage, companyNumber, null,
+                    pscCounts, companyMetrics,
+                    awaitDownstream(exemptionsFuture, downstreamTimeouts.getExemptions(), "company exemptions"));
+        } finally {
+            exemptionsFuture.cancel(false);
+            for (CompletableFuture<?> future : Arrays.asList(metricsFuture, countsFuture, documentsFuture)) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
         }
+    }
 
-        List<PscDocument> pscDocuments = repository.getPscDocumentList(companyNumber, startIndex, itemsPerPage);
+    private static PscListCursor decodeContinuationToken(final String continuationToken) {
+        if (continuationToken.isEmpty()) {
+            return null;
+        }
+        try {
+            return PscListCursor.decode(continuationToken);
+        } catch (IllegalArgumentException ex) {
+            final String msg = "Invalid continuation token";
+            LOGGER.error(msg, DataMapHolder.getLogMap());
+            throw new BadRequestException(msg);
+        }
+    }
 
-        return createPscDocumentList(pscDocuments, startIndex, itemsPerPage, companyNumber, false, companyMetrics);
+    private static List<PscDocument> pageOf(List<PscDocument> documents, final int itemsPerPage,
+            AtomicReference<String> nextToken) {
+        if (documents.size() <= itemsPerPage) {
+            return documents;
+        }
+        List<PscDocument> page = documents.subList(0, itemsPerPage);
+        nextToken.set(PscListCursor.after(page.getLast()).encode());
+        return page;
     }
 
     private boolean determineShowFullDob(final String companyNumber, final boolean registerView, PscDocument pscDocument) {
@@ -295,31 +736,25 @@ public class CompanyPscService {
         return !isCeased || movedToPublicRegister.isBefore(ceasedOn);
     }
 
-    private boolean isLatestRecord(final String notificationId, OffsetDateTime deltaAt) {
-        String formattedDate = deltaAt.format(dateTimeFormatter);
-        List<PscDocument> pscDocuments = repository
-                .findUpdatedPsc(notificationId, formattedDate);
-        return pscDocuments.isEmpty();
-    }
-
-    private void save(final String notificationId, PscDocument document) {
-        Optional.ofNullable(getCreatedFromCurrentRecord(notificationId))
-                .ifPresentOrElse(document::setCreated, () -> document.setCreated(new Created().setAt(LocalDateTime.now())));
-
-        repository.save(document);
-    }
-
-    private Created getCreatedFromCurrentRecord(final String notificationId) {
-        return repository.findById(notificationId)
-                .map(PscDocument::getCreated)
-                .orElse(null);
+    private static boolean isValidBatchItem(FullRecordCompanyPSCApi requestBody) {
+        return requestBody != null
+                && requestBody.getExternalData() != null
+                && requestBody.getInternalData() != null
+                && requestBody.getInternalData().getDeltaAt() != null
+                && requestBody.getExternalData().getNotificationId() != null
+                && requestBody.getExternalData().getCompanyNumber() != null
+                && requestBody.getExternalData().getData() != null
+                && requestBody.getExternalData().getData().getKind() != null;
     }
 
-
     private PscList retrievePscDocumentListFromDbRegisterView(MetricsApi companyMetrics,
-            String companyNumber, Integer startIndex, Integer itemsPerPage) {
+            CompletableFuture<Boolean> exemptionsFuture, String companyNumber, Integer startIndex,
+            Integer itemsPerPage, Function<OffsetDateTime, PscRegisterViewPage> registerViewPage,
+            Function<PscDocument, ListSummary> toListSummary) {
         if (companyMetrics == null) {
-            return createPscDocumentList(Collections.emptyList(), startIndex, itemsPerPage, companyNumber, true, null);
+            return createPscDocumentList(Collections.emptyList(), toListSummary, startIndex, itemsPerPage,
+                    companyNumber, null, null, null,
+                    awaitDownstream(exemptionsFuture, downstreamTimeouts.getExemptions(), "company exemptions"));
         }
 
         final String registerMovedTo = String.valueOf(Optional.of(companyMetrics)
@@ -333,12 +768,13 @@ public class CompanyPscService {
                 }));
 
         if (PUBLIC_REGISTER.equals(registerMovedTo)) {
-            List<PscDocument> pscStatementDocuments = repository.getListSummaryRegisterView(companyNumber,
-                    startIndex, companyMetrics.getRegisters().getPersonsWithSignificantControl().getMovedOn(),
-                    itemsPerPage);
+            final OffsetDateTime movedOn = companyMetrics.getRegisters().getPersonsWithSignificantControl().getMovedOn();
+            PscRegisterViewPage page = awaitMongo(CompletableFuture.supplyAsync(
+                    () -> registerViewPage.apply(movedOn), pscListExecutor));
 
-            return createPscDocumentList(pscStatementDocuments,
-                    startIndex, itemsPerPage, companyNumber, true, companyMetrics);
+            return createPscDocumentList(page.documents(), toListSummary, startIndex, itemsPerPage, companyNumber,
+                    page, null, companyMetrics,
+                    awaitDownstream(exemptionsFuture, downstreamTimeouts.getExemptions(), "company exemptions"));
         } else {
             final String msg = "Company not on public register";
             LOGGER.error(msg, DataMapHolder.getLogMap());
@@ -346,17 +782,20 @@ public class CompanyPscService {
         }
     }
 
-    private PscList createPscDocumentList(List<PscDocument> pscDocuments, final int startIndex, final int itemsPerPage,
-            final String companyNumber, final boolean registerView, MetricsApi companyMetrics) {
+    /*
+    In register view the counts cover the whole register view and come from the page query, otherwise they come from
+    the PSC counts when materialised counts are enabled and from the company metrics when not.
+     */
+    private PscList createPscDocumentList(List<PscDocument> pscDocuments,
+            Function<PscDocument, ListSummary> toListSummary, final int startIndex, final int itemsPerPage,
+            final String companyNumber, PscRegisterViewPage registerViewPage, CompanyPscCounts pscCounts,
+            MetricsApi companyMetrics, final boolean hasActivePscExemptions) {
         PscList pscList = new PscList();
 
-        List<PscData> pscData = pscDocuments.stream()
-                .map(PscDocument::getData)
-                .toList();
         List<ListSummary> documents = new ArrayList<>();
 
         for (PscDocument pscDocument : pscDocuments) {
-            ListSummary listSummary = transformer.transformPscDocToListSummary(pscDocument);
+            ListSummary listSummary = toListSummary.apply(pscDocument);
             documents.add(listSummary);
         }
 
@@ -373,55 +812,72 @@ public class CompanyPscService {
         pscList.setStartIndex(startIndex);
         pscList.setItems(documents);
 
-        if (hasActivePscExemptions(companyNumber)) {
+        if (hasActivePscExemptions) {
             links.setExemptions(String.format("/company/%s/exemptions", companyNumber));
         }
 
-        if (companyMetrics == null
+        if (registerViewPage != null) {
+            pscList.setActiveCount(registerViewPage.activeCount());
+            pscList.setCeasedCount(registerViewPage.ceasedCount());
+            pscList.setTotalResults(registerViewPage.activeCount() + registerViewPage.ceasedCount());
+        } else if (pscCounts != null) {
+            pscList.setActiveCount(pscCounts.getActive());
+            pscList.setCeasedCount(pscCounts.getCeased());
+            pscList.setTotalResults(pscCounts.getTotal());
+        } else if (companyMetrics == null
                 || companyMetrics.getCounts() == null // NOSONAR
                 || companyMetrics.getCounts().getPersonsWithSignificantControl() == null) {
             LOGGER.info("No company metrics for PSC data found", DataMapHolder.getLogMap());
         } else {
             PscApi pscCounts = companyMetrics.getCounts().getPersonsWithSignificantControl();
-            if (registerView) {
-                final int withdrawnCount = (int) pscData.stream()
-                        .filter(document -> document.getCeasedOn() != null)
-                        .count();
-
-                pscList.setCeasedCount(withdrawnCount);
-                pscList.setTotalResults(pscCounts.getActivePscsCount() + pscList.getCeasedCount());
-                pscList.setActiveCount(pscCounts.getActivePscsCount());
-            } else {
-                pscList.setActiveCount(pscCounts.getActivePscsCount());
-                pscList.setCeasedCount(pscCounts.getCeasedPscsCount());
-                pscList.setTotalResults(pscCounts.getPscsCount());
-            }
+            pscList.setActiveCount(pscCounts.getActivePscsCount());
+            pscList.setCeasedCount(pscCounts.getCeasedPscsCount());
+            pscList.setTotalResults(pscCounts.getPscsCount());
         }
 
+        PscSpanAttributes.result(documents.size());
         return pscList;
     }
 
-    private boolean hasActivePscExemptions(String companyNumber) {
-        Optional<CompanyExemptions> companyExemptions = companyExemptionsApiService.getCompanyExemptions(companyNumber);
+    private <T> T awaitDownstream(CompletableFuture<T> future, Duration timeout, String dependency) {
+        try {
+            return await(future, timeout);
+        } catch (TimeoutException ex) {
+            final String msg = "Timed out waiting for %s".formatted(dependency);
+            LOGGER.error(msg, DataMapHolder.getLogMap());
+            throw new BadGatewayException(msg, ex);
+        }
+    }
+
+    private <T> T awaitMongo(CompletableFuture<T> future) {
+        try {
+            return await(future, downstreamTimeouts.getMongo());
+        } catch (TimeoutException ex) {
+            final String msg = "Timed out waiting for PSC list query";
+            LOGGER.error(msg, DataMapHolder.getLogMap());
+            throw new ServiceUnavailableException(msg);
+        }
+    }
 
-        return companyExemptions.filter(x ->
-                x.getExemptions() != null &&
-                        ((x.getExemptions().getPscExemptAsSharesAdmittedOnMarket() != null &&
-                                x.getExemptions().getPscExemptAsSharesAdmittedOnMarket().getItems().stream()
-                                        .anyMatch(e -> e.getExemptTo() == null)) ||
-                                (x.getExemptions().getPscExemptAsTradingOnEuRegulatedMarket() != null &&
-                                        x.getExemptions().getPscExemptAsTradingOnEuRegulatedMarket().getItems().stream()
-                                                .anyMatch(e -> e.getExemptTo() == null)) ||
-                                (x.getExemptions().getPscExemptAsTradingOnRegulatedMarket() != null &&
-                                        x.getExemptions().getPscExemptAsTradingOnRegulatedMarket().getItems().stream()
-                                                .anyMatch(e -> e.getExemptTo() == null)) ||
-                                (x.getExemptions().getPscExemptAsTradingOnUkRegulatedMarket() != null &&
-                                        x.getExemptions().getPscExemptAsTradingOnUkRegulatedMarket().getItems().stream()
-                                                .anyMatch(e -> e.getExemptTo() == null)))).isPresent();
+    private static <T> T await(CompletableFuture<T> future, Duration timeout) throws TimeoutException {
+        try {
+            return timeout.isZero() || timeout.isNegative()
+                    ? future.get()
+                    : future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while building PSC list");
+        }
     }
 
-    private void deltaAtCheck(String requestDeltaAt, PscDocument document) {
+    private void deltaAtCheck(String requestDeltaAt, String kind, PscDocument document) {
         if (isDeltaStale(requestDeltaAt, document.getDeltaAt())) {
+            staleDeltaMetrics.record(StaleDeltaMetrics.DELETE, kind);
             final String msg = "Stale delta received; request delta_at: [%s] is not after existing delta_at: [%s]".formatted(
                     requestDeltaAt, document.getDeltaAt());
             LOGGER.error(msg, DataMapHolder.getLogMap());
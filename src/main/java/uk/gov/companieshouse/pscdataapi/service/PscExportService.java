@@ -0,0 +1,73 @@
+package uk.gov.companieshouse.pscdataapi.service;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
+import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
+
+@Service
+public class PscExportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final SerializedString LINE_SEPARATOR = new SerializedString("\n");
+
+    private final CompanyPscRepository repository;
+    private final CompanyPscTransformer transformer;
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public PscExportService(CompanyPscRepository repository, CompanyPscTransformer transformer,
+            ObjectMapper objectMapper, @Value("${psc.export.batch-size}") int batchSize) {
+        this.repository = repository;
+        this.transformer = transformer;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Write every PSC for a company, or the whole collection, to the given stream as newline-delimited list
+     * summaries. Documents are read from a cursor and written one at a time, so memory use is bounded by the cursor
+     * batch size and the generator buffer rather than the number of documents exported. The stream is flushed once
+     * at the end but not closed.
+     *
+     * @param companyNumber the company to export, or null to export every PSC
+     * @param out           the stream to write to
+     * @return the number of PSCs written
+     * @throws IOException if writing to the stream fails
+     */
+    public long exportPscs(String companyNumber, OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<PscDocument> documents = repository.streamPscs(companyNumber, batchSize);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(LINE_SEPARATOR);
+            Iterator<PscDocument> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, transformer.transformPscDocToListSummary(iterator.next()));
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        LOGGER.info("Exported %d PSCs".formatted(count), DataMapHolder.getLogMap());
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+package uk.gov.companieshouse.pscdataapi.service;
+
+import static uk.gov.companieshouse.pscdataapi.PscDataApiApplication.APPLICATION_NAME_SPACE;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.companieshouse.api.psc.PscList;
+import uk.gov.companieshouse.logging.Logger;
+import uk.gov.companieshouse.logging.LoggerFactory;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
+import uk.gov.companieshouse.pscdataapi.serialization.StreamingJsonWriter;
+import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
+
+@Service
+public class PscListStreamService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(APPLICATION_NAME_SPACE);
+    private static final String ITEMS = "items";
+
+    private final CompanyPscRepository repository;
+    private final CompanyPscTransformer transformer;
+    private final StreamingJsonWriter writer;
+    private final int batchSize;
+
+    public PscListStreamService(CompanyPscRepository repository, CompanyPscTransformer transformer,
+            StreamingJsonWriter writer, @Value("${psc.streaming.batch-size}") int batchSize) {
+        this.repository = repository;
+        this.transformer = transformer;
+        this.writer = writer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Write a page of the PSC list outside the register view to the given stream. The envelope, built by
+     * {@link CompanyPscService#retrievePscListSummaryEnvelope}, is written first and each PSC on the page is then read
+     * from a cursor, transformed and written in turn, so memory use is bounded by the cursor batch size rather than
+     * the page size. The stream is not closed.
+     *
+     * @param companyNumber the company the page is for.
+     * @param envelope      the page without its items.
+     * @param out           the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    public void writePscList(String companyNumber, PscList envelope, OutputStream out) throws IOException {
+        long count;
+        try (Stream<PscDocument> documents = repository.streamPscDocumentList(companyNumber,
+                envelope.getStartIndex(), envelope.getItemsPerPage(), batchSize)) {
+            count = writer.write(envelope, ITEMS, documents.map(transformer::transformPscDocToListSummary), out);
+        }
+        LOGGER.info("Streamed %d PSCs".formatted(count), DataMapHolder.getLogMap());
+    }
+}
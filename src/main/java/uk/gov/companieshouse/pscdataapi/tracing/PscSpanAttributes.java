@@ -0,0 +1,54 @@
+package uk.gov.companieshouse.pscdataapi.tracing;
+
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Names of the PSC attributes carried on the spans created with @WithSpan around service methods, so a trace of a
+ * slow request can be matched to the company and PSC it served. The result of a method is added to its span once
+ * known, and methods served from a cache record whether they were; outside a traced method the current span is a
+ * no-op and nothing is recorded.
+ */
+public final class PscSpanAttributes {
+
+    public static final String COMPANY_NUMBER = "company_number";
+    public static final String NOTIFICATION_ID = "notification_id";
+    public static final String KIND = "kind";
+    public static final String REGISTER_VIEW = "register_view";
+    public static final String RESULT = "result";
+    public static final String CACHE_HIT = "cache_hit";
+
+    private PscSpanAttributes() {
+    }
+
+    /**
+     * Add the PSC a method acts on to the current span, where it is not passed in as separate parameters.
+     */
+    public static void psc(String companyNumber, String notificationId, String kind) {
+        Span span = Span.current();
+        if (companyNumber != null) {
+            span.setAttribute(COMPANY_NUMBER, companyNumber);
+        }
+        if (notificationId != null) {
+            span.setAttribute(NOTIFICATION_ID, notificationId);
+        }
+        kind(kind);
+    }
+
+    public static void kind(String kind) {
+        if (kind != null) {
+            Span.current().setAttribute(KIND, kind);
+        }
+    }
+
+    public static void result(String result) {
+        Span.current().setAttribute(RESULT, result);
+    }
+
+    public static void result(long result) {
+        Span.current().setAttribute(RESULT, result);
+    }
+
+    public static void cacheHit(boolean cacheHit) {
+        Span.current().setAttribute(CACHE_HIT, cacheHit);
+    }
+}
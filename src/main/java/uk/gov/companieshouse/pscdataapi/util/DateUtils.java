@@ -3,6 +3,7 @@ package uk.gov.companieshouse.pscdataapi.util;
 import static java.time.ZoneOffset.UTC;
 
 import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.format.DateTimeFormatter;
 import org.apache.commons.lang3.StringUtils;
 
@@ -18,4 +19,13 @@ public final class DateUtils {
         return StringUtils.isNotBlank(existingDeltaAt) && OffsetDateTime.parse(requestDeltaAt, FORMATTER)
                 .isBefore(OffsetDateTime.parse(existingDeltaAt, FORMATTER));
     }
+
+    public static boolean isValidDeltaAt(final String deltaAt) {
+        try {
+            OffsetDateTime.parse(deltaAt, FORMATTER);
+            return true;
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
 }
\ No newline at end of file
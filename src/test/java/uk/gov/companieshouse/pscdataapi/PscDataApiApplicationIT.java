@@ -1,5 +1,6 @@
 package uk.gov.companieshouse.pscdataapi;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -9,12 +10,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.test.web.servlet.MockMvc;
 
 @AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 class PscDataApiApplicationIT {
 
@@ -34,4 +37,11 @@ class PscDataApiApplicationIT {
                 .andExpect(status().isOk())
                 .andExpect(content().string("{\"status\":\"UP\"}"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnMetricsFromPrometheusEndpoint() throws Exception {
+        this.mockMvc.perform(get("/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("psc_outbox_parked_events")));
+    }
+}
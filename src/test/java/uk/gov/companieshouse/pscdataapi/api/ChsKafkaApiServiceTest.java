@@ -12,11 +12,14 @@ import static uk.gov.companieshouse.pscdataapi.util.TestHelper.COMPANY_NUMBER;
 import static uk.gov.companieshouse.pscdataapi.util.TestHelper.NOTIFICATION_ID;
 import static uk.gov.companieshouse.pscdataapi.util.TestHelper.X_REQUEST_ID;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +30,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.chskafka.ChangedResource;
@@ -42,8 +46,9 @@ import uk.gov.companieshouse.api.psc.LegalPerson;
 import uk.gov.companieshouse.api.psc.LegalPersonBeneficialOwner;
 import uk.gov.companieshouse.api.psc.SuperSecure;
 import uk.gov.companieshouse.api.psc.SuperSecureBeneficialOwner;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
 import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
-import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
 import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
@@ -58,17 +63,20 @@ class ChsKafkaApiServiceTest {
     private static final String PSC_URI = "/company/%s/persons-with-significant-control/%s/%s";
     private static final DateTimeFormatter ROUNDED_TO_SECONDS_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-    private static final String KIND = "individual-person-with-significant-control";
+    private static final Map<String, Object> DELETED_DATA = Map.of("name", "deleted");
 
     @InjectMocks
     private ChsKafkaApiService chsKafkaApiService;
 
     @Mock
     private Supplier<InternalApiClient> kafkaApiClientSupplier;
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ApplicationConfig(null, null, null, null, null, null).objectMapper();
     @Mock
     private CompanyPscTransformer companyPscTransformer;
+    @Spy
+    private DownstreamCallMetrics downstreamCallMetrics = new DownstreamCallMetrics(new SimpleMeterRegistry(),
+            OpenTelemetry.noop());
 
     @Mock
     private InternalApiClient client;
@@ -78,10 +86,6 @@ class ChsKafkaApiServiceTest {
     private PrivateChangedResourcePost privateChangedResourcePost;
     @Mock
     private ApiResponse<Void> response;
-    @Mock
-    private PscDocument pscDocument;
-    @Mock
-    private PscData pscData;
 
     @Captor
     ArgumentCaptor<ChangedResource> changedResourceCaptor;
@@ -108,7 +112,7 @@ class ChsKafkaApiServiceTest {
     }
 
     @Test
-    void invokeChsKafkaEndpointWithDeleteForIndividual() throws ApiErrorResponseException, JsonProcessingException {
+    void invokeChsKafkaEndpointWithDeleteForIndividual() throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -121,14 +125,11 @@ class ChsKafkaApiServiceTest {
         individual.setName("Individual");
         when(companyPscTransformer.transformPscDocToIndividual(document, false)).thenReturn(individual);
 
-        when(objectMapper.writeValueAsString(individual)).thenReturn(individual.toString());
-        when(objectMapper.readValue(individual.toString(), Object.class)).thenReturn(individual);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.INDIVIDUAL_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -136,12 +137,34 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(Individual.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), individual.getKind().getValue(),
+                individual.getName());
+        verify(companyPscTransformer, times(1)).transformPscDocToIndividual(document, false);
+    }
+
+    @Test
+    void deletedDataLeavesOutNullFields() {
+        // given
+        PscDocument document = TestHelper.buildPscDocument(TestHelper.INDIVIDUAL_KIND);
+        Individual individual = new Individual();
+        individual.setKind(Individual.KindEnum.INDIVIDUAL_PERSON_WITH_SIGNIFICANT_CONTROL);
+        individual.setName("Individual");
+        individual.setNotifiedOn(LocalDate.of(2024, 2, 19));
+        when(companyPscTransformer.transformPscDocToIndividual(document, false)).thenReturn(individual);
+
+        // when
+        Map<String, Object> deletedData = chsKafkaApiService.deletedData(document);
+
+        // then
+        assertDeletedData(deletedData, "individual-person-with-significant-control", "Individual");
+        assertThat(deletedData)
+                .containsEntry("notified_on", "2024-02-19")
+                .doesNotContainKey("etag");
     }
 
     @Test
     void invokeChsKafkaEndpointWithDeleteForIndividualBeneficialOwner()
-            throws ApiErrorResponseException, JsonProcessingException {
+            throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -155,14 +178,11 @@ class ChsKafkaApiServiceTest {
         when(companyPscTransformer.transformPscDocToIndividualBeneficialOwner(document, false)).thenReturn(
                 individualBO);
 
-        when(objectMapper.writeValueAsString(individualBO)).thenReturn(individualBO.toString());
-        when(objectMapper.readValue(individualBO.toString(), Object.class)).thenReturn(individualBO);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.INDIVIDUAL_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -170,11 +190,12 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(IndividualBeneficialOwner.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), individualBO.getKind().getValue(),
+                individualBO.getName());
     }
 
     @Test
-    void invokeChsKafkaEndpointWithDeleteForLegalPerson() throws ApiErrorResponseException, JsonProcessingException {
+    void invokeChsKafkaEndpointWithDeleteForLegalPerson() throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -187,14 +208,11 @@ class ChsKafkaApiServiceTest {
         legalPerson.setName("Legal-Person");
         when(companyPscTransformer.transformPscDocToLegalPerson(document)).thenReturn(legalPerson);
 
-        when(objectMapper.writeValueAsString(legalPerson)).thenReturn(legalPerson.toString());
-        when(objectMapper.readValue(legalPerson.toString(), Object.class)).thenReturn(legalPerson);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.LEGAL_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -202,12 +220,13 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(LegalPerson.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), legalPerson.getKind().getValue(),
+                legalPerson.getName());
     }
 
     @Test
     void invokeChsKafkaEndpointWithDeleteForLegalPersonBeneficialOwner()
-            throws ApiErrorResponseException, JsonProcessingException {
+            throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -221,16 +240,11 @@ class ChsKafkaApiServiceTest {
         when(companyPscTransformer.transformPscDocToLegalPersonBeneficialOwner(
                 document)).thenReturn(legalPersonBeneficialOwner);
 
-        when(objectMapper.writeValueAsString(legalPersonBeneficialOwner))
-                .thenReturn(legalPersonBeneficialOwner.toString());
-        when(objectMapper.readValue(legalPersonBeneficialOwner.toString(), Object.class))
-                .thenReturn(legalPersonBeneficialOwner);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.LEGAL_BO_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -238,11 +252,12 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(LegalPersonBeneficialOwner.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(),
+                legalPersonBeneficialOwner.getKind().getValue(), legalPersonBeneficialOwner.getName());
     }
 
     @Test
-    void invokeChsKafkaEndpointWithDeleteForSuperSecure() throws ApiErrorResponseException, JsonProcessingException {
+    void invokeChsKafkaEndpointWithDeleteForSuperSecure() throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -255,14 +270,11 @@ class ChsKafkaApiServiceTest {
         when(companyPscTransformer.transformPscDocToSuperSecure(
                 document)).thenReturn(superSecure);
 
-        when(objectMapper.writeValueAsString(superSecure)).thenReturn(superSecure.toString());
-        when(objectMapper.readValue(superSecure.toString(), Object.class)).thenReturn(superSecure);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.SECURE_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -270,11 +282,11 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(SuperSecure.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), superSecure.getKind().getValue());
     }
 
     @Test
-    void invokeChsKafkaEndpointWithDeleteForSuperSecureBO() throws ApiErrorResponseException, JsonProcessingException {
+    void invokeChsKafkaEndpointWithDeleteForSuperSecureBO() throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -287,14 +299,11 @@ class ChsKafkaApiServiceTest {
         when(companyPscTransformer.transformPscDocToSuperSecureBeneficialOwner(
                 document)).thenReturn(superSecureBO);
 
-        when(objectMapper.writeValueAsString(superSecureBO)).thenReturn(superSecureBO.toString());
-        when(objectMapper.readValue(superSecureBO.toString(), Object.class)).thenReturn(superSecureBO);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.SECURE_BO_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -302,12 +311,12 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(SuperSecureBeneficialOwner.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), superSecureBO.getKind().getValue());
     }
 
     @Test
     void invokeChsKafkaEndpointWithDeleteForCorporateEntity()
-            throws ApiErrorResponseException, JsonProcessingException {
+            throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -320,14 +329,11 @@ class ChsKafkaApiServiceTest {
         corporateEntity.setName("Corporate-Entity-Person-With-Significant-Control");
         when(companyPscTransformer.transformPscDocToCorporateEntity(document)).thenReturn(corporateEntity);
 
-        when(objectMapper.writeValueAsString(corporateEntity)).thenReturn(corporateEntity.toString());
-        when(objectMapper.readValue(corporateEntity.toString(), Object.class)).thenReturn(corporateEntity);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.CORPORATE_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -335,12 +341,13 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(CorporateEntity.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), corporateEntity.getKind().getValue(),
+                corporateEntity.getName());
     }
 
     @Test
     void invokeChsKafkaEndpointWithDeleteForCorporateEntityBO()
-            throws ApiErrorResponseException, JsonProcessingException {
+            throws ApiErrorResponseException {
         // given
         when(kafkaApiClientSupplier.get()).thenReturn(client);
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
@@ -354,14 +361,11 @@ class ChsKafkaApiServiceTest {
         when(companyPscTransformer.transformPscDocToCorporateEntityBeneficialOwner(document)).thenReturn(
                 corporateEntityBO);
 
-        when(objectMapper.writeValueAsString(corporateEntityBO)).thenReturn(corporateEntityBO.toString());
-        when(objectMapper.readValue(corporateEntityBO.toString(), Object.class)).thenReturn(corporateEntityBO);
-
         // when
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         TestHelper.CORPORATE_BO_KIND, DELTA_AT),
-                document);
+                chsKafkaApiService.deletedData(document));
         assertThat(apiResponse).isNotNull();
 
         //then
@@ -369,8 +373,8 @@ class ChsKafkaApiServiceTest {
         verify(privateChangedResourceHandler, times(1)).postChangedResource(any(), changedResourceCaptor.capture());
         verify(privateChangedResourcePost, times(1)).execute();
         assertThat(changedResourceCaptor.getValue().getEvent().getType()).isEqualTo(EVENT_TYPE_DELETED);
-        assertThat(changedResourceCaptor.getValue().getDeletedData()).isInstanceOf(
-                CorporateEntityBeneficialOwner.class);
+        assertDeletedData(changedResourceCaptor.getValue().getDeletedData(), corporateEntityBO.getKind().getValue(),
+                corporateEntityBO.getName());
     }
 
     @Test
@@ -400,12 +404,10 @@ class ChsKafkaApiServiceTest {
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
         when(privateChangedResourceHandler.postChangedResource(any(), any())).thenReturn(privateChangedResourcePost);
         when(privateChangedResourcePost.execute()).thenThrow(exception);
-        when(pscDocument.getData()).thenReturn(pscData);
-        when(pscData.getKind()).thenReturn(KIND);
 
         Executable executable = () -> chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
-                        "kind", "deltaAt"), pscDocument);
+                        "kind", "deltaAt"), DELETED_DATA);
 
         assertThrows(ServiceUnavailableException.class, executable);
         verify(client, times(1)).privateChangedResourceHandler();
@@ -439,12 +441,10 @@ class ChsKafkaApiServiceTest {
         when(client.privateChangedResourceHandler()).thenReturn(privateChangedResourceHandler);
         when(privateChangedResourceHandler.postChangedResource(any(), any())).thenReturn(privateChangedResourcePost);
         when(privateChangedResourcePost.execute()).thenThrow(exception);
-        when(pscDocument.getData()).thenReturn(pscData);
-        when(pscData.getKind()).thenReturn(KIND);
 
         Executable executable = () -> chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
-                        "kind", "deltaAt"), pscDocument);
+                        "kind", "deltaAt"), DELETED_DATA);
 
         assertThrows(RuntimeException.class, executable);
         verify(client, times(1)).privateChangedResourceHandler();
@@ -487,4 +487,18 @@ class ChsKafkaApiServiceTest {
         assertEquals(expectedUri, changedResourceCaptor.getValue().getResourceUri());
 
     }
+
+    private static void assertDeletedData(Map<String, Object> deletedData, String kind, String name) {
+        assertThat(deletedData)
+                .containsEntry("kind", kind)
+                .containsEntry("name", name)
+                .doesNotContainValue(null);
+    }
+
+    private static void assertDeletedData(Map<String, Object> deletedData, String kind) {
+        assertThat(deletedData)
+                .containsEntry("kind", kind)
+                .doesNotContainKey("name")
+                .doesNotContainValue(null);
+    }
 }
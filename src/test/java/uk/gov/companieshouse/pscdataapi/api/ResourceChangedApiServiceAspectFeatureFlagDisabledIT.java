@@ -88,7 +88,8 @@ class ResourceChangedApiServiceAspectFeatureFlagDisabledIT {
         ApiResponse<?> apiResponse = chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         "individual-person-with-significant-control", "deltaAt"),
-                TestHelper.buildPscDocument("individual-persons-with-significant-control"));
+                chsKafkaApiService.deletedData(
+                        TestHelper.buildPscDocument("individual-persons-with-significant-control")));
 
         Assertions.assertThat(apiResponse).isNotNull();
 
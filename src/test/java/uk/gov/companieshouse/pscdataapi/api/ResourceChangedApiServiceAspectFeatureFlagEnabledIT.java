@@ -79,7 +79,8 @@ class ResourceChangedApiServiceAspectFeatureFlagEnabledIT {
         chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(
                 new PscDeleteRequest(TestHelper.X_REQUEST_ID, TestHelper.COMPANY_NUMBER, TestHelper.NOTIFICATION_ID,
                         "individual-person-with-significant-control", "deltaAt"),
-                TestHelper.buildPscDocument("individual-persons-with-significant-control"));
+                chsKafkaApiService.deletedData(
+                        TestHelper.buildPscDocument("individual-persons-with-significant-control")));
 
         verifyNoInteractions(apiClientService);
         verifyNoInteractions(internalApiClient);
@@ -0,0 +1,94 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
+
+class AsyncCachesTest {
+
+    private static final String KEY = "12345678";
+
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().recordStats().buildAsync();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadOnCallingThreadAndServeLaterLookupsFromCache() {
+        Thread caller = Thread.currentThread();
+
+        String loaded = AsyncCaches.get(cache, KEY, key -> {
+            assertSame(caller, Thread.currentThread());
+            loads.incrementAndGet();
+            return "value";
+        });
+        String cached = AsyncCaches.get(cache, KEY, key -> "other");
+
+        assertEquals("value", loaded);
+        assertEquals("value", cached);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.synchronous().stats().hitCount());
+        assertEquals(1, cache.synchronous().stats().missCount());
+    }
+
+    @Test
+    void shouldShareLoadInProgressWithConcurrentLookups() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> AsyncCaches.get(cache, KEY, key -> {
+                loading.countDown();
+                await(release);
+                loads.incrementAndGet();
+                return "value";
+            }));
+            loading.await();
+
+            Optional<String> whileLoading = AsyncCaches.getIfLoaded(cache, KEY);
+            Future<String> second = executor.submit(() -> AsyncCaches.get(cache, KEY, key -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+
+            assertTrue(whileLoading.isEmpty());
+            assertEquals("value", first.get());
+            assertEquals("value", second.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(Optional.of("value"), AsyncCaches.getIfLoaded(cache, KEY));
+    }
+
+    @Test
+    void shouldRethrowFailedLoadAndNotCacheIt() {
+        BadGatewayException failure = new BadGatewayException("Error calling API", new RuntimeException());
+
+        BadGatewayException actual = assertThrows(BadGatewayException.class,
+                () -> AsyncCaches.get(cache, KEY, key -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, actual);
+        assertTrue(AsyncCaches.getIfLoaded(cache, KEY).isEmpty());
+        assertEquals("value", AsyncCaches.get(cache, KEY, key -> "value"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.companieshouse.pscdataapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.psc.CorporateEntity;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+@ExtendWith(MockitoExtension.class)
+class PscResponseCacheTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String NOTIFICATION_ID = "notificationId";
+    private static final String KIND = "corporate-entity-person-with-significant-control";
+    private static final PscResponseKey KEY = new PscResponseKey(COMPANY_NUMBER, NOTIFICATION_ID, KIND, false);
+
+    @Mock
+    private SharedPscResponseStore sharedStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PscResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PscResponseCache(Caffeine.newBuilder().build(), Optional.of(sharedStore), objectMapper,
+                meterRegistry);
+    }
+
+    @Test
+    void shouldServeSharedEntryWithTheStoredEtagWithoutLoading() throws Exception {
+        when(sharedStore.get(KEY.sharedKey())).thenReturn(Optional.of(
+                "{\"etag\":\"etag\",\"response\":" + objectMapper.writeValueAsString(response("NAME")) + "}"));
+
+        Optional<CorporateEntity> result = cache.get(KEY, "etag", CorporateEntity.class,
+                () -> fail("should not load"), document -> fail("should not transform"));
+
+        assertEquals(Optional.of(response("NAME")), result);
+        assertEquals(1.0, requests("shared_hit"));
+
+        // Served from the local tier from now on
+        cache.get(KEY, "etag", CorporateEntity.class, () -> fail("should not load"),
+                document -> fail("should not transform"));
+        assertEquals(1.0, requests("local_hit"));
+    }
+
+    @Test
+    void shouldLoadAndReplaceSharedEntryWithAnOutdatedEtag() throws Exception {
+        when(sharedStore.get(KEY.sharedKey())).thenReturn(Optional.of("{\"etag\":\"old\",\"response\":{}}"));
+
+        Optional<CorporateEntity> result = cache.get(KEY, "etag", CorporateEntity.class,
+                () -> Optional.of(document("etag")), document -> response("NAME"));
+
+        assertEquals(Optional.of(response("NAME")), result);
+        assertEquals(1.0, requests("miss"));
+        ArgumentCaptor<String> entry = ArgumentCaptor.forClass(String.class);
+        verify(sharedStore).put(eq(KEY.sharedKey()), entry.capture());
+        assertEquals("etag", objectMapper.readTree(entry.getValue()).path("etag").asText());
+    }
+
+    @Test
+    void shouldNotCacheDocumentWithoutEtag() {
+        cache.get(KEY, null, CorporateEntity.class, () -> Optional.of(document(null)), document -> response("NAME"));
+
+        verify(sharedStore, never()).get(anyString());
+        verify(sharedStore, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    void shouldEvictBothDateOfBirthVariantsOfEachKind() {
+        cache.evict(COMPANY_NUMBER, NOTIFICATION_ID, null, document("etag"));
+
+        verify(sharedStore).evict(List.of(KEY.sharedKey(),
+                new PscResponseKey(COMPANY_NUMBER, NOTIFICATION_ID, KIND, true).sharedKey()));
+    }
+
+    @Test
+    void shouldFallBackToLoadingWhenSharedStoreFails() {
+        when(sharedStore.get(KEY.sharedKey())).thenThrow(new IllegalStateException("unavailable"));
+
+        Optional<CorporateEntity> result = cache.get(KEY, "etag", CorporateEntity.class,
+                () -> Optional.of(document("etag")), document -> response("NAME"));
+
+        assertTrue(result.isPresent());
+        assertEquals(1.0, requests("miss"));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("psc.response_cache.requests").tag("kind", KIND).tag("result", result).counter()
+                .count();
+    }
+
+    private static PscDocument document(String etag) {
+        PscData data = new PscData();
+        data.setKind(KIND);
+        data.setEtag(etag);
+        PscDocument document = new PscDocument();
+        document.setData(data);
+        return document;
+    }
+
+    private static CorporateEntity response(String name) {
+        CorporateEntity response = new CorporateEntity();
+        response.setName(name);
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class ExecutorConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ExecutorConfig.class)
+            .withPropertyValues(
+                    "psc.list.executor.core-size=2",
+                    "psc.list.executor.max-size=4",
+                    "psc.list.executor.queue-capacity=8",
+                    "psc.list.executor.virtual-concurrency-limit=16");
+
+    @Test
+    void shouldUseBoundedThreadPoolByDefault() {
+        contextRunner.run(context -> assertThat(context.getBean("pscListExecutor"))
+                .isInstanceOf(ThreadPoolTaskExecutor.class));
+    }
+
+    @Test
+    void shouldUseVirtualThreadsWhenEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    SimpleAsyncTaskExecutor executor = context.getBean("pscListExecutor",
+                            SimpleAsyncTaskExecutor.class);
+                    assertThat(executor.getConcurrencyLimit()).isEqualTo(16);
+                });
+    }
+
+    @Test
+    void shouldRunTasksInTheSubmittingThreadsTraceContext() {
+        SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331",
+                TraceFlags.getSampled(), TraceState.getDefault());
+        contextRunner.run(context -> {
+            AsyncTaskExecutor executor = context.getBean("pscListExecutor", AsyncTaskExecutor.class);
+            Future<SpanContext> taskSpanContext;
+            try (Scope ignored = Span.wrap(spanContext).makeCurrent()) {
+                taskSpanContext = executor.submit(() -> Span.current().getSpanContext());
+            }
+            assertThat(taskSpanContext.get()).isEqualTo(spanContext);
+        });
+    }
+}
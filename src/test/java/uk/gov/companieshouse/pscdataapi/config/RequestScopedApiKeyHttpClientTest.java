@@ -0,0 +1,55 @@
+package uk.gov.companieshouse.pscdataapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscdataapi.logging.DataMapHolder;
+
+class RequestScopedApiKeyHttpClientTest {
+
+    private static final GenericUrl URL = new GenericUrl("http://localhost:8888/company/12345678/metrics");
+
+    private final RequestScopedApiKeyHttpClient client = new RequestScopedApiKeyHttpClient("apiKey",
+            Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        DataMapHolder.clear();
+    }
+
+    @Test
+    void shouldSendRequestIdOfCallingThread() throws Exception {
+        DataMapHolder.initialise("request-1");
+
+        HttpRequest request = client.getHttpRequestFactory().buildGetRequest(URL);
+        String otherRequestId;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            otherRequestId = executor.submit(() -> {
+                DataMapHolder.initialise("request-2");
+                return requestId(client.getHttpRequestFactory().buildGetRequest(URL));
+            }).get();
+        }
+
+        assertThat(requestId(request)).isEqualTo("request-1");
+        assertThat(otherRequestId).isEqualTo("request-2");
+    }
+
+    @Test
+    void shouldSetConfiguredTimeouts() throws IOException {
+        HttpRequest request = client.getHttpRequestFactory().buildGetRequest(URL);
+
+        assertThat(request.getConnectTimeout()).isEqualTo(2000);
+        assertThat(request.getReadTimeout()).isEqualTo(5000);
+    }
+
+    private static String requestId(HttpRequest request) {
+        return request.getHeaders().getFirstHeaderStringValue(RequestScopedApiKeyHttpClient.REQUEST_ID_HEADER);
+    }
+}
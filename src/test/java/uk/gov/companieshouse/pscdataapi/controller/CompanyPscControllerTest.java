@@ -1,11 +1,15 @@
 package uk.gov.companieshouse.pscdataapi.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
 import static org.hamcrest.Matchers.containsString;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doNothing;
@@ -41,12 +45,16 @@ import uk.gov.companieshouse.api.psc.LegalPersonBeneficialOwner;
 import uk.gov.companieshouse.api.psc.PscList;
 import uk.gov.companieshouse.api.psc.SuperSecure;
 import uk.gov.companieshouse.api.psc.SuperSecureBeneficialOwner;
+import uk.gov.companieshouse.pscdataapi.data.PscRoles;
 import uk.gov.companieshouse.pscdataapi.exceptions.ConflictException;
 import uk.gov.companieshouse.pscdataapi.exceptions.NotFoundException;
 import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
 import uk.gov.companieshouse.pscdataapi.models.Links;
 import uk.gov.companieshouse.pscdataapi.models.PersonsWithSignificantControl;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult;
+import uk.gov.companieshouse.pscdataapi.models.PscBulkDeleteResult;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
+import uk.gov.companieshouse.pscdataapi.models.PscListPage;
 import uk.gov.companieshouse.pscdataapi.service.CompanyPscService;
 import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
 import uk.gov.companieshouse.pscdataapi.util.TestHelper;
@@ -92,8 +100,11 @@ class CompanyPscControllerTest {
             MOCK_NOTIFICATION_ID);
     private static final String GET_LIST_SUMMARY_URL = String.format(
             "/company/%s/persons-with-significant-control", MOCK_COMPANY_NUMBER);
+    private static final String PUT_BATCH_URL = "/persons-with-significant-control/full_record/batch";
     private static final String DELETE_URL = String.format(
             "/company/%s/persons-with-significant-control/%s/full_record", MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID);
+    private static final String DELETE_COMPANY_URL = String.format(
+            "/company/%s/persons-with-significant-control/full_record", MOCK_COMPANY_NUMBER);
 
     @MockitoBean
     private CompanyPscService companyPscService;
@@ -138,6 +149,37 @@ class CompanyPscControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void callPutBatchRequest() throws Exception {
+        when(companyPscService.insertPscRecords(any())).thenReturn(List.of(
+                new PscBatchItemResult(0, MOCK_NOTIFICATION_ID, PscBatchItemResult.Status.ACCEPTED)));
+
+        mockMvc.perform(put(PUT_BATCH_URL)
+                        .contentType(APPLICATION_JSON)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .content("[" + TestHelper.createJsonPayload() + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].notification_id").value(MOCK_NOTIFICATION_ID))
+                .andExpect(jsonPath("$[0].status").value("accepted"));
+    }
+
+    @Test
+    void callPutBatchRequestWithEmptyBatch() throws Exception {
+        mockMvc.perform(put(PUT_BATCH_URL)
+                        .contentType(APPLICATION_JSON)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(companyPscService, times(0)).insertPscRecords(any());
+    }
+
     @Test
     @DisplayName("Return 401 for Super Secure when no api key is present")
     void getSuperSecurePSCWhenNoApiKeyPresent() throws Exception {
@@ -395,6 +437,41 @@ class CompanyPscControllerTest {
         verify(companyPscService, times(1)).deletePsc(deleteRequest);
     }
 
+    @Test
+    void callCompanyPscDeleteRequest() throws Exception {
+        when(companyPscService.deleteCompanyPscs(MOCK_COMPANY_NUMBER, X_REQUEST_ID, DELTA_AT))
+                .thenReturn(new PscBulkDeleteResult(2, List.of(MOCK_NOTIFICATION_ID)));
+
+        mockMvc.perform(delete(DELETE_COMPANY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .contentType(APPLICATION_JSON)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .header("ERIC-Authorised-Key-Privileges", ERIC_AUTH)
+                        .header("x-delta-at", DELTA_AT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted_count").value(2))
+                .andExpect(jsonPath("$.stale_notification_ids[0]").value(MOCK_NOTIFICATION_ID));
+
+        verify(companyPscService, times(1)).deleteCompanyPscs(MOCK_COMPANY_NUMBER, X_REQUEST_ID, DELTA_AT);
+    }
+
+    @Test
+    void callCompanyPscDeleteRequestWithInvalidDeltaAtReturns400() throws Exception {
+        mockMvc.perform(delete(DELETE_COMPANY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .contentType(APPLICATION_JSON)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .header("ERIC-Authorised-Key-Privileges", ERIC_AUTH)
+                        .header("x-delta-at", "99999"))
+                .andExpect(status().isBadRequest());
+
+        verify(companyPscService, times(0)).deleteCompanyPscs(any(), any(), any());
+    }
+
     @Test
     void callPscDeleteRequestAndReturn404() throws Exception {
         PscDeleteRequest deleteRequest = new PscDeleteRequest(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID, X_REQUEST_ID, KIND,
@@ -893,6 +970,146 @@ class CompanyPscControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void callPscListGetRequestWithContinuationTokenReturnsNextToken() throws Exception {
+        when(companyPscService.retrievePscListSummaryPageFromDb(MOCK_COMPANY_NUMBER, "token", false, 25))
+                .thenReturn(new PscListPage(new PscList(), "next-token"));
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(GET_LIST_SUMMARY_URL)
+                        .param("continuation_token", "token")
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .header("ERIC-Authorised-Key-Privileges", ERIC_AUTH)
+                        .header("ERIC-IDENTITY", ERIC_IDENTITY)
+                        .header("ERIC-IDENTITY-TYPE", ERIC_IDENTITY_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CompanyPscController.CONTINUATION_TOKEN_HEADER, "next-token"));
+
+        verify(companyPscService, times(0)).retrievePscListSummaryFromDb(any(), anyInt(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void callPscListGetRequestOnLastKeysetPageHasNoContinuationToken() throws Exception {
+        when(companyPscService.retrievePscListSummaryPageFromDb(MOCK_COMPANY_NUMBER, "", false, 25))
+                .thenReturn(new PscListPage(new PscList(), null));
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(GET_LIST_SUMMARY_URL)
+                        .param("continuation_token", "")
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .header("ERIC-Authorised-Key-Privileges", ERIC_AUTH)
+                        .header("ERIC-IDENTITY", ERIC_IDENTITY)
+                        .header("ERIC-IDENTITY-TYPE", ERIC_IDENTITY_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(CompanyPscController.CONTINUATION_TOKEN_HEADER));
+    }
+
+    @Test
+    void getCorporateEntityPscReturnsEtagOfPsc() throws Exception {
+        CorporateEntity corporateEntity = new CorporateEntity();
+        corporateEntity.setEtag("etag");
+        when(companyPscService.getCorporateEntityPsc(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID))
+                .thenReturn(corporateEntity);
+
+        mockMvc.perform(get(GET_CORPORATE_ENTITY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""));
+
+        verify(companyPscService, times(0)).getPscEtag(any(), any(), any());
+    }
+
+    @Test
+    void getCorporateEntityPscReturnsNotModifiedWhenEtagUnchanged() throws Exception {
+        when(companyPscService.getPscEtag(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID, PscRoles.CORPORATE_PSC))
+                .thenReturn(Optional.of("etag"));
+
+        mockMvc.perform(get(GET_CORPORATE_ENTITY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"other\", \"etag\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                .andExpect(content().string(""));
+
+        verify(companyPscService, times(0)).getCorporateEntityPsc(any(), any());
+    }
+
+    @Test
+    void getCorporateEntityPscReturnsPscWhenEtagChanged() throws Exception {
+        CorporateEntity corporateEntity = new CorporateEntity();
+        corporateEntity.setEtag("new etag");
+        when(companyPscService.getPscEtag(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID, PscRoles.CORPORATE_PSC))
+                .thenReturn(Optional.of("new etag"));
+        when(companyPscService.getCorporateEntityPsc(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID))
+                .thenReturn(corporateEntity);
+
+        mockMvc.perform(get(GET_CORPORATE_ENTITY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"new etag\""));
+    }
+
+    @Test
+    void getIndividualPscRegisterViewIsNotConditional() throws Exception {
+        Individual individual = new Individual();
+        individual.setEtag("etag");
+        when(companyPscService.getIndividualPsc(MOCK_COMPANY_NUMBER, MOCK_NOTIFICATION_ID, MOCK_REGISTER_VIEW_TRUE))
+                .thenReturn(individual);
+
+        mockMvc.perform(get(GET_INDIVIDUAL_URL)
+                        .param("register_view", "true")
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header("ERIC-Authorised-Key-Roles", ERIC_PRIVILEGES)
+                        .header("ERIC-Authorised-Key-Privileges", ERIC_AUTH)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        verify(companyPscService, times(0)).getPscEtag(any(), any(), any());
+    }
+
+    @Test
+    void callPscListGetRequestReturnsNotModifiedWhenEtagUnchanged() throws Exception {
+        when(companyPscService.getPscListEtag(MOCK_COMPANY_NUMBER, 0, 25)).thenReturn(Optional.of("list-etag"));
+
+        mockMvc.perform(get(GET_LIST_SUMMARY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"list-etag\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"list-etag\""));
+
+        verify(companyPscService, times(0)).retrievePscListSummaryFromDb(any(), anyInt(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void callPscListGetRequestReturnsEtagOfPage() throws Exception {
+        PscList pscList = new PscList();
+        when(companyPscService.getPscListEtag(MOCK_COMPANY_NUMBER, 0, 25)).thenReturn(Optional.empty());
+        when(companyPscService.retrievePscListSummaryFromDb(MOCK_COMPANY_NUMBER, 0, false, 25)).thenReturn(pscList);
+
+        mockMvc.perform(get(GET_LIST_SUMMARY_URL)
+                        .header("ERIC-Identity", ERIC_IDENTITY)
+                        .header("ERIC-Identity-Type", ERIC_IDENTITY_TYPE)
+                        .header("x-request-id", X_REQUEST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"list-etag\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        "\"" + CompanyPscService.pscListEtag(pscList) + "\""));
+    }
+
     @Test
     void callPscListOptionsRequestWithParamsCORS() throws Exception {
 
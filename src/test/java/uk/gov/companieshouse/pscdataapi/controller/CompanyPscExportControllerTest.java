@@ -0,0 +1,137 @@
+package uk.gov.companieshouse.pscdataapi.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.companieshouse.pscdataapi.interceptor.AuthenticationHelperImpl.ERIC_AUTHORISED_KEY_PRIVILEGES_HEADER;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.companieshouse.api.util.security.EricConstants;
+import uk.gov.companieshouse.api.util.security.SecurityConstants;
+import uk.gov.companieshouse.pscdataapi.service.PscExportService;
+
+@WebMvcTest(controllers = CompanyPscExportController.class)
+class CompanyPscExportControllerTest {
+
+    private static final String COMPANY_NUMBER = "1234567";
+    private static final String EXPORT_URL = "/persons-with-significant-control/export";
+    private static final String COMPANY_EXPORT_URL =
+            "/company/%s/persons-with-significant-control/export".formatted(COMPANY_NUMBER);
+    private static final String NDJSON = """
+            {"name":"first"}
+            {"name":"second"}
+            """;
+
+    @MockitoBean
+    private PscExportService exportService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldStreamCompanyPscsAsNdjson() throws Exception {
+        when(exportService.exportPscs(eq(COMPANY_NUMBER), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        mockMvc.perform(get(COMPANY_EXPORT_URL).headers(createHttpHeaders(true)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(NDJSON));
+    }
+
+    @Test
+    void shouldGzipWholeCollectionExportWhenAccepted() throws Exception {
+        when(exportService.exportPscs(isNull(), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        byte[] body = mockMvc.perform(get(EXPORT_URL)
+                        .headers(createHttpHeaders(true))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(NDJSON);
+        }
+        verify(exportService).exportPscs(isNull(), any());
+    }
+
+    @Test
+    void shouldNotGzipExportWhenGzipIsRefused() throws Exception {
+        when(exportService.exportPscs(eq(COMPANY_NUMBER), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        mockMvc.perform(get(COMPANY_EXPORT_URL)
+                        .headers(createHttpHeaders(true))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(NDJSON));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "gzip|true",
+            "GZIP;q=0.5, deflate|true",
+            "deflate, gzip ; q=1.0|true",
+            "*|true",
+            "gzip;q=0|false",
+            "gzip;q=0.000, *|false",
+            "*;q=0|false",
+            "x-gzip-like, deflate|false",
+            "gzip;q=invalid|false",
+            "identity|false"
+    })
+    void shouldOnlyAcceptGzipWithQualityAboveZero(String acceptEncoding, boolean expected) {
+        assertThat(CompanyPscExportController.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldForbidExportWithUnderprivilegedApiKey() throws Exception {
+        mockMvc.perform(get(EXPORT_URL).headers(createHttpHeaders(false)))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(exportService);
+    }
+
+    private static HttpHeaders createHttpHeaders(final boolean hasInternalPrivilege) {
+        final HttpHeaders headers = new HttpHeaders();
+
+        headers.add(EricConstants.ERIC_IDENTITY, "Test-Identity");
+        headers.add(EricConstants.ERIC_IDENTITY_TYPE, SecurityConstants.API_KEY_IDENTITY_TYPE);
+        headers.add(EricConstants.ERIC_AUTHORISED_KEY_ROLES,
+                hasInternalPrivilege ? SecurityConstants.INTERNAL_USER_ROLE : "any_other_role");
+        headers.add(ERIC_AUTHORISED_KEY_PRIVILEGES_HEADER,
+                hasInternalPrivilege ? "sensitive-data" : "internal-app");
+
+        return headers;
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.companieshouse.pscdataapi.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.companieshouse.api.psc.ListSummary;
+import uk.gov.companieshouse.api.psc.PscList;
+import uk.gov.companieshouse.pscdataapi.service.CompanyPscService;
+import uk.gov.companieshouse.pscdataapi.service.PscListStreamService;
+
+@SpringBootTest(properties = "psc.streaming.enabled=true")
+@AutoConfigureMockMvc
+class CompanyPscStreamingControllerTest {
+
+    private static final String COMPANY_NUMBER = "1234567";
+    private static final String GET_LIST_SUMMARY_URL = String.format(
+            "/company/%s/persons-with-significant-control", COMPANY_NUMBER);
+    private static final String BODY = "{\"items\":[]}";
+
+    @MockitoBean
+    private CompanyPscService companyPscService;
+    @MockitoBean
+    private PscListStreamService pscListStreamService;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldStreamPscListWithEtagOfEnvelope() throws Exception {
+        PscList envelope = envelope();
+        when(companyPscService.getPscListEtag(COMPANY_NUMBER, 0, 25)).thenReturn(Optional.of("other"));
+        when(companyPscService.retrievePscListSummaryEnvelope(COMPANY_NUMBER, 0, 25)).thenReturn(envelope);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write(BODY.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(pscListStreamService).writePscList(eq(COMPANY_NUMBER), eq(envelope), any());
+
+        MvcResult result = mockMvc.perform(get(GET_LIST_SUMMARY_URL)
+                        .headers(createHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + CompanyPscService.pscListEtag(envelope) + "\""))
+                .andExpect(content().string(BODY));
+
+        verify(companyPscService, never()).retrievePscListSummaryFromDb(any(), anyInt(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutStreamingWhenEtagMatches() throws Exception {
+        when(companyPscService.getPscListEtag(COMPANY_NUMBER, 0, 25)).thenReturn(Optional.of("current"));
+
+        mockMvc.perform(get(GET_LIST_SUMMARY_URL)
+                        .headers(createHttpHeaders())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"current\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"current\""));
+
+        verify(companyPscService, never()).retrievePscListSummaryEnvelope(any(), anyInt(), anyInt());
+        verifyNoInteractions(pscListStreamService);
+    }
+
+    @Test
+    void shouldNotStreamRegisterView() throws Exception {
+        when(companyPscService.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, true, 25)).thenReturn(envelope());
+
+        mockMvc.perform(get(GET_LIST_SUMMARY_URL)
+                        .headers(createHttpHeaders())
+                        .param("register_view", "true"))
+                .andExpect(status().isOk());
+
+        verifyNoInteractions(pscListStreamService);
+    }
+
+    private static PscList envelope() {
+        ListSummary item = new ListSummary();
+        item.setEtag("etag");
+        PscList pscList = new PscList();
+        pscList.setStartIndex(0);
+        pscList.setItemsPerPage(25);
+        pscList.setTotalResults(1);
+        pscList.setItems(List.of(item));
+        return pscList;
+    }
+
+    private static HttpHeaders createHttpHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-request-id", "123456");
+        headers.add("ERIC-Identity", "Test-Identity");
+        headers.add("ERIC-Identity-Type", "key");
+        headers.add("ERIC-Authorised-Key-Roles", "*");
+        headers.add("ERIC-Authorised-Key-Privileges", "internal-app");
+        return headers;
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
 import org.apache.commons.io.IOUtils;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
 import uk.gov.companieshouse.pscdataapi.models.PscData;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -43,4 +47,23 @@ class CompanyPscReadConverterTest {
         assertEquals(expected, actual);
         assertNotNull(actual.getKind());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReadTheSameObjectAsTheJsonRoundTrip() throws Exception {
+        // given
+        final ObjectMapper mongoDbObjectMapper = ApplicationConfig.mongoDbObjectMapper();
+        Document document = Document.parse(IOUtils.resourceToString("/data.json", StandardCharsets.UTF_8))
+                .append("notified_on", Date.from(Instant.parse("2016-04-06T00:00:00Z")))
+                .append("ceased_on", Date.from(Instant.parse("1969-12-31T00:00:00Z")));
+
+        final PscData expected = mongoDbObjectMapper.readValue(document.toJson(), PscData.class);
+
+        // when
+        final PscData actual = new CompanyPscReadConverter(mongoDbObjectMapper, PscData.class).convert(document);
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals(LocalDate.of(2016, 4, 6), actual.getNotifiedOn());
+        assertEquals(LocalDate.of(1969, 12, 31), actual.getCeasedOn());
+    }
+}
@@ -1,16 +1,21 @@
 package uk.gov.companieshouse.pscdataapi.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.BasicDBObject;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
 import uk.gov.companieshouse.pscdataapi.models.PscData;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -40,4 +45,25 @@ class CompanyPscWriteConverterTest {
         // then
         assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStoreTheSameDocumentAsTheJsonRoundTrip() throws Exception {
+        // given
+        final ObjectMapper mongoDbObjectMapper = ApplicationConfig.mongoDbObjectMapper();
+        final String json = IOUtils.resourceToString("/data.json", StandardCharsets.UTF_8);
+        PscData pscData = mongoDbObjectMapper.readValue(json, PscData.class);
+        pscData.setNotifiedOn(LocalDate.of(2016, 4, 6));
+        pscData.setCeasedOn(LocalDate.of(1969, 12, 31));
+
+        final BasicDBObject expected = BasicDBObject.parse(mongoDbObjectMapper.writeValueAsString(pscData));
+
+        // when
+        final BasicDBObject actual = new CompanyPscWriteConverter(mongoDbObjectMapper).convert(pscData);
+
+        // then
+        assertEquals(expected, actual);
+        assertEquals(Date.from(Instant.parse("2016-04-06T00:00:00Z")),
+                assertInstanceOf(Date.class, actual.get("notified_on")));
+        assertEquals(Date.from(Instant.parse("1969-12-31T00:00:00Z")), actual.get("ceased_on"));
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.pscdataapi.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+import org.apache.commons.io.IOUtils;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import uk.gov.companieshouse.pscdataapi.config.ApplicationConfig;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+
+class PscNotificationReadConverterTest {
+
+    private final ObjectMapper objectMapper = ApplicationConfig.mongoDbObjectMapper();
+    private final PscNotificationReadConverter converter =
+            new PscNotificationReadConverter(objectMapper, PscNotification.class);
+
+    @Test
+    void shouldReadTheSameFieldsAsTheFullDocument() throws Exception {
+        // given
+        Document data = Document.parse(IOUtils.resourceToString("/data.json", StandardCharsets.UTF_8))
+                .append("name", "Mr. JOHN TESTER")
+                .append("notified_on", Date.from(Instant.parse("2016-04-06T00:00:00Z")));
+        Document document = new Document("company_number", "12345678")
+                .append("data", data)
+                .append("sensitive_data", new Document("date_of_birth",
+                        new Document("month", 1).append("year", 1990)));
+
+        final PscData expected = new CompanyPscReadConverter(objectMapper, PscData.class).convert(data);
+
+        // when
+        final PscNotification actual = converter.convert(document);
+
+        // then
+        assertEquals("12345678", actual.companyNumber());
+        assertEquals(expected.getName(), actual.data().name());
+        assertEquals(expected.getKind(), actual.data().kind());
+        assertEquals(LocalDate.of(2016, 4, 6), actual.data().notifiedOn());
+        assertEquals(expected.getAddress(), actual.data().address());
+        assertEquals(expected.getNameElements(), actual.data().nameElements());
+        assertEquals(expected.getNaturesOfControl(), actual.data().naturesOfControl());
+        assertEquals(expected.getLinks(), actual.data().links());
+        assertEquals(1990, actual.sensitiveData().dateOfBirth().getYear());
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.companieshouse.pscdataapi.counts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounter.Change;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyPscCounterTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String INDIVIDUAL = "individual-person-with-significant-control";
+    private static final String CORPORATE = "corporate-entity-person-with-significant-control";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private BulkOperations bulkOperations;
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    @Test
+    void shouldCountInsertedPscAsActiveOfItsKind() {
+        new CompanyPscCounter(mongoTemplate, true).record(new Change(COMPANY_NUMBER, null, psc(INDIVIDUAL, null)));
+
+        verify(mongoTemplate).upsert(any(Query.class), updateCaptor.capture(), eq(CompanyPscCounts.class));
+        Document increments = updateCaptor.getValue().getUpdateObject().get("$inc", Document.class);
+        assertEquals(new Document("active", 1).append("kinds." + INDIVIDUAL, 1).append("version", 1),
+                increments);
+    }
+
+    @Test
+    void shouldMoveCeasedPscFromActiveToCeased() {
+        new CompanyPscCounter(mongoTemplate, true).record(new Change(COMPANY_NUMBER, psc(INDIVIDUAL, null),
+                psc(INDIVIDUAL, LocalDate.of(2024, 1, 1))));
+
+        verify(mongoTemplate).upsert(any(Query.class), updateCaptor.capture(), eq(CompanyPscCounts.class));
+        Document increments = updateCaptor.getValue().getUpdateObject().get("$inc", Document.class);
+        assertEquals(new Document("active", -1).append("ceased", 1).append("version", 1), increments);
+    }
+
+    @Test
+    void shouldNotWriteWhenStateAndKindAreUnchanged() {
+        new CompanyPscCounter(mongoTemplate, true).record(new Change(COMPANY_NUMBER, psc(INDIVIDUAL, null),
+                psc(INDIVIDUAL, null)));
+
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(CompanyPscCounts.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), eq(CompanyPscCounts.class));
+    }
+
+    @Test
+    void shouldWriteOneUpsertPerCompanyInOneBulkWrite() {
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, CompanyPscCounts.class)).thenReturn(bulkOperations);
+
+        new CompanyPscCounter(mongoTemplate, true).record(List.of(
+                new Change(COMPANY_NUMBER, null, psc(INDIVIDUAL, null)),
+                new Change(COMPANY_NUMBER, null, psc(CORPORATE, null)),
+                Change.deleted(psc("87654321", CORPORATE, LocalDate.of(2024, 1, 1)))));
+
+        verify(bulkOperations).upsert(eq(query(where("_id").is(COMPANY_NUMBER))), updateCaptor.capture());
+        assertEquals(new Document("active", 2).append("kinds." + INDIVIDUAL, 1).append("kinds." + CORPORATE, 1)
+                .append("version", 1), updateCaptor.getValue().getUpdateObject().get("$inc", Document.class));
+        verify(bulkOperations).upsert(eq(query(where("_id").is("87654321"))), updateCaptor.capture());
+        assertEquals(new Document("ceased", -1).append("kinds." + CORPORATE, -1).append("version", 1),
+                updateCaptor.getValue().getUpdateObject().get("$inc", Document.class));
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void shouldNotWriteWhenCountsAreNotMaintained() {
+        new CompanyPscCounter(mongoTemplate, false).record(List.of(
+                new Change(COMPANY_NUMBER, null, psc(INDIVIDUAL, null)),
+                Change.deleted(psc("87654321", CORPORATE, null))));
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private static PscDocument psc(String kind, LocalDate ceasedOn) {
+        return psc(COMPANY_NUMBER, kind, ceasedOn);
+    }
+
+    private static PscDocument psc(String companyNumber, String kind, LocalDate ceasedOn) {
+        PscData data = new PscData();
+        data.setKind(kind);
+        data.setCeasedOn(ceasedOn);
+        PscDocument document = new PscDocument();
+        document.setCompanyNumber(companyNumber);
+        document.setData(data);
+        return document;
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.companieshouse.pscdataapi.counts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCountsReconciler.Report;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyPscCountsReconcilerTest {
+
+    private static final String INDIVIDUAL = "individual-person-with-significant-control";
+    private static final String CORPORATE = "corporate-entity-person-with-significant-control";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    @Test
+    void shouldCorrectDriftedCountsFromRecount() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), any())).thenReturn(Stream.of(
+                psc("11111111", INDIVIDUAL, null), psc("11111111", CORPORATE, "2024-01-01"),
+                psc("22222222", INDIVIDUAL, null)));
+        CompanyPscCounts drifted = counts("22222222", 3, 0, Map.of(INDIVIDUAL, 3), 4);
+        when(mongoTemplate.find(any(Query.class), eq(CompanyPscCounts.class))).thenReturn(List.of(
+                counts("11111111", 1, 1, Map.of(INDIVIDUAL, 1, CORPORATE, 1), 2), drifted));
+        when(mongoTemplate.findById("22222222", CompanyPscCounts.class)).thenReturn(drifted);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), any())).thenReturn(List.of(
+                psc("22222222", INDIVIDUAL, null)));
+        when(mongoTemplate.updateFirst(any(Query.class), updateCaptor.capture(), eq(CompanyPscCounts.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        Report report = new CompanyPscCountsReconciler(mongoTemplate, 1000).reconcile();
+
+        assertEquals(new Report(2, 1, 1), report);
+        Document set = updateCaptor.getValue().getUpdateObject().get("$set", Document.class);
+        assertEquals(1, set.get("active"));
+        assertEquals(0, set.get("ceased"));
+        assertEquals(Map.of(INDIVIDUAL, 1), set.get("kinds"));
+    }
+
+    @Test
+    void shouldLeaveCountsWrittenWhileReconcilingForTheNextRun() {
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), any())).thenReturn(Stream.empty());
+        CompanyPscCounts leftBehind = counts("33333333", 1, 0, Map.of(INDIVIDUAL, 1), 7);
+        when(mongoTemplate.find(any(Query.class), eq(CompanyPscCounts.class))).thenReturn(List.of(leftBehind));
+        when(mongoTemplate.findById("33333333", CompanyPscCounts.class)).thenReturn(leftBehind);
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), any())).thenReturn(List.of());
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(CompanyPscCounts.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        Report report = new CompanyPscCountsReconciler(mongoTemplate, 1000).reconcile();
+
+        assertEquals(new Report(1, 1, 0), report);
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(queryCaptor.capture(), any(Update.class), eq(CompanyPscCounts.class));
+        assertEquals(7L, queryCaptor.getValue().getQueryObject().get("version"));
+    }
+
+    @Test
+    void shouldTreatKindsCountedDownToZeroAsAbsent() {
+        CompanyPscCounts stored = counts("11111111", 1, 0, Map.of(INDIVIDUAL, 1, CORPORATE, 0), 3);
+        CompanyPscCounts actual = counts("11111111", 1, 0, Map.of(INDIVIDUAL, 1), 0);
+
+        assertTrue(CompanyPscCountsReconciler.sameCounts(stored, actual));
+    }
+
+    private static Document psc(String companyNumber, String kind, String ceasedOn) {
+        Document data = new Document("kind", kind);
+        if (ceasedOn != null) {
+            data.append("ceased_on", ceasedOn);
+        }
+        return new Document("company_number", companyNumber).append("data", data);
+    }
+
+    private static CompanyPscCounts counts(String companyNumber, int active, int ceased, Map<String, Integer> kinds,
+            long version) {
+        CompanyPscCounts counts = new CompanyPscCounts();
+        counts.setCompanyNumber(companyNumber);
+        counts.setActive(active);
+        counts.setCeased(ceased);
+        counts.setKinds(kinds);
+        counts.setVersion(version);
+        return counts;
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.companieshouse.pscdataapi.logging;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.companieshouse.logging.util.DataMap;
@@ -42,4 +43,23 @@ class DataMapHolderTest {
         var logMap = DataMapHolder.getLogMap();
         assertTrue(logMap.containsKey("request_id"));
     }
+
+    @Test
+    void propagateRunsTaskWithCallerContextOnAnotherThread() throws Exception {
+        DataMapHolder.initialise("requestId");
+        AtomicReference<String> requestIdInTask = new AtomicReference<>();
+        AtomicReference<String> requestIdAfterTask = new AtomicReference<>();
+
+        Runnable task = DataMapHolder.propagate(() -> requestIdInTask.set(DataMapHolder.getRequestId()));
+        Thread thread = new Thread(() -> {
+            task.run();
+            requestIdAfterTask.set(DataMapHolder.getRequestId());
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals("requestId", requestIdInTask.get());
+        assertEquals("uninitialised", requestIdAfterTask.get());
+        assertEquals("requestId", DataMapHolder.getRequestId());
+    }
 }
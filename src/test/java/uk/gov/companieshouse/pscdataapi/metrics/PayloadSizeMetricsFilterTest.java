@@ -0,0 +1,83 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class PayloadSizeMetricsFilterTest {
+
+    private static final String URI_TEMPLATE =
+            "/company/{company_number}/persons-with-significant-control/{notification_id}/full_record";
+    private static final byte[] BODY = "{\"kind\":\"individual\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PayloadSizeMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new PayloadSizeMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordRequestAndResponseSizesByEndpoint() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT",
+                "/company/12345678/persons-with-significant-control/abc/full_record");
+        request.setContent(new byte[100]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI_TEMPLATE);
+            res.getOutputStream().write(BODY);
+        });
+
+        // then
+        assertEquals(100, payloadSize("request", "PUT", URI_TEMPLATE).totalAmount());
+        assertEquals(BODY.length, payloadSize("response", "PUT", URI_TEMPLATE).totalAmount());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void shouldNotRecordBodiesThatWereNotSent() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/unmapped");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {});
+
+        // then
+        assertTrue(meterRegistry.find("psc.http.payload.size").meters().isEmpty());
+    }
+
+    @Test
+    void shouldNotRecordScrapes() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/prometheus");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> res.getOutputStream().write(BODY));
+
+        // then
+        assertTrue(meterRegistry.find("psc.http.payload.size").meters().isEmpty());
+    }
+
+    private DistributionSummary payloadSize(String direction, String method, String uri) {
+        return meterRegistry.get("psc.http.payload.size")
+                .tag("direction", direction)
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.pscdataapi.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.pscdataapi.models.PscData;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+
+@ExtendWith(MockitoExtension.class)
+class TransformMetricsAspectTest {
+
+    private static final String METHOD = "transformPscDocToIndividual";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TransformMetricsAspect aspect;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private Signature signature;
+    @Mock
+    private Object result;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new TransformMetricsAspect(meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(METHOD);
+    }
+
+    @Test
+    void shouldTimeTransformByMethodAndKind() throws Throwable {
+        // given
+        PscData data = new PscData();
+        data.setKind("individual-person-with-significant-control");
+        PscDocument document = new PscDocument();
+        document.setData(data);
+        when(joinPoint.proceed()).thenReturn(result);
+
+        // when
+        Object actual = aspect.timeTransform(joinPoint, document);
+
+        // then
+        assertSame(result, actual);
+        assertEquals(1, transforms("individual-person-with-significant-control").count());
+    }
+
+    @Test
+    void shouldTimeFailedTransformOfDocumentWithoutData() throws Throwable {
+        // given
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> aspect.timeTransform(joinPoint, new PscDocument()));
+
+        // then
+        assertEquals(1, transforms("unknown").count());
+    }
+
+    private Timer transforms(String kind) {
+        return meterRegistry.get("psc.transform")
+                .tag("method", METHOD)
+                .tag("kind", kind)
+                .timer();
+    }
+}
@@ -0,0 +1,56 @@
+package uk.gov.companieshouse.pscdataapi.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PscListCursorTest {
+
+    @Test
+    void shouldRoundTripCursor() {
+        PscListCursor cursor = new PscListCursor(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 5, 6),
+                LocalDateTime.of(2024, 1, 3, 10, 15, 30, 123_000_000), "notification|id");
+
+        assertEquals(cursor, PscListCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldRoundTripCursorWithMissingSortValues() {
+        PscListCursor cursor = new PscListCursor(null, null, null, "notificationId");
+
+        assertEquals(cursor, PscListCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void shouldTakePositionFromDocument() {
+        PscData data = new PscData();
+        data.setNotifiedOn(LocalDate.of(2024, 1, 2));
+        PscDocument document = new PscDocument();
+        document.setId("notificationId");
+        document.setData(data);
+        document.setCreated(new Created().setAt(LocalDateTime.of(2024, 1, 3, 10, 15)));
+
+        assertEquals(new PscListCursor(LocalDate.of(2024, 1, 2), null, LocalDateTime.of(2024, 1, 3, 10, 15),
+                "notificationId"), PscListCursor.after(document));
+    }
+
+    @Test
+    void shouldRejectTokenThatIsNotBase64() {
+        assertThrows(IllegalArgumentException.class, () -> PscListCursor.decode("not a token!"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2024-01-02||", "2024-01-02|||", "2024-13-02|||id"})
+    void shouldRejectMalformedToken(String value) {
+        String token = Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> PscListCursor.decode(token));
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.companieshouse.pscdataapi.outbox;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceChangedOutboxTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void shouldInsertEventsInBatches() {
+        // given
+        ResourceChangedOutbox outbox = new ResourceChangedOutbox(mongoTemplate, 2);
+        List<ResourceChangedEvent> events = IntStream.range(0, 5)
+                .mapToObj(index -> ResourceChangedEvent.changed("12345678", "notification" + index,
+                        "individual-person-with-significant-control"))
+                .toList();
+
+        // when
+        outbox.enqueueAll(events);
+
+        // then
+        verify(mongoTemplate).insert(events.subList(0, 2), ResourceChangedEvent.class);
+        verify(mongoTemplate).insert(events.subList(2, 4), ResourceChangedEvent.class);
+        verify(mongoTemplate).insert(events.subList(4, 5), ResourceChangedEvent.class);
+    }
+
+    @Test
+    void shouldNotInsertWhenThereAreNoEvents() {
+        // given
+        ResourceChangedOutbox outbox = new ResourceChangedOutbox(mongoTemplate, 2);
+
+        // when
+        outbox.enqueueAll(List.of());
+
+        // then
+        verify(mongoTemplate, never()).insert(any(List.class), any(Class.class));
+    }
+}
@@ -0,0 +1,295 @@
+package uk.gov.companieshouse.pscdataapi.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import uk.gov.companieshouse.pscdataapi.api.ChsKafkaApiService;
+import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
+import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceChangedRelayTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final String KIND = "individual-person-with-significant-control";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Executor DIRECT = Runnable::run;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResourceChangedRelay relay;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private ChsKafkaApiService chsKafkaApiService;
+    @Captor
+    private ArgumentCaptor<Update> updateCaptor;
+
+    @BeforeEach
+    void setUp() {
+        relay = relay(100);
+    }
+
+    @Test
+    void shouldPublishEligibleEventsAndRemoveThem() {
+        // given
+        ResourceChangedEvent first = event("1", "notificationA");
+        ResourceChangedEvent other = event("3", "notificationB");
+        dueEvents(first, other);
+        oldestEvents(oldest("notificationA", "1"), oldest("notificationB", "3"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class)))
+                .thenReturn(first)
+                .thenReturn(other);
+
+        // when
+        final int published = relay.relayPendingEvents();
+
+        // then
+        assertEquals(2, published);
+        verify(chsKafkaApiService).invokeChsKafkaApi(COMPANY_NUMBER, "notificationA", KIND);
+        verify(chsKafkaApiService).invokeChsKafkaApi(COMPANY_NUMBER, "notificationB", KIND);
+        verify(mongoTemplate, times(2)).remove(any(Query.class), eq(ResourceChangedEvent.class));
+    }
+
+    @Test
+    void shouldSkipDueEventsHeldBackByAnOlderEventForTheirNotificationId() {
+        // given
+        ResourceChangedEvent first = event("1", "notificationA");
+        ResourceChangedEvent heldBack = event("2", "notificationB");
+        dueEvents(first, heldBack);
+        oldestEvents(oldest("notificationA", "1"), oldest("notificationB", "0"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class))).thenReturn(first);
+
+        // when
+        final int published = relay.relayPendingEvents();
+
+        // then
+        assertEquals(1, published);
+        verify(chsKafkaApiService).invokeChsKafkaApi(COMPANY_NUMBER, "notificationA", KIND);
+        verify(chsKafkaApiService, never()).invokeChsKafkaApi(COMPANY_NUMBER, "notificationB", KIND);
+    }
+
+    @Test
+    void shouldReadFurtherDueEventsUntilTheBatchIsFull() {
+        // given
+        relay = relay(2);
+        ResourceChangedEvent first = event("1", "notificationA");
+        ResourceChangedEvent other = event("3", "notificationB");
+        dueEvents(first, event("2", "notificationA"), other);
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(ResourceChangedEvent.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(oldest("notificationA", "1")), new Document()))
+                .thenReturn(new AggregationResults<>(List.of(oldest("notificationB", "3")), new Document()));
+
+        // when
+        List<ResourceChangedEvent> eligible = relay.eligibleEvents(Instant.now());
+
+        // then
+        assertEquals(List.of(first, other), eligible);
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq(ResourceChangedEvent.class),
+                eq(Document.class));
+    }
+
+    @Test
+    void shouldQueryDueUnclaimedEventsInNextAttemptOrder() {
+        // given
+        final Instant now = Instant.now();
+
+        // when
+        Query query = relay.dueEvents(now);
+
+        // then
+        assertEquals(new Document("$lte", now), query.getQueryObject().get("next_attempt_at"));
+        assertEquals(List.of(new Document("locked_until", null), new Document("locked_until",
+                new Document("$lte", now))), query.getQueryObject().get("$or"));
+        assertEquals(new Document("next_attempt_at", 1).append("created_at", 1).append("_id", 1),
+                query.getSortObject());
+    }
+
+    @Test
+    void shouldSelectTheOldestEventForEachNotificationIdIncludingParkedEvents() {
+        // when
+        List<Document> pipeline = relay.oldestEvents(List.of("notificationA", "notificationB"))
+                .toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        // then
+        assertEquals(List.of("$match", "$sort", "$group"),
+                pipeline.stream().map(stage -> stage.keySet().iterator().next()).toList());
+        assertEquals(new Document("notification_id", new Document("$in", List.of("notificationA", "notificationB"))),
+                pipeline.get(0).get("$match"));
+        assertEquals(new Document("notification_id", 1).append("created_at", 1).append("_id", 1),
+                pipeline.get(1).get("$sort"));
+        assertEquals("$notification_id", pipeline.get(2).get("$group", Document.class).get("_id"));
+    }
+
+    @Test
+    void shouldRelayBatchesUntilOneComesBackShort() {
+        // given
+        relay = relay(1);
+        ResourceChangedEvent first = event("1", "notificationA");
+        ResourceChangedEvent second = event("2", "notificationB");
+        when(mongoTemplate.stream(any(Query.class), eq(ResourceChangedEvent.class)))
+                .thenReturn(Stream.of(first))
+                .thenReturn(Stream.of(second))
+                .thenReturn(Stream.empty());
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(ResourceChangedEvent.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(oldest("notificationA", "1")), new Document()))
+                .thenReturn(new AggregationResults<>(List.of(oldest("notificationB", "2")), new Document()));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class)))
+                .thenReturn(first)
+                .thenReturn(second);
+
+        // when
+        relay.scheduledRelay();
+
+        // then
+        verify(chsKafkaApiService).invokeChsKafkaApi(COMPANY_NUMBER, "notificationA", KIND);
+        verify(chsKafkaApiService).invokeChsKafkaApi(COMPANY_NUMBER, "notificationB", KIND);
+        verify(mongoTemplate, times(3)).stream(any(Query.class), eq(ResourceChangedEvent.class));
+    }
+
+    @Test
+    void shouldNotPublishEventClaimedByAnotherInstance() {
+        // given
+        dueEvents(event("1", "notificationA"));
+        oldestEvents(oldest("notificationA", "1"));
+
+        // when
+        final int published = relay.relayPendingEvents();
+
+        // then
+        assertEquals(0, published);
+        verify(chsKafkaApiService, never()).invokeChsKafkaApi(any(), any(), any());
+    }
+
+    @Test
+    void shouldPublishDeleteEventWithDeletedData() {
+        // given
+        Map<String, Object> deletedData = Map.of("kind", KIND);
+        ResourceChangedEvent deleted = ResourceChangedEvent.deleted(
+                new PscDeleteRequest(COMPANY_NUMBER, "notificationA", "context", KIND, "20240219123045999999"),
+                deletedData);
+        deleted.setId("1");
+        dueEvents(deleted);
+        oldestEvents(oldest("notificationA", "1"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class))).thenReturn(deleted);
+
+        // when
+        relay.relayPendingEvents();
+
+        // then
+        verify(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(
+                new PscDeleteRequest(COMPANY_NUMBER, "notificationA", "context", KIND, "20240219123045999999"),
+                deletedData);
+    }
+
+    @Test
+    void shouldScheduleRetryWithBackoffWhenPublishFails() {
+        // given
+        ResourceChangedEvent event = event("1", "notificationA");
+        event.setAttempts(2);
+        dueEvents(event);
+        oldestEvents(oldest("notificationA", "1"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class))).thenReturn(event);
+        when(chsKafkaApiService.invokeChsKafkaApi(any(), any(), any()))
+                .thenThrow(new ServiceUnavailableException("unavailable"));
+        final Instant before = Instant.now();
+
+        // when
+        final int published = relay.relayPendingEvents();
+
+        // then
+        assertEquals(0, published);
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(ResourceChangedEvent.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ResourceChangedEvent.class));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals(3, set.get("attempts"));
+        Instant nextAttemptAt = (Instant) set.get("next_attempt_at");
+        assertEquals(Duration.ofSeconds(4), Duration.between(before, nextAttemptAt).withNanos(0));
+        assertEquals(0, meterRegistry.get("psc.outbox.parked_events").counter().count());
+    }
+
+    @Test
+    void shouldParkEventWhenMaxAttemptsReached() {
+        // given
+        ResourceChangedEvent event = event("1", "notificationA");
+        event.setAttempts(MAX_ATTEMPTS - 1);
+        dueEvents(event);
+        oldestEvents(oldest("notificationA", "1"));
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ResourceChangedEvent.class))).thenReturn(event);
+        when(chsKafkaApiService.invokeChsKafkaApi(any(), any(), any()))
+                .thenThrow(new ServiceUnavailableException("unavailable"));
+
+        // when
+        final int published = relay.relayPendingEvents();
+
+        // then
+        assertEquals(0, published);
+        verify(mongoTemplate).updateFirst(any(Query.class), updateCaptor.capture(), eq(ResourceChangedEvent.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ResourceChangedEvent.class));
+        Document set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+        assertEquals(MAX_ATTEMPTS, set.get("attempts"));
+        assertNotNull(set.get("parked_at"));
+        Document unset = (Document) updateCaptor.getValue().getUpdateObject().get("$unset");
+        assertTrue(unset.containsKey("next_attempt_at"));
+        assertEquals(1, meterRegistry.get("psc.outbox.parked_events").counter().count());
+    }
+
+    private ResourceChangedRelay relay(int batchSize) {
+        return new ResourceChangedRelay(mongoTemplate, chsKafkaApiService, DIRECT, meterRegistry, true, batchSize,
+                Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofMinutes(5), MAX_ATTEMPTS);
+    }
+
+    private void dueEvents(ResourceChangedEvent... events) {
+        when(mongoTemplate.stream(any(Query.class), eq(ResourceChangedEvent.class))).thenReturn(Stream.of(events));
+    }
+
+    private void oldestEvents(Document... oldest) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(ResourceChangedEvent.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(oldest), new Document()));
+    }
+
+    private static Document oldest(String notificationId, String eventId) {
+        return new Document("_id", notificationId).append("oldest", eventId);
+    }
+
+    private static ResourceChangedEvent event(String id, String notificationId) {
+        ResourceChangedEvent event = ResourceChangedEvent.changed(COMPANY_NUMBER, notificationId, KIND);
+        event.setId(id);
+        event.setNextAttemptAt(Instant.now().minusSeconds(1));
+        return event;
+    }
+}
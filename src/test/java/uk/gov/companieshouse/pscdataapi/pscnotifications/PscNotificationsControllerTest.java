@@ -97,4 +97,4 @@ class PscNotificationsControllerTest {
 
         verify(service).getPscNotifications(any(PscNotificationsRequest.class));
     }
-}
\ No newline at end of file
+}
@@ -9,9 +9,7 @@ import uk.gov.companieshouse.api.psc_notifications.NotificationList;
 import uk.gov.companieshouse.api.psc_notifications.NotificationListLinkTypes;
 import uk.gov.companieshouse.api.psc_notifications.PscNotificationSummary;
 import uk.gov.companieshouse.pscdataapi.models.Links;
-import uk.gov.companieshouse.pscdataapi.models.PscData;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
-import uk.gov.companieshouse.pscdataapi.models.PscSensitiveData;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.DateOfBirthMapper;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.ItemsMapper;
 import uk.gov.companieshouse.pscdataapi.pscnotifications.mappers.LinksMapper;
@@ -44,30 +42,25 @@ class PscNotificationsMapperTest {
 
     @Test
     void testMapPscNotificationMapperReturnsMappedNotificationListWhenFirstNotificationAndDataPresent() {
-        PscDocument firstNotification = new PscDocument();
-        PscData pscData = new PscData();
-        pscData.setKind("personal-notification");
-        pscData.setName("Test Name");
-        pscData.setLinks(new Links());
+        PscNotification.Data pscData = new PscNotification.Data(null, null, null, "Test Name", null, null,
+                "personal-notification", null, null, null, null, new Links(), null, null, null);
 
-        PscSensitiveData sensitiveData = new PscSensitiveData();
         uk.gov.companieshouse.pscdataapi.models.DateOfBirth modelDob =
                 new uk.gov.companieshouse.pscdataapi.models.DateOfBirth();
         modelDob.setMonth(1);
         modelDob.setYear(2000);
-        sensitiveData.setDateOfBirth(modelDob);
 
-        firstNotification.setData(pscData);
-        firstNotification.setSensitiveData(sensitiveData);
+        PscNotification firstNotification = new PscNotification("12345", pscData,
+                new PscNotification.SensitiveData(modelDob));
 
-        List<PscDocument> documents = List.of(firstNotification);
+        List<PscNotification> documents = List.of(firstNotification);
 
         DateOfBirth mappedDob = new DateOfBirth().month(1).year(2000);
         NotificationListLinkTypes mappedLinks = new NotificationListLinkTypes().self("self");
         List<PscNotificationSummary> mappedItems = List.of(new PscNotificationSummary().name("name"));
 
         when(dobMapper.map(modelDob)).thenReturn(mappedDob);
-        when(linksMapper.map(pscData.getLinks())).thenReturn(mappedLinks);
+        when(linksMapper.map(pscData.links())).thenReturn(mappedLinks);
         when(itemsMapper.map(documents)).thenReturn(mappedItems);
 
         PscNotificationsMapper.MapperRequest request = PscNotificationsMapper.MapperRequest.builder()
@@ -98,7 +91,7 @@ class PscNotificationsMapperTest {
         assertEquals(mappedItems, notificationList.getItems());
 
         verify(dobMapper).map(modelDob);
-        verify(linksMapper).map(pscData.getLinks());
+        verify(linksMapper).map(pscData.links());
         verify(itemsMapper).map(documents);
     }
 
@@ -122,8 +115,7 @@ class PscNotificationsMapperTest {
 
     @Test
     void testMapPscNotificationsReturnsEmptyWhenFirstNotificationDataIsNull() {
-        PscDocument firstNotification = new PscDocument();
-        firstNotification.setData(null);
+        PscNotification firstNotification = new PscNotification("12345", null, null);
 
         PscNotificationsMapper.MapperRequest request = PscNotificationsMapper.MapperRequest.builder()
                 .startIndex(0)
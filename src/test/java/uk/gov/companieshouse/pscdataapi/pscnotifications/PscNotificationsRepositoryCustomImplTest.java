@@ -0,0 +1,77 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+class PscNotificationsRepositoryCustomImplTest {
+
+    @Test
+    void pageAggregationPagesInTheDatabase() {
+        List<Document> pipeline = PscNotificationsRepositoryCustomImpl.pageAggregation("pscId", false, 10, 35)
+                .toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(new Document("$match", new Document("psc_id", "pscId")), pipeline.get(0));
+        assertEquals(Document.parse("{'data.notified_on': -1, 'data.ceased_on': -1, 'created.at': 1, '_id': 1}"),
+                pipeline.get(1).get("$sort"));
+        List<Document> items = facet(pipeline).getList("items", Document.class);
+        assertEquals(new Document("$skip", 10L), items.get(0));
+        assertEquals(new Document("$limit", 35L), items.get(1));
+        assertEquals(new Document("$project", Document.parse(PscNotificationsRepositoryCustomImpl.NOTIFICATION_FIELDS)),
+                items.get(2));
+    }
+
+    @Test
+    void pageAggregationReadsOnlyMonthAndYearOfBirth() {
+        Document fields = facet(PscNotificationsRepositoryCustomImpl.pageAggregation("pscId", false, 0, 35)
+                .toPipeline(Aggregation.DEFAULT_CONTEXT)).getList("first", Document.class).get(1)
+                .get("$project", Document.class);
+
+        assertTrue(fields.containsKey("sensitive_data.date_of_birth.year"));
+        assertFalse(fields.keySet().stream().anyMatch(field -> field.equals("sensitive_data")
+                || field.startsWith("sensitive_data.usual_residential_address")
+                || field.equals("sensitive_data.date_of_birth.day")));
+        assertFalse(Document.parse(PscNotificationsRepositoryCustomImpl.NOTIFICATION_FIELDS).keySet().stream()
+                .anyMatch(field -> field.startsWith("sensitive_data")));
+    }
+
+    @Test
+    void pageAggregationFiltersOnlyThePageByActive() {
+        Document facet = facet(PscNotificationsRepositoryCustomImpl.pageAggregation("pscId", true, 0, 35)
+                .toPipeline(Aggregation.DEFAULT_CONTEXT));
+
+        assertEquals(new Document("$match", new Document("data.ceased_on", null)),
+                facet.getList("items", Document.class).getFirst());
+        assertEquals(1, facet.getList("counts", Document.class).size());
+    }
+
+    @Test
+    void summaryAggregationReadsNoPage() {
+        Document facet = facet(PscNotificationsRepositoryCustomImpl.summaryAggregation("pscId")
+                .toPipeline(Aggregation.DEFAULT_CONTEXT));
+
+        assertEquals(Set.of("first", "counts"), facet.keySet());
+    }
+
+    @Test
+    void streamAggregationPagesWithoutFacet() {
+        List<Document> pipeline = PscNotificationsRepositoryCustomImpl.streamAggregation("pscId", true, 10, 35)
+                .toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+        assertEquals(List.of("$match", "$sort", "$match", "$skip", "$limit", "$project"), pipeline.stream()
+                .map(stage -> stage.keySet().iterator().next())
+                .toList());
+        assertEquals(new Document("$skip", 10L), pipeline.get(3));
+        assertEquals(new Document("$limit", 35L), pipeline.get(4));
+    }
+
+    private static Document facet(List<Document> pipeline) {
+        return pipeline.get(2).get("$facet", Document.class);
+    }
+}
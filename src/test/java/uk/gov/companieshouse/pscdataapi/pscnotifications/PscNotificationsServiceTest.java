@@ -6,18 +6,31 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import uk.gov.companieshouse.api.psc_notifications.NotificationList;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
-
+import uk.gov.companieshouse.api.psc_notifications.PscNotificationSummary;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
+import uk.gov.companieshouse.pscdataapi.serialization.StreamingJsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class PscNotificationsServiceTest {
@@ -28,12 +41,15 @@ class PscNotificationsServiceTest {
     @Mock
     private PscNotificationsMapper mapper;
 
+    @Mock
+    private StreamingJsonWriter writer;
+
     private PscNotificationsService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new PscNotificationsService(repository, mapper);
+        service = new PscNotificationsService(repository, mapper, writer, 25);
     }
 
     @Test
@@ -48,11 +64,12 @@ class PscNotificationsServiceTest {
                 .itemsPerPage(itemsPerPage)
                 .build();
 
-        List<PscDocument> documents = List.of(new PscDocument(), new PscDocument());
-        NotificationList mappedNotificationList = new NotificationList().totalResults(2);
+        List<PscNotification> documents = List.of(notification(), notification());
+        PscNotification firstNotification = notification();
+        NotificationList mappedNotificationList = new NotificationList().totalResults(30);
 
-        when(repository.countByPscId(pscId)).thenReturn(2);
-        when(repository.findAllByPscId(pscId)).thenReturn(documents);
+        when(repository.getPscNotificationsPage(pscId, false, startIndex, itemsPerPage))
+                .thenReturn(new PscNotificationsPage(documents, firstNotification, 25, 5));
         when(mapper.mapPscNotifications(any(PscNotificationsMapper.MapperRequest.class)))
                 .thenReturn(Optional.of(mappedNotificationList));
 
@@ -61,9 +78,6 @@ class PscNotificationsServiceTest {
         assertTrue(result.isPresent());
         assertSame(mappedNotificationList, result.get());
 
-        verify(repository).countByPscId(pscId);
-        verify(repository).findAllByPscId(pscId);
-
         ArgumentCaptor<PscNotificationsMapper.MapperRequest> mapperRequestCaptor =
                 ArgumentCaptor.forClass(PscNotificationsMapper.MapperRequest.class);
         verify(mapper).mapPscNotifications(mapperRequestCaptor.capture());
@@ -72,11 +86,65 @@ class PscNotificationsServiceTest {
         assertEquals(startIndex, captured.startIndex());
         assertEquals(itemsPerPage, captured.itemsPerPage());
         assertEquals(documents, captured.pscNotifications());
-        assertEquals(2, captured.totalResults());
+        assertSame(firstNotification, captured.firstNotification());
+        assertEquals(30, captured.totalResults());
+        assertEquals(25, captured.activeCount());
+        assertEquals(5, captured.ceasedCount());
+        assertEquals(0, captured.inactiveCount());
+    }
+
+    @Test
+    void testGetPscNotificationsPagesOnlyActiveNotificationsWhenFilteredByActive() {
+        String pscId = "12345";
+
+        PscNotificationsRequest request = PscNotificationsRequest.builder()
+                .pscId(pscId)
+                .filter("active")
+                .build();
+
+        when(repository.getPscNotificationsPage(pscId, true, 0, 35))
+                .thenReturn(new PscNotificationsPage(List.of(notification()), notification(), 25, 5));
+        when(mapper.mapPscNotifications(any())).thenReturn(Optional.empty());
+
+        service.getPscNotifications(request);
+
+        ArgumentCaptor<PscNotificationsMapper.MapperRequest> captor =
+                ArgumentCaptor.forClass(PscNotificationsMapper.MapperRequest.class);
+        verify(mapper).mapPscNotifications(captor.capture());
+
+        assertEquals(25, captor.getValue().totalResults());
+        assertEquals(5, captor.getValue().ceasedCount());
+    }
+
+    @Test
+    void testGetPscNotificationsThrowsBadRequestForUnknownFilter() {
+        PscNotificationsRequest request = PscNotificationsRequest.builder()
+                .pscId("12345")
+                .filter("ceased")
+                .build();
+
+        assertThrows(BadRequestException.class, () -> service.getPscNotifications(request));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testGetPscNotificationsLimitsItemsPerPage() {
+        PscNotificationsRequest request = PscNotificationsRequest.builder()
+                .pscId("12345")
+                .itemsPerPage(1000)
+                .build();
+
+        when(repository.getPscNotificationsPage("12345", false, 0, 100))
+                .thenReturn(new PscNotificationsPage(List.of(), null, 0, 0));
+        when(mapper.mapPscNotifications(any())).thenReturn(Optional.empty());
+
+        service.getPscNotifications(request);
+
+        verify(repository).getPscNotificationsPage("12345", false, 0, 100);
     }
 
     @Test
-    void testGetPscNotificationsReturnsEmptyListWhenFindAllByPscIdReturnsEmptyList() {
+    void testGetPscNotificationsReturnsEmptyListWhenPageIsEmpty() {
         String pscId = "12345";
         int startIndex = 5;
         int itemsPerPage = 20;
@@ -87,10 +155,11 @@ class PscNotificationsServiceTest {
                 .itemsPerPage(itemsPerPage)
                 .build();
 
-        List<PscDocument> documents = Collections.emptyList();
+        List<PscNotification> documents = Collections.emptyList();
         NotificationList mappedNotificationList = new NotificationList().totalResults(0);
 
-        when(repository.findAllByPscId(pscId)).thenReturn(documents);
+        when(repository.getPscNotificationsPage(pscId, false, startIndex, itemsPerPage))
+                .thenReturn(new PscNotificationsPage(documents, null, 0, 0));
         when(mapper.mapPscNotifications(any(PscNotificationsMapper.MapperRequest.class)))
                 .thenReturn(Optional.of(mappedNotificationList));
 
@@ -114,8 +183,8 @@ class PscNotificationsServiceTest {
     void testGetPscNotificationsUsesDefaultsWhenPaginationParamsProvidedAsNull() {
         PscNotificationsRequest request = new PscNotificationsRequest("11234", null, null, null, null);
 
-        when(repository.countByPscId("12345")).thenReturn(0);
-        when(repository.findAllByPscId("12345")).thenReturn(List.of());
+        when(repository.getPscNotificationsPage("11234", false, 0, 35))
+                .thenReturn(new PscNotificationsPage(List.of(), null, 0, 0));
         when(mapper.mapPscNotifications(any())).thenReturn(Optional.empty());
 
         service.getPscNotifications(request);
@@ -127,4 +196,55 @@ class PscNotificationsServiceTest {
         assertEquals(0, captor.getValue().startIndex());
         assertEquals(35, captor.getValue().itemsPerPage());
     }
+
+    @Test
+    void testGetPscNotificationsEnvelopeMapsSummaryWithoutItems() {
+        PscNotificationsRequest request = PscNotificationsRequest.builder()
+                .pscId("12345")
+                .filter("active")
+                .build();
+        PscNotification firstNotification = notification();
+
+        when(repository.getPscNotificationsSummary("12345"))
+                .thenReturn(new PscNotificationsPage(List.of(), firstNotification, 25, 5));
+        when(mapper.mapPscNotifications(any())).thenReturn(Optional.empty());
+
+        service.getPscNotificationsEnvelope(request);
+
+        ArgumentCaptor<PscNotificationsMapper.MapperRequest> captor =
+                ArgumentCaptor.forClass(PscNotificationsMapper.MapperRequest.class);
+        verify(mapper).mapPscNotifications(captor.capture());
+
+        PscNotificationsMapper.MapperRequest captured = captor.getValue();
+        assertTrue(captured.pscNotifications().isEmpty());
+        assertSame(firstNotification, captured.firstNotification());
+        assertEquals(25, captured.totalResults());
+        assertEquals(35, captured.itemsPerPage());
+        verify(repository, never()).getPscNotificationsPage(any(), anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testWritePscNotificationsStreamsEnvelopePage() throws IOException {
+        PscNotificationsRequest request = PscNotificationsRequest.builder()
+                .pscId("12345")
+                .filter("active")
+                .build();
+        NotificationList envelope = new NotificationList().startIndex(10).itemsPerPage(20);
+        OutputStream out = new ByteArrayOutputStream();
+        PscNotificationSummary summary = new PscNotificationSummary();
+
+        when(repository.streamPscNotifications("12345", true, 10, 20, 25)).thenReturn(Stream.of(notification()));
+        when(mapper.mapPscNotification(any())).thenReturn(summary);
+        when(writer.write(eq(envelope), eq("items"), any(), eq(out))).thenAnswer(invocation ->
+                invocation.getArgument(2, Stream.class).count());
+
+        service.writePscNotifications(request, envelope, out);
+
+        verify(mapper).mapPscNotification(any());
+        verify(writer).write(eq(envelope), eq("items"), any(), eq(out));
+    }
+
+    private static PscNotification notification() {
+        return new PscNotification("12345678", null, null);
+    }
 }
@@ -0,0 +1,76 @@
+package uk.gov.companieshouse.pscdataapi.pscnotifications;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.companieshouse.api.psc_notifications.NotificationList;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
+
+@ExtendWith(MockitoExtension.class)
+class PscNotificationsStreamingControllerTest {
+
+    @Mock
+    private PscNotificationsService service;
+
+    @InjectMocks
+    private PscNotificationsStreamingController controller;
+
+    @Test
+    void streamPscNotificationsWritesPageWhenNotificationsFound() throws IOException {
+        NotificationList envelope = new NotificationList();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(service.getPscNotificationsEnvelope(any(PscNotificationsRequest.class)))
+                .thenReturn(Optional.of(envelope));
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamPscNotifications(
+                "psc-123", null, 0, 25, "*");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        verify(service, never()).writePscNotifications(any(), any(), any());
+
+        response.getBody().writeTo(out);
+
+        verify(service).writePscNotifications(any(PscNotificationsRequest.class), eq(envelope), eq(out));
+        verify(service, never()).getPscNotifications(any());
+    }
+
+    @Test
+    void streamPscNotificationsReturnsNotFoundWhenNoNotificationsFound() throws IOException {
+        when(service.getPscNotificationsEnvelope(any(PscNotificationsRequest.class))).thenReturn(Optional.empty());
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamPscNotifications(
+                "psc-404", null, null, null, null);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
+        assertThat(response.getBody()).isNull();
+        verify(service, never()).writePscNotifications(any(), any(), any());
+    }
+
+    @Test
+    void streamPscNotificationsReturnsBadRequestWhenServiceThrowsBadRequestException() {
+        when(service.getPscNotificationsEnvelope(any(PscNotificationsRequest.class)))
+                .thenThrow(new BadRequestException("Invalid filter"));
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamPscNotifications(
+                "psc-123", "invalid-filter", 0, 25, "*");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        assertThat(response.getBody()).isNull();
+    }
+}
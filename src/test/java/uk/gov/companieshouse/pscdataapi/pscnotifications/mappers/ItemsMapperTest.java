@@ -3,10 +3,9 @@ package uk.gov.companieshouse.pscdataapi.pscnotifications.mappers;
 import org.junit.jupiter.api.Test;
 import uk.gov.companieshouse.api.psc_notifications.PscNotificationSummary;
 import uk.gov.companieshouse.pscdataapi.models.NameElements;
-import uk.gov.companieshouse.pscdataapi.models.PscData;
-import uk.gov.companieshouse.pscdataapi.models.PscDocument;
 import uk.gov.companieshouse.pscdataapi.models.PscIdentification;
 import uk.gov.companieshouse.pscdataapi.models.PscIdentityVerificationDetails;
+import uk.gov.companieshouse.pscdataapi.models.PscNotification;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,27 +26,16 @@ class ItemsMapperTest {
 
     @Test
     void testItemsMapperMapsItemsWhenGivenValidInput() {
-        PscData data = new PscData();
-        data.setCountryOfResidence("UK");
-        data.setEtag("etag");
-        data.setKind("individual-person-with-significant-control");
-        data.setName("Steve Madden");
-        data.setNationality("British");
-        data.setNaturesOfControl(List.of("ownership-of-shares-25-to-50-percent"));
-        data.setNotifiedOn(LocalDate.of(2024, 1, 15));
-        data.setSanctioned(Boolean.FALSE);
-        data.setIdentification(new PscIdentification());
-
         NameElements nameElements = new NameElements();
         nameElements.setForename("Steve");
         nameElements.setSurname("Madden");
-        data.setNameElements(nameElements);
 
-        data.setIdentityVerificationDetails(new PscIdentityVerificationDetails());
+        PscNotification.Data data = new PscNotification.Data(null, "etag", null, "Steve Madden", "British", "UK",
+                "individual-person-with-significant-control", LocalDate.of(2024, 1, 15), Boolean.FALSE,
+                List.of("ownership-of-shares-25-to-50-percent"), nameElements, null, null, new PscIdentification(),
+                new PscIdentityVerificationDetails());
 
-        PscDocument document = new PscDocument();
-        document.setCompanyNumber("12345");
-        document.setData(data);
+        PscNotification document = new PscNotification("12345", data, null);
 
         List<PscNotificationSummary> result = mapper.map(List.of(document));
 
@@ -70,9 +58,7 @@ class ItemsMapperTest {
 
     @Test
     void testItemsMapperReturnsNullWhenGivenNullInput() {
-        PscDocument document = new PscDocument();
-        document.setCompanyNumber("12345");
-        document.setData(null);
+        PscNotification document = new PscNotification("12345", null, null);
 
         List<PscNotificationSummary> result = mapper.map(List.of(document));
 
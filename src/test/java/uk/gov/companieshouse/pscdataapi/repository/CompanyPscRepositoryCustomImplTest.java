@@ -0,0 +1,58 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+
+class CompanyPscRepositoryCustomImplTest {
+
+    @Test
+    void listQueryReadsOnlyListSummaryFields() {
+        Query query = CompanyPscRepositoryCustomImpl.listQuery(where("company_number").is("12345678"),
+                new PscListCursor(LocalDate.of(2024, 1, 1), null, LocalDateTime.of(2024, 1, 1, 9, 0), "id"), 26);
+
+        Document fields = query.getFieldsObject();
+
+        assertEquals(Document.parse(CompanyPscRepository.LIST_SUMMARY_FIELDS), fields);
+        assertTrue(fields.containsKey("sensitive_data.date_of_birth.year"));
+        assertFalse(fields.keySet().stream().anyMatch(field -> field.equals("sensitive_data")
+                || field.startsWith("sensitive_data.usual_residential_address")
+                || field.equals("sensitive_data.internal_id")
+                || field.equals("sensitive_data.date_of_birth.day")));
+        assertEquals(26, query.getLimit());
+    }
+
+    @Test
+    void exportQueryReadsOnlyListSummaryFields() {
+        Query query = CompanyPscRepositoryCustomImpl.exportQuery("12345678", 1000);
+
+        assertEquals(Document.parse(CompanyPscRepository.LIST_SUMMARY_FIELDS), query.getFieldsObject());
+        assertEquals(new Document("company_number", "12345678"), query.getQueryObject());
+        assertEquals(1000, query.getMeta().getCursorBatchSize());
+    }
+
+    @Test
+    void exportQueryOfEveryPscReadsOnlyListSummaryFields() {
+        Query query = CompanyPscRepositoryCustomImpl.exportQuery(null, 1000);
+
+        assertEquals(Document.parse(CompanyPscRepository.LIST_SUMMARY_FIELDS), query.getFieldsObject());
+        assertEquals(new Document(), query.getQueryObject());
+    }
+
+    @Test
+    void listSummaryFieldsPositionTheContinuationToken() {
+        Document fields = Document.parse(CompanyPscRepository.LIST_SUMMARY_FIELDS);
+
+        assertTrue(fields.keySet().containsAll(
+                List.of("_id", "data.notified_on", "data.ceased_on", "created.at")));
+    }
+}
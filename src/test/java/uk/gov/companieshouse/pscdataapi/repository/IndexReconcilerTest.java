@@ -0,0 +1,134 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedEvent;
+import uk.gov.companieshouse.pscdataapi.repository.IndexReconciler.IndexRequirement;
+import uk.gov.companieshouse.pscdataapi.repository.IndexReconciler.IndexStatus;
+
+@ExtendWith(MockitoExtension.class)
+class IndexReconcilerTest {
+
+    private final MongoMappingContext mappingContext = new MongoMappingContext();
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private IndexOperations pscIndexOperations;
+    @Mock
+    private IndexOperations outboxIndexOperations;
+
+    @Test
+    void shouldReportDeclaredIndexesThatExistAsPresent() {
+        givenIndexOperations();
+        when(pscIndexOperations.getIndexInfo()).thenReturn(existing(PscDocument.class));
+        when(outboxIndexOperations.getIndexInfo()).thenReturn(existing(ResourceChangedEvent.class));
+
+        Map<IndexRequirement, IndexStatus> report = new IndexReconciler(mongoTemplate, true, true).reconcile();
+
+        assertEquals(IndexReconciler.REQUIREMENTS.size(), report.size());
+        assertTrue(report.values().stream().allMatch(IndexStatus.PRESENT::equals));
+        verify(pscIndexOperations, never()).createIndex(any());
+        verify(outboxIndexOperations, never()).createIndex(any());
+    }
+
+    @Test
+    void shouldCreateMissingIndexesWhenEnabled() {
+        givenIndexOperations();
+        when(pscIndexOperations.getIndexInfo()).thenReturn(List.of());
+        when(outboxIndexOperations.getIndexInfo()).thenReturn(existing(ResourceChangedEvent.class));
+
+        Map<IndexRequirement, IndexStatus> report = new IndexReconciler(mongoTemplate, true, false).reconcile();
+
+        report.forEach((requirement, status) -> assertEquals(
+                requirement.document() == PscDocument.class ? IndexStatus.CREATED : IndexStatus.PRESENT, status));
+        verify(pscIndexOperations, times(3)).createIndex(any());
+    }
+
+    @Test
+    void shouldRefuseToStartWhenIndexesAreMissingAndCreationIsDisabled() {
+        givenIndexOperations();
+        when(pscIndexOperations.getIndexInfo()).thenReturn(existing(PscDocument.class).stream()
+                .filter(index -> "company_number_list_order".equals(index.getName()))
+                .toList());
+        when(outboxIndexOperations.getIndexInfo()).thenReturn(existing(ResourceChangedEvent.class));
+        IndexReconciler reconciler = new IndexReconciler(mongoTemplate, false, true);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, reconciler::afterSingletonsInstantiated);
+
+        assertEquals("Required Mongo indexes are missing: [company_number_ceased_on, psc_id_list_order]", ex.getMessage());
+        verify(pscIndexOperations, never()).createIndex(any());
+    }
+
+    @Test
+    void shouldMatchEquivalentIndexUnderAnotherName() {
+        IndexDefinition listOrder = declared(PscDocument.class, "company_number_list_order");
+        IndexInfo renamed = IndexInfo.indexInfoOf(new Document("name", "company_number_1_list")
+                .append("key", listOrder.getIndexKeys()));
+
+        assertTrue(IndexReconciler.matches(renamed, listOrder));
+    }
+
+    @Test
+    void shouldNotMatchIndexWithDifferentKeyOrderOrPartialFilter() {
+        IndexDefinition ceasedOn = declared(PscDocument.class, "company_number_ceased_on");
+        IndexInfo reordered = IndexInfo.indexInfoOf(new Document("name", "company_number_ceased_on")
+                .append("key", new Document("data.ceased_on", -1).append("company_number", 1))
+                .append("partialFilterExpression", new Document("data.ceased_on", new Document("$exists", true))));
+        IndexInfo unfiltered = IndexInfo.indexInfoOf(new Document("name", "company_number_ceased_on")
+                .append("key", ceasedOn.getIndexKeys()));
+
+        assertFalse(IndexReconciler.matches(reordered, ceasedOn));
+        assertFalse(IndexReconciler.matches(unfiltered, ceasedOn));
+    }
+
+    private void givenIndexOperations() {
+        when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(PscDocument.class)).thenReturn(pscIndexOperations);
+        when(mongoTemplate.indexOps(ResourceChangedEvent.class)).thenReturn(outboxIndexOperations);
+    }
+
+    private List<IndexInfo> existing(Class<?> document) {
+        List<IndexInfo> indexes = new ArrayList<>();
+        for (IndexDefinition definition : IndexResolver.create(mappingContext).resolveIndexFor(document)) {
+            Document index = new Document(definition.getIndexOptions()).append("key", definition.getIndexKeys());
+            indexes.add(IndexInfo.indexInfoOf(index));
+        }
+        return indexes;
+    }
+
+    private IndexDefinition declared(Class<?> document, String name) {
+        return StreamSupport.stream(IndexResolver.create(mappingContext).resolveIndexFor(document).spliterator(),
+                        false)
+                .filter(definition -> name.equals(definition.getIndexOptions().getString("name")))
+                .findFirst()
+                .orElseThrow();
+    }
+}
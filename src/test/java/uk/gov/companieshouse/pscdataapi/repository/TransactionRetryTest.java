@@ -0,0 +1,82 @@
+package uk.gov.companieshouse.pscdataapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.support.TransactionOperations;
+
+class TransactionRetryTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private TransactionRetry transactionRetry;
+
+    @BeforeEach
+    void setUp() {
+        transactionRetry = new TransactionRetry(TransactionOperations.withoutTransaction(), MAX_ATTEMPTS,
+                meterRegistry);
+    }
+
+    @Test
+    void shouldRetryTransactionAfterTransientTransactionError() {
+        // when
+        final String result = transactionRetry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw writeConflict();
+            }
+            return "committed";
+        });
+
+        // then
+        assertEquals("committed", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, meterRegistry.get("psc.mongo.transaction_retries").counter().count());
+    }
+
+    @Test
+    void shouldRethrowTransientTransactionErrorAfterMaxAttempts() {
+        // given
+        final UncategorizedMongoDbException writeConflict = writeConflict();
+
+        // when
+        Exception actual = assertThrows(UncategorizedMongoDbException.class,
+                () -> transactionRetry.executeWithoutResult(() -> {
+                    attempts.incrementAndGet();
+                    throw writeConflict;
+                }));
+
+        // then
+        assertSame(writeConflict, actual);
+        assertEquals(MAX_ATTEMPTS, attempts.get());
+        assertEquals(MAX_ATTEMPTS - 1, meterRegistry.get("psc.mongo.transaction_retries").counter().count());
+    }
+
+    @Test
+    void shouldNotRetryOtherErrors() {
+        // when
+        assertThrows(DataAccessResourceFailureException.class, () -> transactionRetry.executeWithoutResult(() -> {
+            attempts.incrementAndGet();
+            throw new DataAccessResourceFailureException("unavailable", new MongoException("timed out"));
+        }));
+
+        // then
+        assertEquals(1, attempts.get());
+        assertEquals(0, meterRegistry.get("psc.mongo.transaction_retries").counter().count());
+    }
+
+    private static UncategorizedMongoDbException writeConflict() {
+        MongoException cause = new MongoException(112, "WriteConflict");
+        cause.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        return new UncategorizedMongoDbException("Write conflict", cause);
+    }
+}
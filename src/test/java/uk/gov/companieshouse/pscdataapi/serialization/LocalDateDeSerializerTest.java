@@ -6,7 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
@@ -44,6 +47,17 @@ class LocalDateDeSerializerTest {
 
     }
 
+    @Test
+    void bsonDateShouldDeserialize() throws Exception {
+        TokenBuffer tokens = new TokenBuffer(mapper, false);
+        tokens.writeEmbeddedObject(Date.from(Instant.parse("1924-08-23T00:00:00Z")));
+
+        LocalDate returnedDate = deserializer.deserialize(tokens.asParserOnFirstToken(),
+                mapper.getDeserializationContext());
+        assertEquals(LocalDate.of(1924, 8, 23), returnedDate);
+
+    }
+
     @Test
     void nullStringReturnsError() {
 
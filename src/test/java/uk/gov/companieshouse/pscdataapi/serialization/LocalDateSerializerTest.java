@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,4 +48,14 @@ class LocalDateSerializerTest {
 
         verify(generator).writeNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void dateShouldSerializeAsBsonDateWhenWrittenToTokens() throws Exception {
+        TokenBuffer tokens = new TokenBuffer(null, false);
+
+        serializer.serialize(LocalDate.of(2020, 1, 1), tokens, null);
+
+        assertEquals(Date.from(Instant.parse("2020-01-01T00:00:00Z")),
+                tokens.asParserOnFirstToken().getEmbeddedObject());
+    }
+}
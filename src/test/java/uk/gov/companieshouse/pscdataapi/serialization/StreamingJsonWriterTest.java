@@ -0,0 +1,87 @@
+package uk.gov.companieshouse.pscdataapi.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamingJsonWriterTest {
+
+    private final StreamingJsonWriter writer = new StreamingJsonWriter(new ObjectMapper());
+
+    @Test
+    void shouldWriteEnvelopeWithStreamedItemsInPlaceOfItsOwn() throws IOException {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("total_results", 2);
+        envelope.put("items", List.of("stale"));
+        envelope.put("start_index", 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = writer.write(envelope, "items", Stream.of(Map.of("name", "first"), Map.of("name", "second")),
+                out);
+
+        assertEquals(2, count);
+        assertEquals("{\"total_results\":2,\"start_index\":0,\"items\":[{\"name\":\"first\"},{\"name\":\"second\"}]}",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldFlushEnvelopeBeforeReadingItems() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> writtenBeforeFirstItem = new ArrayList<>();
+
+        writer.write(Map.of("total_results", 1), "items", Stream.of("first").peek(item ->
+                writtenBeforeFirstItem.add(out.toString(StandardCharsets.UTF_8))), out);
+
+        assertEquals(List.of("{\"total_results\":1,\"items\":["), writtenBeforeFirstItem);
+    }
+
+    @Test
+    void shouldWriteEmptyItemsAndLeaveStreamOpen() throws IOException {
+        ClosingTrackingOutputStream out = new ClosingTrackingOutputStream();
+
+        long count = writer.write(Map.of(), "items", Stream.empty(), out);
+
+        assertEquals(0, count);
+        assertEquals("{\"items\":[]}", out.toString(StandardCharsets.UTF_8));
+        assertFalse(out.closed);
+    }
+
+    @Test
+    void shouldLeaveJsonUnterminatedWhenReadingAnItemFails() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Stream<Object> items = Stream.of("first", "second").map(item -> {
+            if ("second".equals(item)) {
+                throw new IllegalStateException("cursor failed");
+            }
+            return Map.of("name", item);
+        });
+
+        assertThrows(IllegalStateException.class, () -> writer.write(Map.of("total_results", 2), "items", items, out));
+
+        String written = out.toString(StandardCharsets.UTF_8);
+        assertEquals("{\"total_results\":2,\"items\":[{\"name\":\"first\"}", written);
+        assertThrows(JsonProcessingException.class, () -> new ObjectMapper().readTree(written));
+    }
+
+    private static final class ClosingTrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -1,32 +1,44 @@
 package uk.gov.companieshouse.pscdataapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.api.client.http.HttpHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
 import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpResponseException.Builder;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
 import uk.gov.companieshouse.api.error.ApiErrorResponseException;
 import uk.gov.companieshouse.api.exemptions.CompanyExemptions;
+import uk.gov.companieshouse.api.exemptions.ExemptionItem;
+import uk.gov.companieshouse.api.exemptions.Exemptions;
+import uk.gov.companieshouse.api.exemptions.PscExemptAsTradingOnRegulatedMarketItem;
 import uk.gov.companieshouse.api.handler.delta.PrivateDeltaResourceHandler;
 import uk.gov.companieshouse.api.handler.delta.exemptions.request.PrivateCompanyExemptionsGetAll;
 import uk.gov.companieshouse.api.handler.exception.URIValidationException;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyExemptionsApiServiceTest {
@@ -36,8 +48,8 @@ class CompanyExemptionsApiServiceTest {
     private static final ApiResponse<CompanyExemptions> SUCCESS_RESPONSE = new ApiResponse<>(200, null,
             new CompanyExemptions());
 
-    @InjectMocks
     private CompanyExemptionsApiService service;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Mock
     private Supplier<InternalApiClient> supplier;
@@ -49,6 +61,12 @@ class CompanyExemptionsApiServiceTest {
     @Mock
     private PrivateCompanyExemptionsGetAll privateCompanyExemptionsGetAll;
 
+    @BeforeEach
+    void setUp() {
+        service = new CompanyExemptionsApiService(supplier, Caffeine.newBuilder().buildAsync(),
+                new DownstreamCallMetrics(meterRegistry, OpenTelemetry.noop()));
+    }
+
     @Test
     void shouldGetCompanyExemptions() throws Exception {
         // given
@@ -147,6 +165,112 @@ class CompanyExemptionsApiServiceTest {
         verify(privateDeltaResourceHandler).getCompanyExemptionsResource(URL);
     }
 
+    @Test
+    void shouldReportActivePscExemptionsAndServeRepeatedLookupsFromCache() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(privateDeltaResourceHandler.getCompanyExemptionsResource(anyString())).thenReturn(
+                privateCompanyExemptionsGetAll);
+        when(privateCompanyExemptionsGetAll.execute()).thenReturn(
+                new ApiResponse<>(200, null, buildExemptions(new ExemptionItem().exemptTo(null))));
+
+        // when
+        final boolean first = service.hasActivePscExemptions(COMPANY_NUMBER);
+        final boolean second = service.hasActivePscExemptions(COMPANY_NUMBER);
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        verify(privateCompanyExemptionsGetAll, times(1)).execute();
+    }
+
+    @Test
+    void shouldReportNoActivePscExemptionsWhenAllExemptionsHaveEnded() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(privateDeltaResourceHandler.getCompanyExemptionsResource(anyString())).thenReturn(
+                privateCompanyExemptionsGetAll);
+        when(privateCompanyExemptionsGetAll.execute()).thenReturn(
+                new ApiResponse<>(200, null, buildExemptions(new ExemptionItem().exemptTo(LocalDate.of(2020, 1, 1)))));
+
+        // when
+        final boolean actual = service.hasActivePscExemptions(COMPANY_NUMBER);
+
+        // then
+        assertFalse(actual);
+    }
+
+    @Test
+    void shouldCacheNoActivePscExemptionsWhenApiRespondsWith404NotFound() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(privateDeltaResourceHandler.getCompanyExemptionsResource(anyString())).thenReturn(
+                privateCompanyExemptionsGetAll);
+        when(privateCompanyExemptionsGetAll.execute()).thenThrow(buildApiErrorResponseException(404));
+
+        // when
+        final boolean first = service.hasActivePscExemptions(COMPANY_NUMBER);
+        final boolean second = service.hasActivePscExemptions(COMPANY_NUMBER);
+
+        // then
+        assertFalse(first);
+        assertFalse(second);
+        verify(privateCompanyExemptionsGetAll, times(1)).execute();
+    }
+
+    @Test
+    void shouldOnlyReturnCachedActivePscExemptionsWithoutCallingApi() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(privateDeltaResourceHandler.getCompanyExemptionsResource(anyString())).thenReturn(
+                privateCompanyExemptionsGetAll);
+        when(privateCompanyExemptionsGetAll.execute()).thenThrow(buildApiErrorResponseException(404));
+
+        // when
+        final Optional<Boolean> beforeLookup = service.getCachedHasActivePscExemptions(COMPANY_NUMBER);
+        service.hasActivePscExemptions(COMPANY_NUMBER);
+        final Optional<Boolean> afterLookup = service.getCachedHasActivePscExemptions(COMPANY_NUMBER);
+
+        // then
+        assertEquals(Optional.empty(), beforeLookup);
+        assertEquals(Optional.of(false), afterLookup);
+        verify(privateCompanyExemptionsGetAll, times(1)).execute();
+    }
+
+    @Test
+    void shouldNotCacheFailedExemptionsLookups() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateDeltaResourceHandler()).thenReturn(privateDeltaResourceHandler);
+        when(privateDeltaResourceHandler.getCompanyExemptionsResource(anyString())).thenReturn(
+                privateCompanyExemptionsGetAll);
+        when(privateCompanyExemptionsGetAll.execute())
+                .thenThrow(buildApiErrorResponseException(503))
+                .thenReturn(new ApiResponse<>(200, null, buildExemptions(new ExemptionItem().exemptTo(null))));
+
+        // when
+        Executable executable = () -> service.hasActivePscExemptions(COMPANY_NUMBER);
+
+        // then
+        assertThrows(BadGatewayException.class, executable);
+        assertTrue(service.hasActivePscExemptions(COMPANY_NUMBER));
+        verify(privateCompanyExemptionsGetAll, times(2)).execute();
+    }
+
+    private static CompanyExemptions buildExemptions(ExemptionItem item) {
+        PscExemptAsTradingOnRegulatedMarketItem regulatedMarket = new PscExemptAsTradingOnRegulatedMarketItem();
+        regulatedMarket.setItems(List.of(item));
+        Exemptions exemptions = new Exemptions();
+        exemptions.setPscExemptAsTradingOnRegulatedMarket(regulatedMarket);
+        CompanyExemptions companyExemptions = new CompanyExemptions();
+        companyExemptions.setExemptions(exemptions);
+        return companyExemptions;
+    }
+
     private static ApiErrorResponseException buildApiErrorResponseException(final int statusCode) {
         Builder builder = new HttpResponseException.Builder(statusCode, "", new HttpHeaders());
         return new ApiErrorResponseException(builder);
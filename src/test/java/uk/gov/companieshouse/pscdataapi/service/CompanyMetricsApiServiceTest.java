@@ -1,23 +1,34 @@
 package uk.gov.companieshouse.pscdataapi.service;
 
+import static io.opentelemetry.api.common.AttributeKey.longKey;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.api.client.http.HttpHeaders;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.http.HttpResponseException.Builder;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.companieshouse.api.InternalApiClient;
@@ -28,6 +39,8 @@ import uk.gov.companieshouse.api.handler.metrics.request.PrivateCompanyMetricsGe
 import uk.gov.companieshouse.api.metrics.MetricsApi;
 import uk.gov.companieshouse.api.model.ApiResponse;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
+import uk.gov.companieshouse.pscdataapi.metrics.DownstreamCallMetrics;
+import uk.gov.companieshouse.pscdataapi.tracing.PscSpanAttributes;
 
 @ExtendWith(MockitoExtension.class)
 class CompanyMetricsApiServiceTest {
@@ -36,8 +49,11 @@ class CompanyMetricsApiServiceTest {
     private static final String URL = "/company/%s/metrics".formatted(COMPANY_NUMBER);
     private static final ApiResponse<MetricsApi> SUCCESS_RESPONSE = new ApiResponse<>(200, null, new MetricsApi());
 
-    @InjectMocks
+    @RegisterExtension
+    static final OpenTelemetryExtension openTelemetry = OpenTelemetryExtension.create();
+
     private CompanyMetricsApiService service;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @Mock
     private Supplier<InternalApiClient> supplier;
@@ -49,6 +65,12 @@ class CompanyMetricsApiServiceTest {
     @Mock
     private PrivateCompanyMetricsGet privateCompanyMetricsGet;
 
+    @BeforeEach
+    void setUp() {
+        service = new CompanyMetricsApiService(supplier, Caffeine.newBuilder().buildAsync(),
+                new DownstreamCallMetrics(meterRegistry, openTelemetry.getOpenTelemetry()));
+    }
+
     @Test
     void shouldGetCompanyMetrics() throws Exception {
         // given
@@ -101,6 +123,79 @@ class CompanyMetricsApiServiceTest {
         verify(privateCompanyMetricsResourceHandler).getCompanyMetrics(URL);
     }
 
+    @Test
+    void shouldRecordCallByResponseStatus() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute())
+                .thenReturn(SUCCESS_RESPONSE)
+                .thenThrow(buildApiErrorResponseException(404));
+
+        // when
+        service.getCompanyMetrics(COMPANY_NUMBER);
+        service.evictCompanyMetrics(COMPANY_NUMBER);
+        service.getCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        assertEquals(1, requests("200").count());
+        assertEquals(1, requests("404").count());
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsAndCached404sFromCache() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute()).thenThrow(buildApiErrorResponseException(404));
+
+        // when
+        service.getCompanyMetrics(COMPANY_NUMBER);
+        Optional<MetricsApi> actual = service.getCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        assertTrue(actual.isEmpty());
+        verify(privateCompanyMetricsGet, times(1)).execute();
+    }
+
+    @Test
+    void shouldCallApiAgainAfterEviction() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute()).thenReturn(SUCCESS_RESPONSE);
+
+        // when
+        service.getCompanyMetrics(COMPANY_NUMBER);
+        service.evictCompanyMetrics(COMPANY_NUMBER);
+        service.getCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        verify(privateCompanyMetricsGet, times(2)).execute();
+    }
+
+    @Test
+    void shouldOnlyReturnCachedCompanyMetricsWithoutCallingApi() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute()).thenReturn(SUCCESS_RESPONSE);
+
+        // when
+        Optional<MetricsApi> beforeLookup = service.getCachedCompanyMetrics(COMPANY_NUMBER);
+        service.getCompanyMetrics(COMPANY_NUMBER);
+        Optional<MetricsApi> afterLookup = service.getCachedCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        assertTrue(beforeLookup.isEmpty());
+        assertEquals(Optional.of(new MetricsApi()), afterLookup);
+        verify(privateCompanyMetricsGet, times(1)).execute();
+    }
+
     @ParameterizedTest
     @CsvSource({
             "400",
@@ -142,6 +237,57 @@ class CompanyMetricsApiServiceTest {
         verify(privateCompanyMetricsResourceHandler).getCompanyMetrics(URL);
     }
 
+    @Test
+    void shouldRecordCallInFlightUntilApiResponds() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute()).thenAnswer(invocation -> {
+            assertEquals(1, inFlight().activeTasks());
+            return SUCCESS_RESPONSE;
+        });
+
+        // when
+        service.getCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        assertEquals(0, inFlight().activeTasks());
+    }
+
+    @Test
+    void shouldTraceApiCallInClientSpanOnlyWhenNotCached() throws Exception {
+        // given
+        when(supplier.get()).thenReturn(client);
+        when(client.privateCompanyMetricsResourceHandler()).thenReturn(privateCompanyMetricsResourceHandler);
+        when(privateCompanyMetricsResourceHandler.getCompanyMetrics(anyString())).thenReturn(privateCompanyMetricsGet);
+        when(privateCompanyMetricsGet.execute()).thenReturn(SUCCESS_RESPONSE);
+
+        // when
+        service.getCompanyMetrics(COMPANY_NUMBER);
+        service.getCompanyMetrics(COMPANY_NUMBER);
+
+        // then
+        List<SpanData> spans = openTelemetry.getSpans();
+        assertEquals(1, spans.size());
+        assertEquals(DownstreamCallMetrics.METRICS_API, spans.getFirst().getName());
+        assertEquals(SpanKind.CLIENT, spans.getFirst().getKind());
+        assertEquals(200L, spans.getFirst().getAttributes().get(longKey(PscSpanAttributes.RESULT)));
+    }
+
+    private Timer requests(String status) {
+        return meterRegistry.get("psc.downstream.requests")
+                .tag("downstream", DownstreamCallMetrics.METRICS_API)
+                .tag("status", status)
+                .timer();
+    }
+
+    private LongTaskTimer inFlight() {
+        return meterRegistry.get("psc.downstream.in_flight")
+                .tag("downstream", DownstreamCallMetrics.METRICS_API)
+                .longTaskTimer();
+    }
+
     private static ApiErrorResponseException buildApiErrorResponseException(final int statusCode) {
         Builder builder = new HttpResponseException.Builder(statusCode, "", new HttpHeaders());
         return new ApiErrorResponseException(builder);
@@ -1,18 +1,28 @@
 package uk.gov.companieshouse.pscdataapi.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Named;
@@ -30,15 +40,18 @@ import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionOperations;
 
-import uk.gov.companieshouse.api.exemptions.CompanyExemptions;
-import uk.gov.companieshouse.api.exemptions.Exemptions;
-import uk.gov.companieshouse.api.exemptions.PscExemptAsTradingOnUkRegulatedMarketItem;
 import uk.gov.companieshouse.api.metrics.CountsApi;
 import uk.gov.companieshouse.api.metrics.MetricsApi;
 import uk.gov.companieshouse.api.metrics.PscApi;
@@ -59,17 +72,33 @@ import uk.gov.companieshouse.api.psc.PscList;
 import uk.gov.companieshouse.api.psc.SuperSecure;
 import uk.gov.companieshouse.api.psc.SuperSecureBeneficialOwner;
 import uk.gov.companieshouse.pscdataapi.api.ChsKafkaApiService;
+import uk.gov.companieshouse.pscdataapi.cache.PscResponseCache;
+import uk.gov.companieshouse.pscdataapi.config.DownstreamTimeouts;
 import uk.gov.companieshouse.pscdataapi.config.FeatureFlags;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounter;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounter.Change;
+import uk.gov.companieshouse.pscdataapi.counts.CompanyPscCounts;
+import uk.gov.companieshouse.pscdataapi.data.PscRoles;
+import uk.gov.companieshouse.pscdataapi.exceptions.BadGatewayException;
 import uk.gov.companieshouse.pscdataapi.exceptions.BadRequestException;
 import uk.gov.companieshouse.pscdataapi.exceptions.ConflictException;
 import uk.gov.companieshouse.pscdataapi.exceptions.NotFoundException;
 import uk.gov.companieshouse.pscdataapi.exceptions.ServiceUnavailableException;
-import uk.gov.companieshouse.pscdataapi.models.Created;
+import uk.gov.companieshouse.pscdataapi.metrics.StaleDeltaMetrics;
 import uk.gov.companieshouse.pscdataapi.models.Links;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult;
+import uk.gov.companieshouse.pscdataapi.models.PscBatchItemResult.Status;
+import uk.gov.companieshouse.pscdataapi.models.PscBulkDeleteResult;
 import uk.gov.companieshouse.pscdataapi.models.PscData;
 import uk.gov.companieshouse.pscdataapi.models.PscDeleteRequest;
 import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.models.PscListCursor;
+import uk.gov.companieshouse.pscdataapi.models.PscListPage;
+import uk.gov.companieshouse.pscdataapi.models.PscRegisterViewPage;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedEvent;
+import uk.gov.companieshouse.pscdataapi.outbox.ResourceChangedOutbox;
 import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
+import uk.gov.companieshouse.pscdataapi.repository.TransactionRetry;
 import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
 import uk.gov.companieshouse.pscdataapi.util.TestHelper;
 import static uk.gov.companieshouse.pscdataapi.util.TestHelper.DELTA_AT;
@@ -86,110 +115,143 @@ class CompanyPscServiceTest {
     private static final boolean SHOW_FULL_DOB_TRUE = true;
     private static final boolean SHOW_FULL_DOB_FALSE = false;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private CompanyPscService service;
 
-    @Captor
-    private ArgumentCaptor<String> dateCaptor;
-
     @Mock
     private CompanyPscRepository repository;
     @Mock
     private CompanyPscTransformer transformer;
     @Mock
+    private ResourceChangedOutbox resourceChangedOutbox;
+    @Mock
     private ChsKafkaApiService chsKafkaApiService;
     @Mock
+    private CompanyPscCounter companyPscCounter;
+    @Mock
     private CompanyExemptionsApiService companyExemptionsApiService;
     @Mock
     private CompanyMetricsApiService companyMetricsApiService;
     @Mock
     private FeatureFlags featureFlags;
+    @Mock
+    private DownstreamTimeouts downstreamTimeouts;
+    @Spy
+    private Executor pscListExecutor = new SyncTaskExecutor();
+    @Spy
+    private StaleDeltaMetrics staleDeltaMetrics = new StaleDeltaMetrics(meterRegistry);
+    @Spy
+    private TransactionRetry transactionRetry = new TransactionRetry(TransactionOperations.withoutTransaction(), 3,
+            meterRegistry);
+    @Spy
+    private PscResponseCache pscResponseCache = new PscResponseCache(Caffeine.newBuilder().build(), Optional.empty(),
+            new ObjectMapper(), new SimpleMeterRegistry());
+    @Captor
+    private ArgumentCaptor<ResourceChangedEvent> eventCaptor;
+    @Captor
+    private ArgumentCaptor<List<ResourceChangedEvent>> eventsCaptor;
+    @Captor
+    private ArgumentCaptor<PscDocument> documentCaptor;
 
     private FullRecordCompanyPSCApi request;
     private PscDocument pscDocument;
-    private String dateString;
     private OffsetDateTime date;
     private OffsetDateTime laterDate;
-    private TestHelper testHelper;
-    private PscExemptAsTradingOnUkRegulatedMarketItem pscExemptAsTradingOnUkRegulatedMarketItem;
 
     @BeforeEach
     void setUp() {
         date = TestHelper.createOffsetDateTime();
-        dateString = date.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS"));
         laterDate = TestHelper.createLaterOffsetDateTime();
 
         request = TestHelper.buildBasicFullRecordPsc();
         pscDocument = TestHelper.buildBasicDocument();
 
-        testHelper = new TestHelper();
-        pscExemptAsTradingOnUkRegulatedMarketItem = new PscExemptAsTradingOnUkRegulatedMarketItem();
     }
 
     @Test
-    void insertBrandNewPscRecordSavesPsc() {
-        when(repository.findUpdatedPsc(eq(NOTIFICATION_ID), dateCaptor.capture())).thenReturn(new ArrayList<>());
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.empty());
+    void insertPscRecordUpsertsPscInSingleWrite() {
         when(transformer.transformPscOnInsert(NOTIFICATION_ID, request)).thenReturn(pscDocument);
+        when(repository.upsertIfNotStale(pscDocument)).thenReturn(null);
 
         service.insertPscRecord(request);
 
-        verify(repository).save(pscDocument);
-        verify(chsKafkaApiService).invokeChsKafkaApi(any(), any(), any());
-        assertEquals(dateString, dateCaptor.getValue());
-        assertNotNull(pscDocument.getCreated().getAt());
+        verify(repository).upsertIfNotStale(pscDocument);
+        verify(companyPscCounter).record(new Change(pscDocument.getCompanyNumber(), null, pscDocument));
+        verify(pscResponseCache).evict(pscDocument.getCompanyNumber(), NOTIFICATION_ID, null, pscDocument);
+        verify(companyMetricsApiService).evictCompanyMetrics(request.getExternalData().getCompanyNumber());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+        verify(resourceChangedOutbox).enqueue(eventCaptor.capture());
+        assertEquals("changed", eventCaptor.getValue().getEventType());
+        assertEquals(NOTIFICATION_ID, eventCaptor.getValue().getNotificationId());
     }
 
     @Test
-    void insertUpdatePscRecordSavesPsc() {
-        PscDocument oldRecord = new PscDocument();
-        LocalDateTime localDateTime = LocalDateTime.now();
-        oldRecord.setCreated(new Created().setAt(localDateTime));
-        when(repository.findUpdatedPsc(eq(NOTIFICATION_ID), dateCaptor.capture())).thenReturn(new ArrayList<>());
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(oldRecord));
+    void insertStalePscRecordThrowsConflictWhenUpsertFailsWithDuplicateKey() {
         when(transformer.transformPscOnInsert(NOTIFICATION_ID, request)).thenReturn(pscDocument);
+        when(repository.upsertIfNotStale(pscDocument)).thenThrow(new DuplicateKeyException("E11000"));
 
-        service.insertPscRecord(request);
+        Executable actual = () -> service.insertPscRecord(request);
 
-        verify(repository).save(pscDocument);
-        verify(chsKafkaApiService).invokeChsKafkaApi(any(), any(), any());
-        assertEquals(dateString, dateCaptor.getValue());
-        assertNotNull(pscDocument.getCreated().getAt());
-        assertEquals(localDateTime, pscDocument.getCreated().getAt());
+        assertThrows(ConflictException.class, actual);
+        verify(repository).upsertIfNotStale(pscDocument);
+        verify(companyPscCounter, never()).record(any(Change.class));
+        verify(resourceChangedOutbox, never()).enqueue(any());
+        assertEquals(1.0, staleDeltas(StaleDeltaMetrics.UPSERT, INDIVIDUAL_KIND));
     }
 
     @Test
-    void retryOfFailedInsertUpdatePscRecordSavesPsc() {
-        PscDocument oldRecord = new PscDocument();
-        LocalDateTime localDateTime = LocalDateTime.now();
-        oldRecord.setCreated(new Created().setAt(localDateTime));
-        pscDocument.setCreated(new Created().setAt(localDateTime));
-
-        when(repository.findUpdatedPsc(eq(NOTIFICATION_ID), dateCaptor.capture())).thenReturn(List.of());
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(oldRecord));
+    void insertPscRecordsUpsertsAcceptedRecordsInOneBulkWrite() {
+        request.getExternalData().setCompanyNumber(COMPANY_NUMBER);
+        FullRecordCompanyPSCApi staleRequest = TestHelper.buildBasicFullRecordPsc();
+        staleRequest.getExternalData().setNotificationId("staleNotificationId");
+        staleRequest.getExternalData().setCompanyNumber(COMPANY_NUMBER);
+        FullRecordCompanyPSCApi invalidRequest = new FullRecordCompanyPSCApi();
+
+        PscDocument existing = new PscDocument();
+        existing.setId("staleNotificationId");
+        existing.setDeltaAt(laterDate.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS")));
+        when(repository.findDeltaAtByIdIn(any())).thenReturn(List.of(existing));
         when(transformer.transformPscOnInsert(NOTIFICATION_ID, request)).thenReturn(pscDocument);
 
-        service.insertPscRecord(request);
-
-        verify(repository).save(pscDocument);
-        verify(chsKafkaApiService).invokeChsKafkaApi(any(), any(), any());
-        assertEquals(dateString, dateCaptor.getValue());
-        assertNotNull(pscDocument.getCreated().getAt());
-        assertEquals(localDateTime, pscDocument.getCreated().getAt());
+        List<PscBatchItemResult> actual = service.insertPscRecords(List.of(request, staleRequest, invalidRequest));
+
+        assertEquals(List.of(
+                new PscBatchItemResult(0, NOTIFICATION_ID, Status.ACCEPTED),
+                new PscBatchItemResult(1, "staleNotificationId", Status.STALE),
+                new PscBatchItemResult(2, null, Status.INVALID)), actual);
+        assertEquals(1.0, staleDeltas(StaleDeltaMetrics.BATCH_UPSERT, INDIVIDUAL_KIND));
+        verify(repository).bulkUpsertPscs(List.of(pscDocument), Set.of("staleNotificationId"));
+        verify(companyPscCounter).record(List.of(new Change(COMPANY_NUMBER, null, pscDocument)));
+        verify(resourceChangedOutbox).enqueueAll(eventsCaptor.capture());
+        assertEquals(1, eventsCaptor.getValue().size());
+        ResourceChangedEvent event = eventsCaptor.getValue().getFirst();
+        assertEquals(COMPANY_NUMBER, event.getCompanyNumber());
+        assertEquals(NOTIFICATION_ID, event.getNotificationId());
+        assertEquals(INDIVIDUAL_KIND, event.getKind());
+        verify(repository, never()).save(any());
     }
 
     @Test
-    void insertStalePscRecordDoesNotSavePscWhenUpdateAlreadyMade() {
-
-        when(repository.findUpdatedPsc(eq(NOTIFICATION_ID), dateCaptor.capture())).thenReturn(
-                List.of(new PscDocument()));
-
-        Executable actual = () -> service.insertPscRecord(request);
-
-        assertThrows(ConflictException.class, actual);
-        verify(repository, never()).save(pscDocument);
-        verify(chsKafkaApiService, never()).invokeChsKafkaApi(any(), any(), any());
-        assertEquals(dateString, dateCaptor.getValue());
+    void insertPscRecordsOnlyUpsertsLatestDeltaForSameNotificationId() {
+        request.getExternalData().setCompanyNumber(COMPANY_NUMBER);
+        FullRecordCompanyPSCApi laterRequest = TestHelper.buildBasicFullRecordPsc();
+        laterRequest.getExternalData().setCompanyNumber(COMPANY_NUMBER);
+        laterRequest.getInternalData().setDeltaAt(laterDate);
+
+        when(repository.findDeltaAtByIdIn(any())).thenReturn(List.of());
+        when(transformer.transformPscOnInsert(NOTIFICATION_ID, laterRequest)).thenReturn(pscDocument);
+
+        List<PscBatchItemResult> actual = service.insertPscRecords(List.of(laterRequest, request));
+
+        assertEquals(Status.ACCEPTED, actual.get(0).status());
+        assertEquals(Status.STALE, actual.get(1).status());
+        verify(transformer, never()).transformPscOnInsert(NOTIFICATION_ID, request);
+        verify(repository).bulkUpsertPscs(List.of(pscDocument), Set.of());
+        verify(resourceChangedOutbox).enqueueAll(eventsCaptor.capture());
+        assertEquals(1, eventsCaptor.getValue().size());
     }
 
     @Test
@@ -197,11 +259,18 @@ class CompanyPscServiceTest {
     void testDeletePSC() {
         when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(
                 Optional.ofNullable(pscDocument));
+        Map<String, Object> deletedData = Map.of("kind", INDIVIDUAL_KIND);
+        when(chsKafkaApiService.deletedData(pscDocument)).thenReturn(deletedData);
         service.deletePsc(new PscDeleteRequest(COMPANY_NUMBER, NOTIFICATION_ID, "", INDIVIDUAL_KIND, DELTA_AT));
 
         verify(repository, times(1)).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
         verify(repository, times(1)).delete(pscDocument);
-        verify(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(any(), any());
+        verify(companyPscCounter).record(Change.deleted(pscDocument));
+        verify(pscResponseCache).evict(COMPANY_NUMBER, NOTIFICATION_ID, pscDocument);
+        verify(companyMetricsApiService).evictCompanyMetrics(COMPANY_NUMBER);
+        verify(resourceChangedOutbox).enqueue(eventCaptor.capture());
+        assertEquals("deleted", eventCaptor.getValue().getEventType());
+        assertEquals(deletedData, eventCaptor.getValue().getDeletedData());
     }
 
     @Test
@@ -215,7 +284,7 @@ class CompanyPscServiceTest {
 
         verify(repository, times(1)).getPscByCompanyNumberAndId("", NOTIFICATION_ID);
         verify(repository, never()).delete(any());
-        verify(chsKafkaApiService, never()).invokeChsKafkaApiWithDeleteEvent(any(), any());
+        verify(resourceChangedOutbox, never()).enqueue(any());
     }
 
     @Test
@@ -229,24 +298,22 @@ class CompanyPscServiceTest {
 
         verify(repository, times(1)).getPscByCompanyNumberAndId("", "");
         verify(repository, never()).delete(any());
-        verify(chsKafkaApiService, never()).invokeChsKafkaApiWithDeleteEvent(any(), any());
+        verify(resourceChangedOutbox, never()).enqueue(any());
     }
 
     @Test
-    @DisplayName("When Kafka notification fails throw ServiceUnavailableException")
-    void testDeletePSCThrowsServiceUnavailableExceptionWhenKafkaNotification() {
+    @DisplayName("When the outbox write fails the exception propagates so the delete is rolled back")
+    void testDeletePSCPropagatesOutboxWriteFailure() {
         when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(
                 Optional.of(pscDocument));
-        when(chsKafkaApiService.invokeChsKafkaApiWithDeleteEvent(any(), any()))
-                .thenThrow(new ServiceUnavailableException("message"));
+        doThrow(new DataAccessResourceFailureException("message")).when(resourceChangedOutbox).enqueue(any());
 
         final var deleteRequest = new PscDeleteRequest(COMPANY_NUMBER, NOTIFICATION_ID, "", INDIVIDUAL_KIND, DELTA_AT);
 
-        assertThrows(ServiceUnavailableException.class, () -> service.deletePsc(deleteRequest));
+        assertThrows(DataAccessResourceFailureException.class, () -> service.deletePsc(deleteRequest));
 
         verify(repository).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
         verify(repository).delete(pscDocument);
-        verify(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(any(), any());
     }
 
     @Test
@@ -257,7 +324,7 @@ class CompanyPscServiceTest {
         service.deletePsc(new PscDeleteRequest(COMPANY_NUMBER, NOTIFICATION_ID, "", INDIVIDUAL_KIND, DELTA_AT));
 
         verify(repository).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
-        verify(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(any(), any());
+        verify(resourceChangedOutbox).enqueue(any());
 
     }
 
@@ -266,14 +333,13 @@ class CompanyPscServiceTest {
         void testDeleteEventContainsCorrectLinksWhenRecordDeleted() {
         when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(Optional.empty());
 
-        ArgumentCaptor<PscDocument> pscDoc = ArgumentCaptor.forClass(PscDocument.class);
-
         service.deletePsc(new PscDeleteRequest(COMPANY_NUMBER, NOTIFICATION_ID, "", INDIVIDUAL_KIND, DELTA_AT));
 
         verify(repository).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
-        verify(chsKafkaApiService).invokeChsKafkaApiWithDeleteEvent(any(), pscDoc.capture());
+        verify(resourceChangedOutbox).enqueue(any());
+        verify(chsKafkaApiService).deletedData(documentCaptor.capture());
 
-        PscDocument dataSent = pscDoc.getValue();
+        PscDocument dataSent = documentCaptor.getValue();
         assertNotNull(dataSent);
         assertEquals(NOTIFICATION_ID, dataSent.getId());
         assertEquals(COMPANY_NUMBER, dataSent.getCompanyNumber());
@@ -284,6 +350,51 @@ class CompanyPscServiceTest {
         assertEquals(expectedUri, dataSent.getData().getLinks().getPersonsWithSignificantControl().getNotifications());
         }
 
+    @Test
+    void deleteCompanyPscsDeletesNonStalePscsAndEnqueuesDeletedEvents() {
+        PscDocument other = TestHelper.buildBasicDocument();
+        other.setId("otherNotificationId");
+        PscDocument stale = new PscDocument();
+        stale.setId("staleNotificationId");
+        when(repository.deleteAllIfNotStale(COMPANY_NUMBER, DELTA_AT)).thenReturn(List.of(pscDocument, other));
+        when(repository.findIdsByCompanyNumberAndDeltaAtAfter(COMPANY_NUMBER, DELTA_AT)).thenReturn(List.of(stale));
+        when(chsKafkaApiService.deletedData(pscDocument)).thenReturn(Map.of("etag", "first"));
+        when(chsKafkaApiService.deletedData(other)).thenReturn(Map.of("etag", "other"));
+
+        PscBulkDeleteResult actual = service.deleteCompanyPscs(COMPANY_NUMBER, "context_id", DELTA_AT);
+
+        assertEquals(new PscBulkDeleteResult(2, List.of("staleNotificationId")), actual);
+        assertEquals(1.0, staleDeltas(StaleDeltaMetrics.COMPANY_DELETE, "unknown"));
+        verify(companyPscCounter).record(List.of(Change.deleted(pscDocument), Change.deleted(other)));
+        verify(companyMetricsApiService).evictCompanyMetrics(COMPANY_NUMBER);
+        verify(resourceChangedOutbox).enqueueAll(eventsCaptor.capture());
+        List<ResourceChangedEvent> events = eventsCaptor.getValue();
+        assertEquals(2, events.size());
+        assertEquals(Map.of("etag", "first"), events.getFirst().getDeletedData());
+        assertEquals(Map.of("etag", "other"), events.get(1).getDeletedData());
+        assertEquals("otherNotificationId", events.get(1).getNotificationId());
+        events.forEach(event -> {
+            assertEquals("deleted", event.getEventType());
+            assertEquals(COMPANY_NUMBER, event.getCompanyNumber());
+            assertEquals(pscDocument.getData().getKind(), event.getKind());
+            assertEquals("context_id", event.getContextId());
+            assertEquals(DELTA_AT, event.getDeltaAt());
+        });
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    void deleteCompanyPscsEnqueuesNothingWhenNoPscIsDeleted() {
+        when(repository.deleteAllIfNotStale(COMPANY_NUMBER, DELTA_AT)).thenReturn(List.of());
+        when(repository.findIdsByCompanyNumberAndDeltaAtAfter(COMPANY_NUMBER, DELTA_AT)).thenReturn(List.of());
+
+        PscBulkDeleteResult actual = service.deleteCompanyPscs(COMPANY_NUMBER, "context_id", DELTA_AT);
+
+        assertEquals(new PscBulkDeleteResult(0, List.of()), actual);
+        verify(companyMetricsApiService, never()).evictCompanyMetrics(any());
+        verify(resourceChangedOutbox, never()).enqueueAll(any());
+    }
+
     @Test
     void deleteIndividualFullRecordThrowsConflictWhenDeltaAtCheckFails() {
         PscDocument document = new PscDocument();
@@ -294,15 +405,15 @@ class CompanyPscServiceTest {
                 STALE_DELTA_AT);
 
         assertThrows(ConflictException.class, () -> service.deletePsc(deleteRequest));
+        assertEquals(1.0, staleDeltas(StaleDeltaMetrics.DELETE, INDIVIDUAL_KIND));
 
         verify(repository).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
-        verify(chsKafkaApiService, never()).invokeChsKafkaApiWithDeleteEvent(any(), any());
+        verify(resourceChangedOutbox, never()).enqueue(any());
     }
 
     @Test
     void getIndividualPscReturns404WhenRegisterViewIsTrueAndEmptyMetrics() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
         when(companyMetricsApiService.getCompanyMetrics(COMPANY_NUMBER)).thenReturn(Optional.of(new MetricsApi()));
 
         assertThrows(NotFoundException.class,
@@ -311,8 +422,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getIndividualPscReturns404WhenRegisterViewIsTrueAndWrongRegisterMovedTo() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
         registers.setPersonsWithSignificantControl(new RegisterApi().registerMovedTo("wrong"));
@@ -325,8 +435,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getIndividualPscReturns404WhenRegisterViewIsTrueAndOnPublicRegisterAndNoMovedToDate() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
         registers.setPersonsWithSignificantControl(new RegisterApi().registerMovedTo("public-register"));
@@ -342,8 +451,7 @@ class CompanyPscServiceTest {
         PscData pscData = pscDocument.getData();
         pscData.setCeased(true);
         pscDocument.setData(pscData);
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -364,8 +472,7 @@ class CompanyPscServiceTest {
         pscData.setCeased(true);
         pscData.setCeasedOn(date.toLocalDate());
         pscDocument.setData(pscData);
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -386,8 +493,7 @@ class CompanyPscServiceTest {
         pscData.setCeased(true);
         pscData.setCeasedOn(date.toLocalDate());
         pscDocument.setData(pscData);
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -408,8 +514,7 @@ class CompanyPscServiceTest {
         pscData.setCeased(true);
         pscData.setCeasedOn(laterDate.toLocalDate());
         pscDocument.setData(pscData);
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -429,8 +534,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getIndividualPscReturn200WhenRegisterViewIsFalse() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
 
         Individual individual = new Individual();
         when(transformer.transformPscDocToIndividual(pscDocument, SHOW_FULL_DOB_FALSE)).thenReturn(individual);
@@ -441,8 +545,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getIndividualPscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class,
                 () -> service.getIndividualPsc(COMPANY_NUMBER, NOTIFICATION_ID, REGISTER_VIEW_FALSE));
@@ -455,8 +558,7 @@ class CompanyPscServiceTest {
         pscData.setCeasedOn(date.toLocalDate());
         pscData.setKind(TestHelper.INDIVIDUAL_BO_KIND);
         pscDocument.setData(pscData);
-        when(repository.findById(NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPscVersion(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -478,8 +580,7 @@ class CompanyPscServiceTest {
         pscData.setCeasedOn(laterDate.toLocalDate());
         pscData.setKind(TestHelper.INDIVIDUAL_BO_KIND);
         pscDocument.setData(pscData);
-        when(repository.findById(NOTIFICATION_ID))
-                .thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
 
         MetricsApi metrics = new MetricsApi();
         RegistersApi registers = new RegistersApi();
@@ -503,7 +604,7 @@ class CompanyPscServiceTest {
     void getIndividualBeneficialOwnerPscReturn200WhenRegisterViewIsFalse() {
         pscDocument.getData().setKind(TestHelper.INDIVIDUAL_BO_KIND);
         IndividualBeneficialOwner individualBeneficialOwner = new IndividualBeneficialOwner();
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToIndividualBeneficialOwner(pscDocument, SHOW_FULL_DOB_FALSE))
                 .thenReturn(individualBeneficialOwner);
 
@@ -515,7 +616,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getIndividualBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class,
                 () -> service.getIndividualBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID, REGISTER_VIEW_FALSE));
@@ -523,10 +624,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getWrongTypeIndividualBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class,
                 () -> service.getIndividualBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID, REGISTER_VIEW_FALSE));
@@ -537,7 +635,7 @@ class CompanyPscServiceTest {
         pscDocument.getData().setKind("corporate-entity-beneficial-owner");
         CorporateEntityBeneficialOwner corporateEntityBeneficialOwner =
                 new CorporateEntityBeneficialOwner();
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToCorporateEntityBeneficialOwner(pscDocument))
                 .thenReturn(corporateEntityBeneficialOwner);
 
@@ -549,7 +647,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getCorporateEntityBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class,
                 () -> service.getCorporateEntityBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -557,10 +655,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getWrongTypeCorporateBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class,
                 () -> service.getCorporateEntityBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -571,7 +666,7 @@ class CompanyPscServiceTest {
         pscDocument.getData().setKind("legal-person-person-with-significant-control");
         LegalPerson legalPerson =
                 new LegalPerson();
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToLegalPerson(pscDocument))
                 .thenReturn(legalPerson);
 
@@ -583,7 +678,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getLegalPersonPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
         assertThrows(NotFoundException.class, () -> service.getLegalPersonPsc(COMPANY_NUMBER, NOTIFICATION_ID));
     }
 
@@ -591,8 +686,7 @@ class CompanyPscServiceTest {
     void getSuperSecurePscReturn200() {
         pscDocument.getData().setKind("super-secure-person-with-significant-control");
         SuperSecure superSecure = new SuperSecure();
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(
-                Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToSuperSecure(pscDocument))
                 .thenReturn(superSecure);
 
@@ -604,17 +698,14 @@ class CompanyPscServiceTest {
 
     @Test
     void getSuperSecurePscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class, () -> service.getSuperSecurePsc(COMPANY_NUMBER, NOTIFICATION_ID));
     }
 
     @Test
     void getWrongTypeSuperSecurePscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class, () -> service.getSuperSecurePsc(COMPANY_NUMBER, NOTIFICATION_ID));
     }
@@ -623,8 +714,7 @@ class CompanyPscServiceTest {
     void getSuperSecureBeneficialOwnerPscReturn200() {
         pscDocument.getData().setKind("super-secure-beneficial-owner");
         SuperSecureBeneficialOwner superSecureBeneficialOwner = new SuperSecureBeneficialOwner();
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(
-                Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToSuperSecureBeneficialOwner(pscDocument))
                 .thenReturn(superSecureBeneficialOwner);
 
@@ -636,7 +726,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getSuperSecureBeneficialOwnerPscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class,
                 () -> service.getSuperSecureBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -644,10 +734,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getWrongTypeSuperSecureBeneficialOwnerPscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class,
                 () -> service.getSuperSecureBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -657,8 +744,7 @@ class CompanyPscServiceTest {
     void getCorporateEntityPscReturn200() {
         pscDocument.getData().setKind("corporate-entity-person-with-significant-control");
         CorporateEntity corporateEntity = new CorporateEntity();
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(
-                Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToCorporateEntity(pscDocument))
                 .thenReturn(corporateEntity);
 
@@ -669,8 +755,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getCorporateEntityPscReturn404() {
-        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
-                .thenReturn(Optional.empty());
+        givenNoStoredPsc();
 
         assertThrows(NotFoundException.class,
                 () -> service.getCorporateEntityPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -678,10 +763,7 @@ class CompanyPscServiceTest {
 
     @Test
     void getWrongTypeLegalPersonPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class, () -> service.getLegalPersonPsc(COMPANY_NUMBER, NOTIFICATION_ID));
     }
@@ -691,7 +773,7 @@ class CompanyPscServiceTest {
         pscDocument.getData().setKind("legal-person-beneficial-owner");
         LegalPersonBeneficialOwner legalPersonBeneficialOwner =
                 new LegalPersonBeneficialOwner();
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(pscDocument));
+        givenStoredPsc(pscDocument);
         when(transformer.transformPscDocToLegalPersonBeneficialOwner(pscDocument))
                 .thenReturn(legalPersonBeneficialOwner);
 
@@ -701,19 +783,56 @@ class CompanyPscServiceTest {
         assertEquals(legalPersonBeneficialOwner, result);
     }
 
+    @Test
+    void getCorporateEntityPscServesCachedResponseWhileEtagIsUnchanged() {
+        pscDocument.getData().setKind("corporate-entity-person-with-significant-control");
+        pscDocument.getData().setEtag("etag");
+        CorporateEntity corporateEntity = new CorporateEntity();
+        givenStoredPsc(pscDocument);
+        when(transformer.transformPscDocToCorporateEntity(pscDocument)).thenReturn(corporateEntity);
+
+        service.getCorporateEntityPsc(COMPANY_NUMBER, NOTIFICATION_ID);
+        CorporateEntity result = service.getCorporateEntityPsc(COMPANY_NUMBER, NOTIFICATION_ID);
+
+        assertEquals(corporateEntity, result);
+        verify(repository, times(2)).getPscVersionByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
+        verify(repository, times(1)).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
+        verify(transformer, times(1)).transformPscDocToCorporateEntity(pscDocument);
+    }
+
+    @Test
+    void getCorporateEntityPscReadsDocumentAgainWhenEtagChanges() {
+        pscDocument.getData().setKind("corporate-entity-person-with-significant-control");
+        pscDocument.getData().setEtag("etag");
+        PscDocument updated = TestHelper.buildBasicDocument();
+        updated.getData().setKind("corporate-entity-person-with-significant-control");
+        updated.getData().setEtag("updated etag");
+        CorporateEntity corporateEntity = new CorporateEntity();
+        CorporateEntity updatedCorporateEntity = new CorporateEntity();
+        when(repository.getPscVersionByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
+                .thenReturn(Optional.of(pscDocument), Optional.of(updated));
+        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
+                .thenReturn(Optional.of(pscDocument), Optional.of(updated));
+        when(transformer.transformPscDocToCorporateEntity(pscDocument)).thenReturn(corporateEntity);
+        when(transformer.transformPscDocToCorporateEntity(updated)).thenReturn(updatedCorporateEntity);
+
+        service.getCorporateEntityPsc(COMPANY_NUMBER, NOTIFICATION_ID);
+        CorporateEntity result = service.getCorporateEntityPsc(COMPANY_NUMBER, NOTIFICATION_ID);
+
+        assertEquals(updatedCorporateEntity, result);
+        verify(repository, times(2)).getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID);
+    }
+
     @Test
     void getLegalPersonBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.empty());
+        givenNoStoredPsc();
         assertThrows(NotFoundException.class,
                 () -> service.getLegalPersonBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
     }
 
     @Test
     void getWrongTypeLegalPersonBeneficialOwnerPscReturn404() {
-        when(repository.findById(NOTIFICATION_ID)
-                .filter(document -> document.getData().getKind()
-                        .equals("WRONG KIND")))
-                .thenReturn(Optional.empty());
+        givenStoredPscVersion(pscDocument);
 
         assertThrows(NotFoundException.class,
                 () -> service.getLegalPersonBeneficialOwnerPsc(COMPANY_NUMBER, NOTIFICATION_ID));
@@ -746,6 +865,87 @@ class CompanyPscServiceTest {
         verify(repository, times(1)).getPscDocumentList(COMPANY_NUMBER, 0, 25);
     }
 
+    @Test
+    void pscListReadsCountsFromMaterialisedCountsWhenEnabled() {
+        CompanyPscCounts counts = new CompanyPscCounts();
+        counts.setActive(3);
+        counts.setCeased(2);
+        when(featureFlags.isMaterialisedCountsEnabled()).thenReturn(true);
+        when(companyPscCounter.find(COMPANY_NUMBER)).thenReturn(Optional.of(counts));
+        when(repository.getPscDocumentList(COMPANY_NUMBER, 0, 25)).thenReturn(List.of(pscDocument));
+        when(transformer.transformPscDocToListSummary(pscDocument)).thenReturn(new ListSummary());
+
+        PscList pscList = service.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25);
+
+        assertEquals(3, pscList.getActiveCount());
+        assertEquals(2, pscList.getCeasedCount());
+        assertEquals(5, pscList.getTotalResults());
+        verify(companyMetricsApiService, never()).getCompanyMetrics(any());
+    }
+
+    @Test
+    void getPscEtagReadsEtagOfStoredVersion() {
+        pscDocument.getData().setEtag("etag");
+        givenStoredPscVersion(pscDocument);
+
+        assertEquals(Optional.of("etag"), service.getPscEtag(COMPANY_NUMBER, NOTIFICATION_ID, PscRoles.INDIVIDUAL_PSC));
+        assertEquals(Optional.empty(), service.getPscEtag(COMPANY_NUMBER, NOTIFICATION_ID, PscRoles.CORPORATE_PSC));
+        verify(repository, never()).getPscByCompanyNumberAndId(any(), any());
+    }
+
+    @Test
+    void pscListEtagMatchesEtagOfBuiltPage() {
+        MetricsApi metrics = new MetricsApi();
+        metrics.setCounts(new CountsApi().personsWithSignificantControl(
+                new PscApi().activePscsCount(1).ceasedPscsCount(0).pscsCount(1)));
+        pscDocument.getData().setEtag("etag");
+        ListSummary listSummary = new ListSummary();
+        listSummary.setEtag("etag");
+        when(companyMetricsApiService.getCachedCompanyMetrics(COMPANY_NUMBER)).thenReturn(Optional.of(metrics));
+        when(companyMetricsApiService.getCompanyMetrics(COMPANY_NUMBER)).thenReturn(Optional.of(metrics));
+        when(companyExemptionsApiService.getCachedHasActivePscExemptions(COMPANY_NUMBER)).thenReturn(Optional.of(true));
+        when(companyExemptionsApiService.hasActivePscExemptions(COMPANY_NUMBER)).thenReturn(true);
+        when(repository.getPscEtagList(COMPANY_NUMBER, 0, 25)).thenReturn(List.of(pscDocument));
+        when(repository.getPscDocumentList(COMPANY_NUMBER, 0, 25)).thenReturn(List.of(pscDocument));
+        when(transformer.transformPscDocToListSummary(pscDocument)).thenReturn(listSummary);
+
+        Optional<String> etag = service.getPscListEtag(COMPANY_NUMBER, 0, 25);
+
+        verify(transformer, never()).transformPscDocToListSummary(any());
+        verify(companyMetricsApiService, never()).getCompanyMetrics(any());
+        verify(companyExemptionsApiService, never()).hasActivePscExemptions(any());
+        assertEquals(Optional.of(CompanyPscService.pscListEtag(
+                service.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25))), etag);
+    }
+
+    @Test
+    void pscListEtagChangesWhenPscOnPageChanges() {
+        CompanyPscCounts counts = new CompanyPscCounts();
+        counts.setActive(1);
+        PscDocument updated = TestHelper.buildBasicDocument();
+        pscDocument.getData().setEtag("etag");
+        updated.getData().setEtag("updated etag");
+        when(featureFlags.isMaterialisedCountsEnabled()).thenReturn(true);
+        when(companyPscCounter.find(COMPANY_NUMBER)).thenReturn(Optional.of(counts));
+        when(companyExemptionsApiService.getCachedHasActivePscExemptions(COMPANY_NUMBER))
+                .thenReturn(Optional.of(false));
+        when(repository.getPscEtagList(COMPANY_NUMBER, 0, 25)).thenReturn(List.of(pscDocument), List.of(updated));
+
+        Optional<String> etag = service.getPscListEtag(COMPANY_NUMBER, 0, 25);
+
+        assertTrue(etag.isPresent());
+        assertNotEquals(etag, service.getPscListEtag(COMPANY_NUMBER, 0, 25));
+    }
+
+    @Test
+    void pscListEtagIsEmptyWhenCompanyMetricsAreNotCached() {
+        when(companyExemptionsApiService.getCachedHasActivePscExemptions(COMPANY_NUMBER)).thenReturn(Optional.of(true));
+        when(companyMetricsApiService.getCachedCompanyMetrics(COMPANY_NUMBER)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), service.getPscListEtag(COMPANY_NUMBER, 0, 25));
+        verify(repository, never()).getPscEtagList(any(), anyInt(), anyInt());
+    }
+
     @Test
     void pscListSummaryShouldNotShowDay() {
         MetricsApi metrics = new MetricsApi();
@@ -767,8 +967,8 @@ class CompanyPscServiceTest {
         listSummary.setDateOfBirth(dob);
 
         when(companyMetricsApiService.getCompanyMetrics(COMPANY_NUMBER)).thenReturn(Optional.of(metrics));
-        when(repository.getListSummaryRegisterView(any(), any(), any(), any())).thenReturn(
-                Collections.singletonList(pscDocument));
+        when(repository.getListSummaryRegisterViewPage(any(), anyInt(), any(), anyInt())).thenReturn(
+                new PscRegisterViewPage(Collections.singletonList(pscDocument), 1, 0));
         when(transformer.transformPscDocToListSummary(pscDocument)).thenReturn(listSummary);
 
         // when service method has registerView = true param set
@@ -871,10 +1071,41 @@ class CompanyPscServiceTest {
 
         String actualMessage = ex.getMessage();
         assertNotNull(actualMessage);
-        verify(repository, times(0)).getListSummaryRegisterView(COMPANY_NUMBER, 0,
+        verify(repository, times(0)).getListSummaryRegisterViewPage(COMPANY_NUMBER, 0,
                 OffsetDateTime.parse("2020-12-20T06:00Z"), 25);
     }
 
+    @Test
+    void pscListThrowsBadGatewayWhenCompanyMetricsTimesOut() {
+        when(downstreamTimeouts.getMetrics()).thenReturn(Duration.ofMillis(1));
+        CompanyPscService stalledService = new CompanyPscService(transformer, repository, resourceChangedOutbox,
+                chsKafkaApiService, companyPscCounter, pscResponseCache, companyExemptionsApiService, companyMetricsApiService,
+                featureFlags, task -> {}, downstreamTimeouts, staleDeltaMetrics, transactionRetry);
+
+        Executable executable = () -> stalledService.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25);
+
+        assertThrows(BadGatewayException.class, executable);
+    }
+
+    @Test
+    void pscListThrowsServiceUnavailableWhenMongoQueryTimesOut() {
+        when(downstreamTimeouts.getMongo()).thenReturn(Duration.ofMillis(1));
+        // metrics and exemptions are submitted first; the Mongo query is never run
+        AtomicInteger submitted = new AtomicInteger();
+        Executor skipMongoQuery = task -> {
+            if (submitted.incrementAndGet() < 3) {
+                task.run();
+            }
+        };
+        CompanyPscService stalledService = new CompanyPscService(transformer, repository, resourceChangedOutbox,
+                chsKafkaApiService, companyPscCounter, pscResponseCache, companyExemptionsApiService, companyMetricsApiService,
+                featureFlags, skipMongoQuery, downstreamTimeouts, staleDeltaMetrics, transactionRetry);
+
+        Executable executable = () -> stalledService.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25);
+
+        assertThrows(ServiceUnavailableException.class, executable);
+    }
+
     @Test
     void pscListReturnedByCompanyNumberFromRepositoryWithExemptions() throws NotFoundException {
         PscList expectedPscList = TestHelper.createPscListWithExemptions();
@@ -895,8 +1126,7 @@ class CompanyPscServiceTest {
                 Collections.singletonList(pscDocument));
         when(transformer.transformPscDocToListSummary(pscDocument))
                 .thenReturn(listSummary);
-        when(companyExemptionsApiService.getCompanyExemptions(any())).thenReturn(
-                Optional.ofNullable(testHelper.createExemptions()));
+        when(companyExemptionsApiService.hasActivePscExemptions(COMPANY_NUMBER)).thenReturn(true);
 
         PscList pscDocumentList = service.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25);
 
@@ -905,7 +1135,46 @@ class CompanyPscServiceTest {
     }
 
     @Test
-    void hasPscExemptionsReturnsTrueWhenTradingOnUkRegulatedMarket() {
+    void pscListPageReturnsContinuationTokenForLastPscWhenMorePscsFollow() {
+        PscDocument first = pscDocumentWithId("first");
+        PscDocument second = pscDocumentWithId("second");
+        PscDocument third = pscDocumentWithId("third");
+        second.getData().setNotifiedOn(LocalDate.of(2024, 1, 2));
+        PscListCursor after = new PscListCursor(LocalDate.of(2024, 3, 1), null, null, "previous");
+        when(repository.getPscDocumentListAfter(COMPANY_NUMBER, after, 3)).thenReturn(List.of(first, second, third));
+        when(transformer.transformPscDocToListSummary(any())).thenReturn(new ListSummary());
+
+        PscListPage page = service.retrievePscListSummaryPageFromDb(COMPANY_NUMBER, after.encode(), false, 2);
+
+        assertEquals(2, page.pscList().getItems().size());
+        assertEquals(PscListCursor.after(second), PscListCursor.decode(page.nextContinuationToken()));
+        verify(transformer, never()).transformPscDocToListSummary(third);
+    }
+
+    @Test
+    void pscListPageHasNoContinuationTokenOnLastPage() {
+        PscDocument only = pscDocumentWithId("only");
+        when(repository.getPscDocumentListAfter(COMPANY_NUMBER, null, 26)).thenReturn(List.of(only));
+        when(transformer.transformPscDocToListSummary(only)).thenReturn(new ListSummary());
+
+        PscListPage page = service.retrievePscListSummaryPageFromDb(COMPANY_NUMBER, "", false, 25);
+
+        assertEquals(1, page.pscList().getItems().size());
+        assertNull(page.nextContinuationToken());
+        verify(repository, never()).getPscDocumentList(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void pscListPageThrowsBadRequestForInvalidContinuationToken() {
+        Executable executable = () -> service.retrievePscListSummaryPageFromDb(COMPANY_NUMBER, "not a token!", false,
+                25);
+
+        assertThrows(BadRequestException.class, executable);
+        verify(repository, never()).getPscDocumentListAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void pscListHasExemptionsLinkWhenCompanyHasActivePscExemptions() {
         PscData pscData = new PscData();
         pscDocument.setData(pscData);
         ListSummary listSummary = new ListSummary();
@@ -920,13 +1189,7 @@ class CompanyPscServiceTest {
                 Collections.singletonList(pscDocument));
         when(transformer.transformPscDocToListSummary(pscDocument))
                 .thenReturn(listSummary);
-
-        CompanyExemptions companyExemptions = new CompanyExemptions();
-        Exemptions exemptions = new Exemptions();
-        exemptions.setPscExemptAsTradingOnUkRegulatedMarket(pscExemptAsTradingOnUkRegulatedMarketItem);
-        companyExemptions.setExemptions(testHelper.getUkExemptions());
-        when(companyExemptionsApiService.getCompanyExemptions(any())).thenReturn(
-                Optional.ofNullable(testHelper.createExemptions()));
+        when(companyExemptionsApiService.hasActivePscExemptions(COMPANY_NUMBER)).thenReturn(true);
 
         PscList pscDocumentList = service.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, false, 25);
 
@@ -984,8 +1247,8 @@ class CompanyPscServiceTest {
                 .activeCount(1);
 
         when(companyMetricsApiService.getCompanyMetrics(anyString())).thenReturn(Optional.of(metricsApi));
-        when(repository.getListSummaryRegisterView(any(), any(), any(), any())).thenReturn(
-                Collections.singletonList(pscDocument));
+        when(repository.getListSummaryRegisterViewPage(any(), anyInt(), any(), anyInt())).thenReturn(
+                new PscRegisterViewPage(Collections.singletonList(pscDocument), 1, 0));
         when(transformer.transformPscDocToListSummary(any())).thenReturn(new ListSummary());
 
         // when
@@ -995,9 +1258,60 @@ class CompanyPscServiceTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void shouldCountWholeRegisterViewRatherThanPage() {
+        // given
+        MetricsApi metricsApi = new MetricsApi().counts(
+                new CountsApi().personsWithSignificantControl(
+                        new PscApi().activePscsCount(10).ceasedPscsCount(10).pscsCount(20))).registers(
+                new RegistersApi().personsWithSignificantControl(
+                        new RegisterApi().registerMovedTo("public-register")));
+        PscDocument ceased = pscDocumentWithId("ceased");
+        ceased.getData().setCeasedOn(LocalDate.of(2024, 1, 1));
+
+        when(companyMetricsApiService.getCompanyMetrics(anyString())).thenReturn(Optional.of(metricsApi));
+        when(repository.getListSummaryRegisterViewPage(COMPANY_NUMBER, 0, null, 1)).thenReturn(
+                new PscRegisterViewPage(List.of(ceased), 3, 2));
+        when(transformer.transformPscDocToListSummary(any())).thenReturn(new ListSummary());
+
+        // when
+        final PscList actual = service.retrievePscListSummaryFromDb(COMPANY_NUMBER, 0, true, 1);
+
+        // then
+        assertEquals(3, actual.getActiveCount());
+        assertEquals(2, actual.getCeasedCount());
+        assertEquals(5, actual.getTotalResults());
+    }
+
+    @Test
+    void registerViewPageKeepsCountsWhenTrimmedToContinuationTokenPage() {
+        // given
+        MetricsApi metricsApi = new MetricsApi().registers(
+                new RegistersApi().personsWithSignificantControl(
+                        new RegisterApi().registerMovedTo("public-register")));
+        PscDocument first = pscDocumentWithId("first");
+        PscDocument second = pscDocumentWithId("second");
+
+        when(companyMetricsApiService.getCompanyMetrics(anyString())).thenReturn(Optional.of(metricsApi));
+        when(repository.getListSummaryRegisterViewPageAfter(COMPANY_NUMBER, null, null, 2)).thenReturn(
+                new PscRegisterViewPage(List.of(first, second), 4, 1));
+        when(transformer.transformPscDocToListSummary(first)).thenReturn(new ListSummary());
+
+        // when
+        final PscListPage page = service.retrievePscListSummaryPageFromDb(COMPANY_NUMBER, "", true, 1);
+
+        // then
+        assertEquals(1, page.pscList().getItems().size());
+        assertEquals(PscListCursor.after(first), PscListCursor.decode(page.nextContinuationToken()));
+        assertEquals(4, page.pscList().getActiveCount());
+        assertEquals(1, page.pscList().getCeasedCount());
+        assertEquals(5, page.pscList().getTotalResults());
+        verify(transformer, never()).transformPscDocToListSummary(second);
+    }
+
     @ParameterizedTest
     @MethodSource("nullCompanyMetricsPscDataArgs")
-    void shouldTestIfCompanyMetricsPscDataIsNull(MetricsApi metricsApi) {
+    void shouldCountRegisterViewWhenCompanyMetricsPscDataIsNull(MetricsApi metricsApi) {
         // given
         Links links = new Links();
         links.setSelf("/company/%s/persons-with-significant-control".formatted(COMPANY_NUMBER));
@@ -1006,11 +1320,14 @@ class CompanyPscServiceTest {
                 .itemsPerPage(25)
                 .links(links)
                 .startIndex(0)
-                .items(List.of(new ListSummary()));
+                .items(List.of(new ListSummary()))
+                .ceasedCount(0)
+                .totalResults(1)
+                .activeCount(1);
 
         when(companyMetricsApiService.getCompanyMetrics(anyString())).thenReturn(Optional.of(metricsApi));
-        when(repository.getListSummaryRegisterView(any(), any(), any(), any())).thenReturn(
-                Collections.singletonList(pscDocument));
+        when(repository.getListSummaryRegisterViewPage(any(), anyInt(), any(), anyInt())).thenReturn(
+                new PscRegisterViewPage(Collections.singletonList(pscDocument), 1, 0));
         when(transformer.transformPscDocToListSummary(any())).thenReturn(new ListSummary());
 
         // when
@@ -1032,4 +1349,30 @@ class CompanyPscServiceTest {
                                         new RegisterApi().registerMovedTo("public-register")))))
         );
     }
+
+    private void givenStoredPsc(PscDocument document) {
+        givenStoredPscVersion(document);
+        when(repository.getPscByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID)).thenReturn(Optional.of(document));
+    }
+
+    private void givenStoredPscVersion(PscDocument document) {
+        when(repository.getPscVersionByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
+                .thenReturn(Optional.of(document));
+    }
+
+    private void givenNoStoredPsc() {
+        when(repository.getPscVersionByCompanyNumberAndId(COMPANY_NUMBER, NOTIFICATION_ID))
+                .thenReturn(Optional.empty());
+    }
+
+    private static PscDocument pscDocumentWithId(String id) {
+        PscDocument document = new PscDocument();
+        document.setId(id);
+        document.setData(new PscData());
+        return document;
+    }
+
+    private double staleDeltas(String operation, String kind) {
+        return meterRegistry.get("psc.stale_deltas").tag("operation", operation).tag("kind", kind).counter().count();
+    }
 }
@@ -0,0 +1,100 @@
+package uk.gov.companieshouse.pscdataapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.companieshouse.api.psc.ListSummary;
+import uk.gov.companieshouse.pscdataapi.models.PscDocument;
+import uk.gov.companieshouse.pscdataapi.repository.CompanyPscRepository;
+import uk.gov.companieshouse.pscdataapi.transform.CompanyPscTransformer;
+
+@ExtendWith(MockitoExtension.class)
+class PscExportServiceTest {
+
+    private static final String COMPANY_NUMBER = "12345678";
+    private static final int BATCH_SIZE = 50;
+
+    @Mock
+    private CompanyPscRepository repository;
+    @Mock
+    private CompanyPscTransformer transformer;
+
+    private PscExportService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        service = new PscExportService(repository, transformer, objectMapper, BATCH_SIZE);
+    }
+
+    @Test
+    void shouldWriteOneLinePerPscAndCloseCursor() throws IOException {
+        PscDocument first = new PscDocument();
+        PscDocument second = new PscDocument();
+        first.setId("first");
+        second.setId("second");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamPscs(COMPANY_NUMBER, BATCH_SIZE))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(transformer.transformPscDocToListSummary(first)).thenReturn(listSummary("first"));
+        when(transformer.transformPscDocToListSummary(second)).thenReturn(listSummary("second"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportPscs(COMPANY_NUMBER, out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"first\""));
+        assertTrue(lines[1].contains("\"name\":\"second\""));
+        assertEquals("", lines[2]);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void shouldWriteNothingWhenNoPscs() throws IOException {
+        when(repository.streamPscs(null, BATCH_SIZE)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.exportPscs(null, out);
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void shouldNotCloseTargetStream() throws IOException {
+        when(repository.streamPscs(COMPANY_NUMBER, BATCH_SIZE)).thenReturn(Stream.empty());
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        service.exportPscs(COMPANY_NUMBER, out);
+
+        assertFalse(closed.get());
+    }
+
+    private static ListSummary listSummary(String name) {
+        ListSummary listSummary = new ListSummary();
+        listSummary.setName(name);
+        return listSummary;
+    }
+}